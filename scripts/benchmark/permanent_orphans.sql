@@ -0,0 +1,125 @@
+-- =============================================
+-- 영구 고아 이미지 조회 벤치마크 (MySQL 8.0.18+, EXPLAIN ANALYZE)
+-- - 이미지 1,000,000개: 영구(expires_at NULL) 90%, 프로필 연결 10만, 게시글 연결 50만
+-- - 기존: 상관 NOT EXISTS 2개 + 전체 결과 1회 조회
+-- - 구간: image_id 구간(10000) 단위 LEFT JOIN anti-join
+-- - 현재: 참조 카운트 (ref_count = 0 AND released_at < ?) 인덱스 범위 조회 (ImageRepository.findReleasedChunk)
+-- 실행: 빈 벤치마크 DB에 DDL 적용 후 `mysql -u root -p community_bench < scripts/benchmark/permanent_orphans.sql`
+-- =============================================
+
+SET FOREIGN_KEY_CHECKS = 0;
+SET SESSION cte_max_recursion_depth = 1000000;
+
+-- 1. 이미지 1M (8일 전 생성 → 7일 안전 마진 통과)
+INSERT INTO images (image_id, image_url, file_size, original_filename, created_at, expires_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000
+)
+SELECT n,
+       CONCAT('https://bench.s3.ap-northeast-2.amazonaws.com/images/', n, '.jpg'),
+       1024,
+       CONCAT(n, '.jpg'),
+       NOW() - INTERVAL 8 DAY,
+       IF(n % 10 = 0, NOW() + INTERVAL 1 HOUR, NULL)
+FROM seq;
+
+-- 2. 사용자 10만 (image_id = 1..100000 중 10의 배수 아닌 값을 프로필로 사용)
+INSERT INTO users (user_id, email, password_hash, nickname, created_at, updated_at, image_id)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000
+)
+SELECT n, CONCAT('bench', n, '@test.com'), 'hash', CONCAT('b', n), NOW(), NOW(),
+       IF(n % 10 = 0, NULL, n)
+FROM seq;
+
+-- 3. 게시글 10만 × 이미지 5개 = post_images 50만 (image_id 200001..700000)
+INSERT INTO posts (post_id, post_title, post_content, user_id, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000
+)
+SELECT n, 'bench', 'bench', n, NOW(), NOW() FROM seq;
+
+INSERT INTO post_images (post_id, image_id, display_order)
+WITH RECURSIVE seq (n) AS (
+    SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 499999
+)
+SELECT (n DIV 5) + 1, 200001 + n, (n % 5) + 1 FROM seq;
+
+SET FOREIGN_KEY_CHECKS = 1;
+ANALYZE TABLE images, users, posts, post_images;
+
+-- 4-1. 기존 쿼리 (전체 결과 1회)
+EXPLAIN ANALYZE
+SELECT i.image_id, i.image_url
+FROM images i
+WHERE i.expires_at IS NULL
+  AND i.created_at < NOW() - INTERVAL 7 DAY
+  AND NOT EXISTS (SELECT 1 FROM users u WHERE u.image_id = i.image_id)
+  AND NOT EXISTS (SELECT 1 FROM post_images pi WHERE pi.image_id = i.image_id);
+
+-- 4-2. 변경 쿼리 (구간 1개)
+EXPLAIN ANALYZE
+SELECT i.image_id, i.image_url
+FROM images i
+LEFT JOIN users u ON u.image_id = i.image_id
+LEFT JOIN post_images pi ON pi.image_id = i.image_id
+WHERE i.image_id >= 500001 AND i.image_id < 510001
+  AND i.expires_at IS NULL
+  AND i.created_at < NOW() - INTERVAL 7 DAY
+  AND u.user_id IS NULL
+  AND pi.image_id IS NULL
+ORDER BY i.image_id;
+
+-- 4-3. 변경 쿼리 전체 구간 순회 (배치와 동일한 100회 호출)
+DROP PROCEDURE IF EXISTS bench_orphan_ranges;
+DELIMITER //
+CREATE PROCEDURE bench_orphan_ranges(IN range_size BIGINT)
+BEGIN
+    DECLARE from_id BIGINT DEFAULT 1;
+    DECLARE max_id BIGINT;
+    DECLARE total BIGINT DEFAULT 0;
+    DECLARE started DATETIME(6) DEFAULT NOW(6);
+    SELECT MAX(image_id) INTO max_id FROM images;
+    WHILE from_id <= max_id DO
+        SELECT total + COUNT(*) INTO total
+        FROM images i
+        LEFT JOIN users u ON u.image_id = i.image_id
+        LEFT JOIN post_images pi ON pi.image_id = i.image_id
+        WHERE i.image_id >= from_id AND i.image_id < from_id + range_size
+          AND i.expires_at IS NULL
+          AND i.created_at < NOW() - INTERVAL 7 DAY
+          AND u.user_id IS NULL
+          AND pi.image_id IS NULL;
+        SET from_id = from_id + range_size;
+    END WHILE;
+    SELECT total AS orphans, TIMESTAMPDIFF(MICROSECOND, started, NOW(6)) / 1000 AS elapsed_ms;
+END //
+DELIMITER ;
+
+CALL bench_orphan_ranges(10000);
+
+-- 예상 고아 수: 영구 900,000 - 프로필 90,000 - 게시글 450,000 = 360,000
+
+-- 5. 참조 카운트 방식 (DDL.md 참조 카운트 마이그레이션과 동일하게 ref_count / released_at 채움)
+UPDATE images i
+SET i.ref_count = (SELECT COUNT(*) FROM users u WHERE u.image_id = i.image_id)
+                + (SELECT COUNT(*) FROM post_images pi WHERE pi.image_id = i.image_id);
+
+UPDATE images
+SET released_at = COALESCE(expires_at - INTERVAL 1 HOUR, created_at)
+WHERE ref_count = 0;
+
+ANALYZE TABLE images;
+
+-- 5-1. 정리 배치 청크 조회 (청크 1000)
+EXPLAIN ANALYZE
+SELECT i.image_id, i.image_url, i.released_at
+FROM images i
+WHERE i.ref_count = 0 AND i.released_at < NOW() - INTERVAL 1 HOUR
+ORDER BY i.released_at, i.image_id
+LIMIT 1000;
+
+-- 5-2. 대상 수 (예상: 고아 360,000, 만료 예정 업로드는 released_at이 미래라 제외)
+SELECT COUNT(*) AS releasable
+FROM images
+WHERE ref_count = 0 AND released_at < NOW() - INTERVAL 1 HOUR;
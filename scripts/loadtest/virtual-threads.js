@@ -0,0 +1,67 @@
+// Virtual Thread 모드 부하 테스트 (k6)
+//
+// 플랫폼 스레드 모드와 Virtual Thread 모드를 같은 메모리 제한(docker-compose mem_limit: 1g)에서
+// 동일 시나리오로 실행해 처리량(http_reqs/s), 지연(p95), 실패율을 비교한다.
+//
+// 실행:
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=user1@test.com -e PASSWORD='Test1234!' \
+//          scripts/loadtest/virtual-threads.js
+//
+// 자세한 절차는 scripts/loadtest/README.md 참조
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.EMAIL || 'user1@test.com';
+const PASSWORD = __ENV.PASSWORD || 'Test1234!';
+const POST_MAX_ID = Number(__ENV.POST_MAX_ID || 3000);
+
+const listLatency = new Trend('post_list_latency', true);
+const detailLatency = new Trend('post_detail_latency', true);
+
+export const options = {
+    scenarios: {
+        // 동시 사용자 단계적 증가 → 스레드 모델 한계 지점 확인
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 800 },
+                { duration: '1m', target: 1500 },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<1000'],
+    },
+};
+
+// 테스트 시작 시 1회 로그인 → 모든 VU가 같은 Access Token 사용
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return { token: res.json('data.accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    // 게시글 목록 (DB 조회)
+    const list = http.get(`${BASE_URL}/posts?limit=10`, params);
+    listLatency.add(list.timings.duration);
+    check(list, { 'list 200': (r) => r.status === 200 });
+
+    // 게시글 상세 (DB 조회 + 조회수 증가)
+    const postId = Math.floor(Math.random() * POST_MAX_ID) + 1;
+    const detail = http.get(`${BASE_URL}/posts/${postId}`, params);
+    detailLatency.add(detail.timings.duration);
+    check(detail, { 'detail 200/404': (r) => r.status === 200 || r.status === 404 });
+}
@@ -0,0 +1,114 @@
+package com.ktb.community.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커넥션 획득 동시성 가드 (Virtual Thread 모드)
+ * - Virtual Thread는 요청 수만큼 생성되므로 수천 개가 동시에 커넥션 풀에 몰릴 수 있음
+ * - 풀 크기만큼의 permit으로 획득을 제한하고, 대기자 수 상한 초과 시 즉시 실패
+ * - 대기는 Semaphore(공정)에서 수행 → Virtual Thread는 캐리어를 점유하지 않고 park
+ *
+ * 실패 시 SQLTransientConnectionException → GlobalExceptionHandler에서 503 응답
+ * (풀 내부 connection-timeout까지 전부 대기하다 일괄 실패하는 상황 방지)
+ */
+@Slf4j
+public class ConnectionGuardDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxWaiters;
+    private final long acquireTimeoutMillis;
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public ConnectionGuardDataSource(DataSource target, int maxConnections, int maxWaiters, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaiters = maxWaiters;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 대기 중인 스레드 수 (모니터링용)
+     */
+    public int getWaiters() {
+        return waiters.get();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        if (waiters.incrementAndGet() > maxWaiters) {
+            waiters.decrementAndGet();
+            log.warn("[ConnectionGuard] 커넥션 대기자 상한 초과: maxWaiters={}", maxWaiters);
+            throw new SQLTransientConnectionException("Connection wait queue is full");
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("[ConnectionGuard] 커넥션 대기 시간 초과: {}ms", acquireTimeoutMillis);
+                throw new SQLTransientConnectionException("Connection acquire timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for connection", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * close() 시 permit 반환 (중복 close에도 1회만 반환)
+     */
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 Rate Limit 저장소 (rate-limit.store=memory, 기본값)
+ * - 인스턴스별 독립 카운터 (N대 배포 시 클라이언트당 최대 N배 허용)
+ *
+ * 메트릭:
+ * - cache.size / cache.evictions 등 (cache=rate-limit-buckets, Caffeine 통계)
+ * - rate.limit.buckets.max: 최대 Bucket 수 (cache.size와 비교하여 용량 부족 판단)
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    /**
+     * 클라이언트별 Bucket 캐시 (Caffeine)
+     * - 자동 만료: 10분 미사용 시 삭제
+     * - 최대 크기: 10,000개
+     * - Key: ClientKey (엔드포인트 인덱스 + IP 128bit + userId)
+     * - Value: Bucket4j Bucket
+     */
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final Cache<RateLimiter.ClientKey, Bucket> buckets = Caffeine.newBuilder()
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .maximumSize(MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    public InMemoryRateLimitStore(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit-buckets");
+        Gauge.builder("rate.limit.buckets.max", () -> MAXIMUM_SIZE).register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryConsume(RateLimiter.Endpoint endpoint, RateLimiter.ClientKey clientKey) {
+        // 클라이언트별 Bucket 생성 또는 가져오기
+        Bucket bucket = buckets.get(clientKey, endpoint.bucketFactory());
+        return bucket.tryConsume(1);
+    }
+}
@@ -0,0 +1,209 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 공유 Rate Limit 저장소 (rate-limit.store=jdbc)
+ * - rate_limit_buckets 테이블에 클라이언트별 토큰 수 저장 → 모든 인스턴스가 같은 Bucket 사용
+ * - 갱신은 version 컬럼 CAS (SELECT → UPDATE ... WHERE version = ?), 충돌 시 재시도
+ * - 로컬 토큰 선취: 한 번에 여러 토큰을 가져와 로컬에서 소비 → 매 요청 DB 호출 없음
+ * - 거절 결과도 윈도우 종료까지 로컬 캐싱 (초과 클라이언트의 DB 부하 차단)
+ * - 클라이언트 단위 ReentrantLock (synchronized 안에서 DB 조회 시 Virtual Thread 캐리어 고정)
+ *
+ * Refill 정책: Bucket4j Refill.intervally와 동일 (1분마다 용량 전체 충전)
+ *
+ * 정확도:
+ * - 선취 토큰은 이미 DB에서 차감된 값이므로 클러스터 전체 허용량은 제한값을 넘지 않음
+ * - 선취 크기는 제한값의 1/20 이하 (로그인 5회/분 등 낮은 제한은 1개씩 → 정확 제한)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    static final long WINDOW_MILLIS = 60_000L;
+    private static final int MAX_CAS_ATTEMPTS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 최대 선취 토큰 수
+     */
+    @Value("${rate-limit.jdbc.prefetch:10}")
+    private int maxPrefetch = 10;
+
+    /**
+     * 로컬 선취 토큰 캐시
+     * - Key: ClientKey
+     * - Value: 남은 토큰 + 유효 기간 (DB 윈도우 종료 시각)
+     */
+    private final Cache<RateLimiter.ClientKey, LocalAllowance> allowances = Caffeine.newBuilder()
+        .expireAfterAccess(2, TimeUnit.MINUTES)
+        .maximumSize(10_000)
+        .build();
+
+    /**
+     * 로컬 선취 상태 (클라이언트 단위 ReentrantLock)
+     */
+    private static final class LocalAllowance {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long tokens;
+        private long validUntil;
+        private boolean denied;
+    }
+
+    /**
+     * DB 조회 결과
+     */
+    private record BucketRow(long tokens, long refilledAt, long version) {}
+
+    /**
+     * DB에서 획득한 토큰
+     *
+     * @param tokens 획득한 토큰 수 (0: 제한 초과)
+     * @param windowEnd 현재 윈도우 종료 시각 (epoch millis)
+     */
+    record Grant(long tokens, long windowEnd) {}
+
+    @Override
+    public boolean tryConsume(RateLimiter.Endpoint endpoint, RateLimiter.ClientKey clientKey) {
+        LocalAllowance allowance = allowances.get(clientKey, key -> new LocalAllowance());
+
+        allowance.lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now < allowance.validUntil) {
+                if (allowance.tokens > 0) {
+                    allowance.tokens--;
+                    return true;
+                }
+                if (allowance.denied) {
+                    return false;
+                }
+            }
+
+            Grant grant;
+            try {
+                grant = acquire(bucketKey(endpoint, clientKey), endpoint.requestsPerMinute(),
+                        prefetchSize(endpoint.requestsPerMinute()), now);
+            } catch (DataAccessException e) {
+                // 저장소 장애 시 요청 차단보다 가용성 우선 (fail-open)
+                log.warn("[RateLimit] 공유 저장소 조회 실패 - 요청 허용: {}", e.getMessage());
+                return true;
+            }
+
+            allowance.validUntil = grant.windowEnd();
+            allowance.denied = grant.tokens() == 0;
+            allowance.tokens = allowance.denied ? 0 : grant.tokens() - 1;
+            return !allowance.denied;
+        } finally {
+            allowance.lock.unlock();
+        }
+    }
+
+    /**
+     * 공유 Bucket에서 토큰 획득 (CAS)
+     *
+     * @param bucketKey 노드 간 공통 Bucket 키
+     * @param capacity 분당 허용 요청 수
+     * @param requested 획득 희망 토큰 수
+     * @param now 현재 시각 (epoch millis)
+     * @return 획득 결과
+     */
+    Grant acquire(String bucketKey, long capacity, long requested, long now) {
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            List<BucketRow> rows = jdbcTemplate.query(
+                    "SELECT tokens, refilled_at, version FROM rate_limit_buckets WHERE bucket_key = ?",
+                    (rs, rowNum) -> new BucketRow(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                    bucketKey);
+
+            if (rows.isEmpty()) {
+                long granted = Math.min(requested, capacity);
+                try {
+                    jdbcTemplate.update(
+                            "INSERT INTO rate_limit_buckets (bucket_key, tokens, refilled_at, version) VALUES (?, ?, ?, 0)",
+                            bucketKey, capacity - granted, now);
+                    return new Grant(granted, now + WINDOW_MILLIS);
+                } catch (DuplicateKeyException e) {
+                    continue;  // 다른 노드가 먼저 생성 → 재조회
+                }
+            }
+
+            BucketRow row = rows.get(0);
+            long tokens = row.tokens();
+            long refilledAt = row.refilledAt();
+
+            // Refill.intervally: 경과한 윈도우 수만큼 refilledAt 이동 후 용량 전체 충전
+            long elapsedWindows = (now - refilledAt) / WINDOW_MILLIS;
+            if (elapsedWindows > 0) {
+                tokens = capacity;
+                refilledAt += elapsedWindows * WINDOW_MILLIS;
+            }
+
+            long granted = Math.min(requested, tokens);
+            long windowEnd = refilledAt + WINDOW_MILLIS;
+            if (granted == 0 && elapsedWindows == 0) {
+                return new Grant(0, windowEnd);  // 변경 없음 → UPDATE 생략
+            }
+
+            int updated = jdbcTemplate.update(
+                    "UPDATE rate_limit_buckets SET tokens = ?, refilled_at = ?, version = version + 1 "
+                            + "WHERE bucket_key = ? AND version = ?",
+                    tokens - granted, refilledAt, bucketKey, row.version());
+            if (updated == 1) {
+                return new Grant(granted, windowEnd);
+            }
+        }
+
+        log.warn("[RateLimit] CAS 재시도 초과 - 요청 거절: {}", bucketKey);
+        return new Grant(0, now);
+    }
+
+    /**
+     * 선취 크기 (제한값의 1/20, 최소 1 ~ 최대 rate-limit.jdbc.prefetch)
+     */
+    long prefetchSize(int requestsPerMinute) {
+        return Math.max(1, Math.min(maxPrefetch, requestsPerMinute / 20));
+    }
+
+    /**
+     * 노드 간 공통 Bucket 키
+     * - 엔드포인트 인덱스는 JVM마다 다를 수 있으므로 FQCN.methodName 사용
+     * - DB 조회 시에만 생성 (선취 토큰 소비 시 문자열 조합 없음)
+     */
+    static String bucketKey(RateLimiter.Endpoint endpoint, RateLimiter.ClientKey clientKey) {
+        return endpoint.name()
+                + ':' + Long.toHexString(clientKey.ipHigh())
+                + ':' + Long.toHexString(clientKey.ipLow())
+                + ':' + clientKey.userId();
+    }
+
+    /**
+     * 오래된 Bucket 행 정리 (10분마다)
+     * - 1시간 이상 갱신 없는 행 삭제 (다음 요청 시 용량 전체로 재생성되므로 결과 동일)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void purgeIdleBuckets() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM rate_limit_buckets WHERE refilled_at < ?",
+                System.currentTimeMillis() - 60 * WINDOW_MILLIS);
+        if (deleted > 0) {
+            log.info("[RateLimit] 미사용 Bucket 정리: {}건", deleted);
+        }
+    }
+}
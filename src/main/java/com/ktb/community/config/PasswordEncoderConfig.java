@@ -1,5 +1,8 @@
 package com.ktb.community.config;
 
+import com.ktb.community.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,13 +11,29 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 /**
  * PasswordEncoder Bean 설정
  * - SecurityConfig 주석처리 후 별도 Config로 분리
- * - AuthService에서 사용
+ * - AuthService, UserService에서 사용
+ * - BCrypt 해시는 전용 워커 풀에서 실행 (Tomcat 스레드 고갈 방지)
  */
 @Configuration
 public class PasswordEncoderConfig {
 
+    @Value("${password.hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int poolSize;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${password.hashing.wait-timeout-ms:3000}")
+    private long waitTimeoutMillis;
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                poolSize,
+                queueCapacity,
+                waitTimeoutMillis,
+                meterRegistry
+        );
     }
 }
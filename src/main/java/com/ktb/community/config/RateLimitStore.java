@@ -0,0 +1,20 @@
+package com.ktb.community.config;
+
+/**
+ * Rate Limit Bucket 저장소 SPI
+ * - memory: 인스턴스별 Caffeine + Bucket4j (기본값)
+ * - jdbc: DB 공유 Bucket (클러스터 전체 제한, 로컬 토큰 선취)
+ *
+ * 선택: rate-limit.store 프로퍼티
+ */
+public interface RateLimitStore {
+
+    /**
+     * 클라이언트 Bucket에서 토큰 1개 소비
+     *
+     * @param endpoint 엔드포인트 메타데이터 (제한값)
+     * @param clientKey 클라이언트 식별 키
+     * @return 소비 성공 여부 (false: 제한 초과)
+     */
+    boolean tryConsume(RateLimiter.Endpoint endpoint, RateLimiter.ClientKey clientKey);
+}
@@ -0,0 +1,356 @@
+package com.ktb.community.config;
+
+import com.ktb.community.dto.response.RateLimitHotKeyResponse;
+import com.ktb.community.util.SpaceSavingSketch;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Rate Limit 공통 처리기
+ * RateLimitAspect(aspect 모드)와 RateLimitFilter(filter 모드)가 공유
+ *
+ * - Bucket4j 사용 (Token Bucket 알고리즘)
+ * - IP + 사용자ID 기반 제한
+ * - Bucket 저장소는 RateLimitStore로 분리 (rate-limit.store: memory | jdbc)
+ * - 엔드포인트 메타데이터는 기동 시 1회 계산 후 캐싱 (요청마다 문자열 조합 없음)
+ *
+ * 메트릭:
+ * - rate.limit.requests: 엔드포인트별 허용/거절 수 (endpoint, outcome=allowed|rejected)
+ * - 거절 상위 클라이언트 키: Space-Saving 스케치로 1분마다 집계 (GET /admin/rate-limit/hot-keys)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    /**
+     * Hot Key 스케치 슬롯 수 / 보고 개수
+     */
+    private static final int HOT_KEY_CAPACITY = 256;
+    private static final int HOT_KEY_REPORT_SIZE = 20;
+
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 비인증 요청의 userId 자리값
+     * (Guest Token은 userId=0을 사용하므로 음수로 구분)
+     */
+    static final long ANONYMOUS_USER = -1L;
+
+    /**
+     * 엔드포인트별 메타데이터 캐시
+     * - Key: @RateLimit 메서드
+     * - Value: 인덱스, 이름, 제한값, Bucket 생성 함수
+     */
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger endpointSequence = new AtomicInteger();
+
+    /**
+     * 거절된 클라이언트 키 빈도 (Space-Saving, 1분 단위 집계 후 초기화)
+     */
+    private final SpaceSavingSketch<ClientKey> throttledKeys = new SpaceSavingSketch<>(HOT_KEY_CAPACITY);
+
+    /**
+     * 직전 집계 주기의 거절 상위 키 (관리자 API 조회용)
+     */
+    private volatile List<RateLimitHotKeyResponse> hotKeys = List.of();
+
+    /**
+     * 엔드포인트 메타데이터
+     *
+     * @param index 엔드포인트 인덱스 (ClientKey에 사용)
+     * @param name FQCN.methodName (로그용, 노드 간 공유 저장소 키)
+     * @param requestsPerMinute 분당 허용 요청 수
+     * @param bucketFactory 인메모리 Bucket 생성 함수 (요청마다 람다 생성 방지)
+     * @param allowed 허용 카운터 (rate.limit.requests, outcome=allowed)
+     * @param rejected 거절 카운터 (rate.limit.requests, outcome=rejected)
+     */
+    public record Endpoint(int index, String name, int requestsPerMinute, Function<ClientKey, Bucket> bucketFactory,
+                           Counter allowed, Counter rejected) {}
+
+    /**
+     * 클라이언트 식별 키 (복합 레코드)
+     * - 문자열 조합 없이 primitive 필드로 hashCode/equals 계산
+     * - IPv4: ipLow에 IPv4-mapped 형식 저장 (::ffff:a.b.c.d)
+     * - 그 외(IPv6 등): 주소 문자열의 128bit 해시
+     *
+     * @param endpoint 엔드포인트 인덱스
+     * @param ipHigh IP 상위 64bit
+     * @param ipLow IP 하위 64bit
+     * @param userId 사용자 ID (비인증: -1)
+     */
+    public record ClientKey(int endpoint, long ipHigh, long ipLow, long userId) {}
+
+    /**
+     * 기동 시 @RateLimit 핸들러 메서드 메타데이터 사전 등록
+     * - 등록되지 않은 메서드는 첫 호출 시 1회 등록
+     */
+    @EventListener
+    public void registerEndpoints(ContextRefreshedEvent event) {
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(handlerMethod -> {
+                    Method method = handlerMethod.getMethod();
+                    RateLimit rateLimit = AnnotatedElementUtils.findMergedAnnotation(method, RateLimit.class);
+                    if (rateLimit != null) {
+                        resolveEndpoint(method, rateLimit);
+                    }
+                }));
+        log.info("[RateLimit] 엔드포인트 메타데이터 등록 완료: {}개", endpoints.size());
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     *
+     * @param endpoint 엔드포인트 메타데이터
+     * @param request HTTP 요청
+     * @return 허용 여부 (false: 제한 초과)
+     */
+    public boolean tryAcquire(Endpoint endpoint, HttpServletRequest request) {
+        ClientKey clientKey = getClientKey(endpoint, request);
+
+        // 토큰 획득 시도
+        if (!rateLimitStore.tryConsume(endpoint, clientKey)) {
+            endpoint.rejected().increment();
+            throttledKeys.offer(clientKey);
+            log.warn("Rate limit exceeded for client: {} {} (limit: {}/min)",
+                endpoint.name(), clientKey, endpoint.requestsPerMinute());
+            return false;
+        }
+
+        endpoint.allowed().increment();
+        log.debug("Rate limit check passed for client: {}", clientKey);
+        return true;
+    }
+
+    /**
+     * 직전 집계 주기의 거절 상위 클라이언트 키
+     */
+    public List<RateLimitHotKeyResponse> getHotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * 거절 상위 키 집계 (1분마다)
+     * - 스케치 스냅샷을 응답 형태로 변환 후 초기화 → 최근 1분 기준 Top-K
+     */
+    @Scheduled(fixedRate = 60_000)
+    public void refreshHotKeys() {
+        List<SpaceSavingSketch.Entry<ClientKey>> top = throttledKeys.topK(HOT_KEY_REPORT_SIZE);
+        throttledKeys.reset();
+
+        Map<Integer, String> names = new HashMap<>();
+        endpoints.values().forEach(endpoint -> names.put(endpoint.index(), endpoint.name()));
+
+        List<RateLimitHotKeyResponse> report = new ArrayList<>(top.size());
+        for (SpaceSavingSketch.Entry<ClientKey> entry : top) {
+            ClientKey key = entry.key();
+            report.add(RateLimitHotKeyResponse.builder()
+                    .endpoint(names.get(key.endpoint()))
+                    .clientIp(formatIp(key.ipHigh(), key.ipLow()))
+                    .userId(key.userId() == ANONYMOUS_USER ? null : key.userId())
+                    .rejectedCount(entry.count())
+                    .error(entry.error())
+                    .build());
+        }
+        this.hotKeys = report;
+
+        if (!report.isEmpty()) {
+            log.info("[RateLimit] 거절 상위 키 집계: {}개 (최다: {} {}회)",
+                    report.size(), report.get(0).getClientIp(), report.get(0).getRejectedCount());
+        }
+    }
+
+    /**
+     * 엔드포인트 메타데이터 조회 (없으면 1회 생성)
+     */
+    public Endpoint resolveEndpoint(Method method, RateLimit rateLimit) {
+        Endpoint endpoint = endpoints.get(method);
+        if (endpoint != null) {
+            return endpoint;
+        }
+        return endpoints.computeIfAbsent(method, m -> {
+            int requestsPerMinute = rateLimit.requestsPerMinute();
+            Bandwidth limit = createBandwidth(requestsPerMinute);
+            String name = m.getDeclaringClass().getName() + "." + m.getName();
+            return new Endpoint(
+                    endpointSequence.getAndIncrement(),
+                    name,
+                    requestsPerMinute,
+                    key -> Bucket.builder().addLimit(limit).build(),
+                    requestCounter(name, "allowed"),
+                    requestCounter(name, "rejected")
+            );
+        });
+    }
+
+    private Counter requestCounter(String endpoint, String outcome) {
+        return Counter.builder("rate.limit.requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bucket4j 대역폭 생성
+     * Token Bucket 알고리즘 적용 (Bandwidth는 불변 객체 → 엔드포인트별 공유)
+     *
+     * @param requestsPerMinute 분당 허용 요청 수
+     * @return Bandwidth
+     */
+    private Bandwidth createBandwidth(int requestsPerMinute) {
+        return Bandwidth.classic(
+            requestsPerMinute,
+            Refill.intervally(requestsPerMinute, Duration.ofMinutes(1))
+        );
+    }
+
+    /**
+     * 클라이언트 식별 키 생성
+     * - 엔드포인트별 격리: 엔드포인트 인덱스 포함
+     * - 인증된 사용자: IP + userId (JwtAuthenticationFilter가 설정한 request attribute)
+     * - 비인증 사용자: IP + (-1)
+     *
+     * @param endpoint 엔드포인트 메타데이터
+     * @param request HTTP 요청
+     * @return 클라이언트 키
+     */
+    private ClientKey getClientKey(Endpoint endpoint, HttpServletRequest request) {
+        String ip = getClientIpSource(request);
+        int end = ip.indexOf(',');  // X-Forwarded-For에 여러 IP가 있을 경우 첫 번째 IP 사용
+        if (end < 0) {
+            end = ip.length();
+        }
+        int start = 0;
+        while (start < end && ip.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && ip.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        long ipv4 = parseIpv4(ip, start, end);
+        long ipHigh;
+        long ipLow;
+        if (ipv4 >= 0) {
+            ipHigh = 0L;
+            ipLow = 0x0000_FFFF_0000_0000L | ipv4;
+        } else {
+            ipHigh = hash64(ip, start, end, 0xcbf29ce484222325L, 0x100000001b3L);
+            ipLow = hash64(ip, start, end, 0x84222325cbf29ce4L, 0x9E3779B97F4A7C15L);
+        }
+
+        Object userAttribute = request.getAttribute("userId");
+        long userId = userAttribute instanceof Long id ? id : ANONYMOUS_USER;
+
+        return new ClientKey(endpoint.index(), ipHigh, ipLow, userId);
+    }
+
+    /**
+     * 클라이언트 IP 원본 문자열 추출
+     * Proxy/Load Balancer 고려 (X-Forwarded-For 헤더 우선)
+     * - 쉼표 분리/trim은 getClientKey에서 인덱스 기반으로 처리 (배열 할당 없음)
+     *
+     * @param request HTTP 요청
+     * @return IP 헤더 값 또는 RemoteAddr
+     */
+    private String getClientIpSource(HttpServletRequest request) {
+        String ip = request.getHeader("X-Forwarded-For");
+
+        if (isUnknown(ip)) {
+            ip = request.getHeader("Proxy-Client-IP");
+        }
+        if (isUnknown(ip)) {
+            ip = request.getHeader("WL-Proxy-Client-IP");
+        }
+        if (isUnknown(ip)) {
+            ip = request.getRemoteAddr();
+        }
+
+        return ip != null ? ip : "";
+    }
+
+    /**
+     * ClientKey IP 표시용 문자열
+     * - IPv4-mapped: a.b.c.d
+     * - 그 외: 원본 주소 해시 (ipv6#상위:하위)
+     */
+    static String formatIp(long ipHigh, long ipLow) {
+        if (ipHigh == 0 && (ipLow >>> 32) == 0xFFFFL) {
+            return ((ipLow >>> 24) & 0xFF) + "." + ((ipLow >>> 16) & 0xFF) + "."
+                    + ((ipLow >>> 8) & 0xFF) + "." + (ipLow & 0xFF);
+        }
+        return "ipv6#" + Long.toHexString(ipHigh) + ":" + Long.toHexString(ipLow);
+    }
+
+    private static boolean isUnknown(String ip) {
+        return ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip);
+    }
+
+    /**
+     * IPv4 문자열 파싱 (할당 없음)
+     *
+     * @return 32bit 주소 (부호 없는 값), 형식이 아니면 -1
+     */
+    static long parseIpv4(String s, int start, int end) {
+        long address = 0;
+        int octets = 0;
+        int value = -1;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && value >= 0 && octets < 3) {
+                address = (address << 8) | value;
+                octets++;
+                value = -1;
+            } else {
+                return -1;
+            }
+        }
+        if (octets != 3 || value < 0) {
+            return -1;
+        }
+        return (address << 8) | value;
+    }
+
+    /**
+     * 문자열 구간의 64bit FNV-1a 계열 해시 (IPv6 등 비 IPv4 주소용)
+     * - seed/prime을 달리한 두 해시를 조합하여 128bit 키로 사용
+     */
+    static long hash64(String s, int start, int end, long seed, long prime) {
+        long hash = seed;
+        for (int i = start; i < end; i++) {
+            hash ^= Character.toLowerCase(s.charAt(i));
+            hash *= prime;
+        }
+        return hash;
+    }
+}
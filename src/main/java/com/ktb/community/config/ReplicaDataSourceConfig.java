@@ -0,0 +1,81 @@
+package com.ktb.community.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary/Replica DataSource 설정 (datasource.replica.enabled=true)
+ * - primary: 기존 spring.datasource.* 설정 그대로 사용
+ * - replica: datasource.replica.* (읽기 전용 커넥션 풀, 무응답 시 1초 안에 실패 → primary 우회)
+ * - 애플리케이션 DataSource = LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ *
+ * 비활성화 시 Spring Boot 기본 DataSource(단일 primary) 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        // replica 무응답 시 빠르게 실패 (기본 30초 대기 → 지연 확인/읽기 요청 정체)
+        // - loginTimeout은 connectionTimeout에서 파생 (1초)
+        // - 기동 시 커넥션 확인 생략 → replica 장애 중에도 기동, 첫 지연 확인 성공 전까지 primary 사용
+        // - datasource.replica.hikari.*로 재정의 가능
+        dataSource.setConnectionTimeout(1_000);
+        dataSource.setValidationTimeout(500);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMillis,
+            @Value("${datasource.replica.lag-check-ms:1000}") long lagCheckMillis,
+            @Value("${datasource.replica.read-your-writes-ms:5000}") long readYourWritesMillis) {
+        return new ReplicaRoutingDataSource(primary, replica, lagQuery, maxLagMillis, lagCheckMillis,
+                readYourWritesMillis);
+    }
+
+    /**
+     * 애플리케이션 기본 DataSource (JPA, JdbcTemplate)
+     * - 실제 커넥션은 첫 SQL 실행 시 획득 → 그 시점의 트랜잭션 readOnly 여부로 라우팅
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,172 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - @Transactional(readOnly = true) 트랜잭션 → replica
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없음) → primary
+ * - LazyConnectionDataSourceProxy 뒤에서 사용해야 함 (트랜잭션 readOnly 플래그 확정 후 커넥션 획득)
+ *
+ * primary로 우회하는 경우:
+ * - replica 지연(lag)이 max-lag-ms 초과, 복제 중단, 지연 조회 실패
+ * - read-your-writes: 최근 read-your-writes-ms 안에 쓰기 트랜잭션을 수행한 사용자 (Request Attribute userId 기준)
+ *
+ * 지연 확인은 전용 스레드 1개에서 실행 (공유 @Scheduled 스레드 사용 X)
+ * - replica 무응답 시 커넥션 획득 대기가 세션 스윕, 토큰 폐기 목록 회전 등 다른 스케줄 작업을 막지 않음
+ * - 기동 시 동기 확인 없음 → 첫 확인 성공 전까지 primary 사용
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long lagCheckMillis;
+    private final ScheduledExecutorService lagProbe;
+
+    /**
+     * 최근 쓰기 사용자 (userId → 마지막 쓰기 트랜잭션 이후 read-your-writes-ms 동안 유지)
+     */
+    private final Cache<Long, Boolean> recentWriters;
+
+    /**
+     * replica 사용 가능 여부 (지연 확인 주기마다 갱신, 최초 확인 전에는 primary 사용)
+     */
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    String lagQuery, long maxLagMillis, long lagCheckMillis,
+                                    long readYourWritesMillis) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(1);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.lagCheckMillis = lagCheckMillis;
+        this.lagProbe = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-probe").daemon().factory());
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(readYourWritesMillis))
+                .build();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagProbe.scheduleWithFixedDelay(this::checkReplicaLag, 0, lagCheckMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        lagProbe.shutdownNow();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 쓰기 트랜잭션 → 이후 일정 시간 이 사용자의 읽기도 primary
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+            return Route.PRIMARY;
+        }
+
+        if (!replicaAvailable) {
+            return Route.PRIMARY;
+        }
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * replica 지연 확인 (lag-check-ms마다, 전용 스레드)
+     * - 결과 행에 Seconds_Behind_Source(또는 _Master) 컬럼이 있으면 사용 (MySQL SHOW REPLICA STATUS)
+     * - 단일 컬럼 결과면 그 값을 지연(초)으로 사용 (예: 로컬/테스트용 SELECT 0)
+     * - 값이 NULL(복제 중단)이거나 조회 실패 시 replica 사용 중지
+     */
+    void checkReplicaLag() {
+        boolean available;
+        try {
+            Long lagSeconds = queryLagSeconds();
+            available = lagSeconds != null && lagSeconds * 1000 <= maxLagMillis;
+            if (!available && replicaAvailable) {
+                log.warn("[ReplicaRouting] replica 지연 초과 → primary 사용: lag={}s", lagSeconds);
+            }
+        } catch (RuntimeException e) {
+            // DataAccessException 외 예외도 흡수 (전파 시 이후 확인 예약이 취소됨)
+            available = false;
+            if (replicaAvailable) {
+                log.warn("[ReplicaRouting] replica 지연 조회 실패 → primary 사용: {}", e.getMessage());
+            }
+        }
+
+        if (available && !replicaAvailable) {
+            log.info("[ReplicaRouting] replica 사용 시작");
+        }
+        replicaAvailable = available;
+    }
+
+    boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    private Long queryLagSeconds() {
+        List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList(lagQuery);
+        if (rows.isEmpty()) {
+            return null;  // 복제 미구성
+        }
+
+        Map<String, Object> row = rows.get(0);
+        Object value = null;
+        if (row.size() == 1) {
+            value = row.values().iterator().next();
+        } else {
+            for (String column : LAG_COLUMNS) {
+                if (row.containsKey(column)) {
+                    value = row.get(column);
+                    break;
+                }
+            }
+        }
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    /**
+     * 현재 요청의 인증 사용자 (JwtAuthenticationFilter가 설정한 Request Attribute)
+     */
+    private static Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object userId = attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+        return userId instanceof Long id ? id : null;
+    }
+}
@@ -1,19 +1,42 @@
 package com.ktb.community.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * AWS S3 클라이언트 설정 (storage.type=s3, 기본값)
+ * - S3ObjectStorage에서 사용
+ */
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${aws.s3.region}")
     private String region;
 
+    /**
+     * S3 호환 로컬 스토리지 엔드포인트 (LocalStack, MinIO 등)
+     * - 비어 있으면 AWS 기본 엔드포인트 사용
+     * - 지정 시 path-style 접근 (http://localhost:4566/{bucket}/{key})
+     */
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
+
     /**
      * S3Client Bean 생성
      *
@@ -32,12 +55,37 @@ public class S3Config {
      */
     @Bean
     public S3Client s3Client() {
-        return S3Client.builder()
+        var builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider.create())
-                .build();
+                .credentialsProvider(software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider.create());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
     }
 
+    /**
+     * S3AsyncClient Bean 생성 (비동기 이미지 업로드용)
+     *
+     * Netty NIO 전송 계층:
+     * - 업로드 대기 중 요청 스레드/DB 커넥션 점유 없음 (이벤트 루프에서 I/O 처리)
+     * - max-concurrency: 동시 S3 커넥션 상한 (초과 요청은 SDK 내부 대기열에서 대기)
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        var builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(asyncMaxConcurrency)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(10)));
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
+    }
 
     /**
      * S3Presigner Bean 생성 (Presigned URL 발급용)
@@ -49,10 +97,23 @@ public class S3Config {
      */
     @Bean
     public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+        var builder = S3Presigner.builder()
                 .region(Region.of(region))
-                .credentialsProvider(software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider.create())
-                .build();
+                .credentialsProvider(software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider.create());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
     }
 
+    private boolean hasEndpointOverride() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+
+    private static S3Configuration pathStyle() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build();
+    }
 }
@@ -0,0 +1,44 @@
+package com.ktb.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 객체 저장소 공통 설정 (storage.type과 무관)
+ */
+@Configuration
+public class StorageConfig {
+
+    /**
+     * 저장소 I/O 및 업로드 완료 콜백 Executor
+     * - 업로드 본문 읽기 (S3 비동기 업로드), 로컬 파일 쓰기 (LocalObjectStorage.putAsync)
+     * - 업로드 완료 콜백 (DB 저장) → Netty 이벤트 루프에서 블로킹 작업 수행 방지
+     * - Virtual Thread per task: 블로킹 구간이 짧고 동시 업로드 수는 Rate Limit/커넥션 상한으로 제한됨
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("storage-", 0).factory());
+    }
+
+    /**
+     * 이미지 리사이즈 변형 생성 Executor (ImageVariantService)
+     * - 디코딩/리사이즈/인코딩은 CPU 작업 → 고정 크기 플랫폼 스레드 (Virtual Thread 이점 없음)
+     * - 대기 큐 상한 초과 시 RejectedExecutionException → 변형 생략 (응답은 원본 URL 사용)
+     *   → 업로드 폭주 시에도 디코딩 버퍼 메모리 = 워커 수 × 이미지 1장으로 제한
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService imageVariantExecutor(@Value("${image-variants.workers:2}") int workers,
+                                                @Value("${image-variants.queue-capacity:200}") int queueCapacity) {
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variant-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
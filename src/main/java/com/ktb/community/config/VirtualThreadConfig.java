@@ -0,0 +1,45 @@
+package com.ktb.community.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Virtual Thread 실행 모드 설정 (spring.threads.virtual.enabled=true)
+ * - Tomcat 요청 처리, @Async, @Scheduled 실행은 Spring Boot가 Virtual Thread로 전환
+ * - 이 설정은 커넥션 풀 앞에 ConnectionGuardDataSource를 씌워 획득 동시성을 풀 크기로 제한
+ *
+ * 참고: BCrypt는 BoundedPasswordEncoder 전용 풀(플랫폼 스레드)에서 계속 실행 (CPU 바운드)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * HikariDataSource Bean을 ConnectionGuardDataSource로 감싸기
+     * - static: BeanPostProcessor는 다른 Bean보다 먼저 생성되어야 함
+     */
+    @Bean
+    public static BeanPostProcessor connectionGuardPostProcessor(Environment environment) {
+        int maxWaiters = environment.getProperty("virtual-threads.db-guard.max-waiters", Integer.class, 200);
+        long acquireTimeoutMillis = environment.getProperty("virtual-threads.db-guard.acquire-timeout-ms", Long.class, 3000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int poolSize = hikari.getMaximumPoolSize();
+                    log.info("[VirtualThread] 커넥션 가드 적용: bean={}, permits={}, maxWaiters={}",
+                            beanName, poolSize, maxWaiters);
+                    return new ConnectionGuardDataSource(hikari, poolSize, maxWaiters, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb.community.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual Thread 캐리어 고정(pinning) 감지기
+ * - JFR jdk.VirtualThreadPinned 이벤트를 프로세스 내부에서 스트리밍 (별도 덤프 파일 없음)
+ * - synchronized 블록/네이티브 호출 안에서 블로킹되어 캐리어 스레드를 점유한 구간을 로그로 출력
+ * - 같은 호출 위치는 log-interval 동안 1회만 로그 (카운터는 매번 증가)
+ * - 호출 위치: 스택 상단의 JDK 파킹 프레임(VirtualThread.park, LockSupport.park 등)을 건너뛴
+ *   첫 애플리케이션 프레임(com.ktb.), 없으면 JDK 밖 첫 프레임 → 로그도 이 프레임부터 출력
+ *
+ * 메트릭: jvm.threads.virtual.pinned (고정 발생 횟수, threshold 이상만)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 10;
+    private static final String APP_PACKAGE = "com.ktb.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final Duration threshold;
+    private final long logIntervalMillis;
+    private final Counter pinnedCounter;
+
+    /**
+     * 호출 위치(callSiteIndex 프레임) → 마지막 로그 시각
+     */
+    private final Map<String, Long> lastLogged = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMillis,
+                                       @Value("${virtual-threads.pinning.log-interval-ms:60000}") long logIntervalMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.logIntervalMillis = logIntervalMillis;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual thread pinned events longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("[VirtualThread] 캐리어 고정 감지 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace != null
+                ? stackTrace.getFrames().stream().map(VirtualThreadPinningMonitor::format).toList()
+                : List.of();
+        report(frames, event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 고정 이벤트 기록
+     *
+     * @param frames 스택 프레임 (상단부터, "클래스.메서드:라인")
+     * @return 로그 출력 여부 (같은 호출 위치는 log-interval 동안 1회)
+     */
+    boolean report(List<String> frames, long durationMillis, String threadName, long now) {
+        pinnedCounter.increment();
+
+        int siteIndex = callSiteIndex(frames);
+        String site = frames.isEmpty() ? "unknown" : frames.get(siteIndex);
+
+        Long previous = lastLogged.get(site);
+        if (previous != null && now - previous < logIntervalMillis) {
+            return false;
+        }
+        lastLogged.put(site, now);
+
+        StringBuilder trace = new StringBuilder();
+        for (int i = siteIndex; i < Math.min(frames.size(), siteIndex + MAX_LOGGED_FRAMES); i++) {
+            trace.append("\n\tat ").append(frames.get(i));
+        }
+        log.warn("[VirtualThread] 캐리어 스레드 고정 {}ms (thread={}, site={}){}",
+                durationMillis, threadName, site, trace);
+        return true;
+    }
+
+    /**
+     * 호출 위치 프레임 인덱스
+     * - 첫 애플리케이션 프레임 → 없으면 JDK 밖 첫 프레임 (라이브러리) → 없으면 0
+     */
+    static int callSiteIndex(List<String> frames) {
+        int firstNonJdk = -1;
+        for (int i = 0; i < frames.size(); i++) {
+            String frame = frames.get(i);
+            if (frame.startsWith(APP_PACKAGE)) {
+                return i;
+            }
+            if (firstNonJdk < 0 && JDK_PACKAGES.stream().noneMatch(frame::startsWith)) {
+                firstNonJdk = i;
+            }
+        }
+        return Math.max(firstNonJdk, 0);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.config.RateLimiter;
+import com.ktb.community.dto.ApiResponse;
+import com.ktb.community.dto.response.CacheRegionStatsResponse;
+import com.ktb.community.dto.response.RateLimitHotKeyResponse;
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.enums.UserRole;
+import com.ktb.community.enums.UserStatus;
+import com.ktb.community.exception.BusinessException;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.service.CacheStatsService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 관리 컨트롤러
+ * - JwtAuthenticationFilter 인증 필수 + ADMIN 권한 확인
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final RateLimiter rateLimiter;
+    private final CacheStatsService cacheStatsService;
+    private final UserRepository userRepository;
+
+    /**
+     * Rate Limit 거절 상위 클라이언트 조회
+     * GET /admin/rate-limit/hot-keys
+     *
+     * 응답: 직전 1분 동안 가장 많이 거절된 (엔드포인트, IP, userId) 상위 20개
+     */
+    @GetMapping("/rate-limit/hot-keys")
+    public ResponseEntity<ApiResponse<List<RateLimitHotKeyResponse>>> getRateLimitHotKeys(
+            HttpServletRequest httpRequest) {
+
+        requireAdmin((Long) httpRequest.getAttribute("userId"));
+
+        return ResponseEntity.ok(ApiResponse.success("get_rate_limit_hot_keys_success", rateLimiter.getHotKeys()));
+    }
+
+    /**
+     * Hibernate 2차 캐시 리전별 통계 조회
+     * GET /admin/cache/stats
+     *
+     * 응답: 리전별 hit/miss/put 누적 횟수, 적중률, 메모리 내 항목 수
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsResponse>>> getCacheStats(
+            HttpServletRequest httpRequest) {
+
+        requireAdmin((Long) httpRequest.getAttribute("userId"));
+
+        return ResponseEntity.ok(ApiResponse.success("get_cache_stats_success", cacheStatsService.getRegionStats()));
+    }
+
+    /**
+     * ADMIN 권한 확인 (DB 기준, 토큰 role claim은 신뢰하지 않음)
+     */
+    private void requireAdmin(Long userId) {
+        boolean admin = userId != null && userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)
+                .map(user -> user.getRole() == UserRole.ADMIN)
+                .orElse(false);
+        if (!admin) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+    }
+}
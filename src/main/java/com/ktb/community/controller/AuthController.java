@@ -57,7 +57,7 @@ public class AuthController {
     /**
      * 로그아웃 (API.md Section 1.2)
      * POST /auth/logout
-     * Cookie에서 RT 추출 및 삭제
+     * Cookie에서 RT 추출 및 삭제, Authorization 헤더의 AT 폐기
      * Tier 3: 제한 없음 (공격 동인 없음)
      */
     @PostMapping("/logout")
@@ -71,10 +71,13 @@ public class AuthController {
         //     authService.logout(sessionId);
         // }
 
-        // [JWT 방식] RT 추출 및 삭제
+        // [JWT 방식] RT 삭제 + AT 폐기 (Authorization 헤더가 있는 경우)
         String refreshToken = extractCookie(request, "refresh_token");
-        if (refreshToken != null) {
-            authService.logout(refreshToken);
+        String authorization = request.getHeader("Authorization");
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        if (refreshToken != null || accessToken != null) {
+            authService.logout(refreshToken, accessToken);
         }
 
         // RT 쿠키 삭제 (MaxAge=0)
@@ -129,7 +132,7 @@ public class AuthController {
      *
      * Lambda 검증:
      * - Lambda는 role: GUEST 또는 userId == 0 체크로 회원가입 업로드 판별
-     * - TTL 1시간 설정 (회원가입 안 하면 자동 삭제)
+     * - 업로드 이미지는 유예 시간(1시간) 안에 연결하지 않으면 정리 배치가 삭제 (회원가입 안 한 경우)
      */
     @GetMapping("/guest-token")
     public ResponseEntity<ApiResponse<String>> getGuestToken() {
@@ -3,11 +3,13 @@ package com.ktb.community.controller;
 import com.ktb.community.config.RateLimit;
 import com.ktb.community.dto.ApiResponse;
 import com.ktb.community.dto.request.ImageMetadataRequest;
+import com.ktb.community.dto.request.PresignedUrlBatchRequest;
 import com.ktb.community.dto.response.ImageResponse;
 import com.ktb.community.dto.response.PresignedUrlResponse;
 import com.ktb.community.service.ImageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +20,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 이미지 업로드 컨트롤러
  * API.md Section 4 참조
@@ -29,28 +34,37 @@ public class ImageController {
 
     private final ImageService imageService;
 
+    @Value("${aws.s3.async.enabled:true}")
+    private boolean asyncUploadEnabled;
+
     /**
      * 이미지 업로드 (API.md Section 4.1)
      * POST /images
      * Authorization: Bearer {access_token}
      * Tier 2: 중간 제한 (파일 업로드 부하)
      *
+     * aws.s3.async.enabled=true (기본): ObjectStorage.putAsync 업로드, 요청 스레드는 즉시 반환 (MVC 비동기 처리)
+     * aws.s3.async.enabled=false: 동기 업로드
+     *
      * @param file 업로드할 이미지 파일
      * @return 이미지 정보 (image_id, image_url)
      */
     @PostMapping
     @RateLimit(requestsPerMinute = 10)
-    public ResponseEntity<ApiResponse<ImageResponse>> uploadImage(
+    public CompletableFuture<ResponseEntity<ApiResponse<ImageResponse>>> uploadImage(
             @RequestParam("file") MultipartFile file) {
 
-        ImageResponse imageResponse = imageService.uploadImage(file);
-
-        ApiResponse<ImageResponse> response = ApiResponse.success(
-                "upload_image_success",
-                imageResponse
-        );
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        CompletableFuture<ImageResponse> upload = asyncUploadEnabled
+                ? imageService.uploadImageAsync(file)
+                : CompletableFuture.completedFuture(imageService.uploadImage(file));
+
+        return upload.thenApply(imageResponse -> {
+            ApiResponse<ImageResponse> response = ApiResponse.success(
+                    "upload_image_success",
+                    imageResponse
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     /**
@@ -104,4 +118,31 @@ public class ImageController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * Presigned URL 일괄 발급 (API.md Section 4.4)
+     * POST /images/presigned-urls
+     * Authorization: Bearer {access_token | guest_token}
+     * Tier 2: 중간 제한 (10회/분, 호출 1회 = 1회 차감)
+     *
+     * 다중 이미지 게시글용 - 최대 10개를 한 번에 발급
+     * - 응답 순서 = 요청 순서 (POST /posts imageIds 순서로 그대로 사용)
+     *
+     * @param request 파일 목록 (filename, content_type)
+     * @return Presigned URL 정보 목록
+     */
+    @PostMapping("/presigned-urls")
+    @RateLimit(requestsPerMinute = 10)
+    public ResponseEntity<ApiResponse<List<PresignedUrlResponse>>> getPresignedUrls(
+            @Valid @RequestBody PresignedUrlBatchRequest request) {
+
+        List<PresignedUrlResponse> presignedUrlResponses = imageService.generatePresignedUrls(request.getFiles());
+
+        ApiResponse<List<PresignedUrlResponse>> response = ApiResponse.success(
+                "presigned_urls_generated",
+                presignedUrlResponses
+        );
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
 }
@@ -0,0 +1,98 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+import com.ktb.community.storage.LocalObjectStorage;
+import com.ktb.community.util.FileValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 로컬 객체 저장소 엔드포인트 (storage.type=local)
+ * - S3 대체: 서명 URL 업로드(PUT), 공개 파일 조회(GET)
+ * - JwtAuthenticationFilter 공개 경로 (/storage/**), PUT은 서명으로 검증
+ */
+@RestController
+@RequestMapping("/storage")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Value("${spring.servlet.multipart.max-file-size:5MB}")
+    private DataSize maxFileSize;
+
+    /**
+     * 서명 URL 업로드 (S3 Presigned PUT 대응)
+     * PUT /storage/{key}?contentType=...&expires=...&signature=...
+     */
+    @PutMapping("/{*key}")
+    public ResponseEntity<Void> upload(
+            @PathVariable("key") String key,
+            @RequestParam("contentType") String contentType,
+            @RequestParam("expires") long expires,
+            @RequestParam("signature") String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String requestContentType,
+            HttpServletRequest request) {
+
+        String objectKey = key.substring(1);  // {*key}는 선행 '/' 포함
+        if (!contentType.equals(requestContentType)
+                || !localObjectStorage.verifySignature(objectKey, contentType, expires, signature)) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "Invalid or expired upload signature");
+        }
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Content-Length is required");
+        }
+        if (contentLength > maxFileSize.toBytes()) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+
+        localObjectStorage.put(objectKey, contentType, contentLength, request::getInputStream);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 저장된 파일 조회 (이미지 공개 URL)
+     * GET /storage/{key}
+     */
+    @GetMapping("/{*key}")
+    public ResponseEntity<Resource> download(@PathVariable("key") String key) {
+        Path path;
+        try {
+            path = localObjectStorage.resolve(key.substring(1));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FileValidator.inferContentType(path.getFileName().toString())))
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
+                .body(new FileSystemResource(path));
+    }
+}
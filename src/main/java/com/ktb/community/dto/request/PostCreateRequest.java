@@ -5,12 +5,15 @@ import com.ktb.community.entity.Post;
 import com.ktb.community.entity.User;
 import com.ktb.community.enums.PostStatus;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * 게시글 작성 요청 DTO
  * API.md Section 3.3 참조
@@ -21,6 +24,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PostCreateRequest {
 
+    /**
+     * 게시글당 최대 이미지 수 (display_order 1~MAX_IMAGES)
+     */
+    public static final int MAX_IMAGES = 10;
+
     @NotBlank(message = "제목은 필수입니다")
     @Size(max = 27, message = "제목은 최대 27자입니다")
     private String title;
@@ -35,6 +43,27 @@ public class PostCreateRequest {
     @JsonProperty("imageId")
     private Long imageId;
 
+    /**
+     * 선택: 게시글 이미지 ID 목록 (목록 순서 = display_order 1, 2, ...)
+     * POST /images/presigned-urls로 일괄 발급 후 업로드
+     * imageId와 함께 전달 시 imageIds 우선
+     */
+    @Size(max = MAX_IMAGES, message = "이미지는 최대 " + MAX_IMAGES + "개입니다")
+    @JsonProperty("imageIds")
+    private List<@NotNull Long> imageIds;
+
+    /**
+     * 연결할 이미지 ID (display_order 순서)
+     *
+     * @return imageIds, 없으면 imageId 1개, 둘 다 없으면 빈 목록
+     */
+    public List<Long> resolveImageIds() {
+        if (imageIds != null && !imageIds.isEmpty()) {
+            return imageIds;
+        }
+        return imageId != null ? List.of(imageId) : List.of();
+    }
+
     /**
      * DTO → Entity 변환
      *
@@ -1,12 +1,15 @@
 package com.ktb.community.dto.request;
 
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * 게시글 수정 요청 DTO
  * API.md Section 3.4 참조
@@ -29,9 +32,17 @@ public class PostUpdateRequest {
      */
     private Long imageId;
 
+    /**
+     * 선택: 게시글 이미지 ID 목록 (전체 교체, 목록 순서 = display_order 1, 2, ...)
+     * - 다중 이미지 게시글은 이 필드로만 변경 가능 (imageId 단독 교체 시 나머지 이미지 유실 방지)
+     * - imageId와 함께 전달 시 imageIds 우선
+     */
+    @Size(max = PostCreateRequest.MAX_IMAGES, message = "이미지는 최대 " + PostCreateRequest.MAX_IMAGES + "개입니다")
+    private List<@NotNull Long> imageIds;
+
     /**
      * 선택: 이미지 제거 플래그
-     * - true: 기존 이미지 제거 (브릿지 삭제 + TTL 복원)
+     * - true: 기존 이미지 제거 (브릿지 삭제 + 참조 해제 → 유예 시간 후 정리 배치 삭제)
      * - false/null: 기존 이미지 유지
      */
     private Boolean removeImage;
@@ -43,6 +54,19 @@ public class PostUpdateRequest {
     @AssertTrue(message = "최소 1개 필드가 필요합니다")
     public boolean isHasAnyUpdate() {
         return title != null || content != null || imageId != null
+               || (imageIds != null && !imageIds.isEmpty())
                || Boolean.TRUE.equals(removeImage);
     }
+
+    /**
+     * 교체할 이미지 ID (display_order 순서)
+     *
+     * @return imageIds, 없으면 imageId 1개, 둘 다 없으면 빈 목록
+     */
+    public List<Long> resolveImageIds() {
+        if (imageIds != null && !imageIds.isEmpty()) {
+            return imageIds;
+        }
+        return imageId != null ? List.of(imageId) : List.of();
+    }
 }
@@ -0,0 +1,52 @@
+package com.ktb.community.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Presigned URL 일괄 발급 요청 DTO
+ * API.md Section 4.4 참조
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlBatchRequest {
+
+    /**
+     * 요청당 최대 발급 수 (게시글 이미지 최대 개수와 동일)
+     */
+    public static final int MAX_FILES = PostCreateRequest.MAX_IMAGES;
+
+    @NotEmpty(message = "파일 목록은 필수입니다")
+    @Size(max = MAX_FILES, message = "한 번에 최대 " + MAX_FILES + "개까지 발급할 수 있습니다")
+    private List<@Valid FileItem> files;
+
+    /**
+     * 발급 대상 파일 (GET /images/presigned-url 쿼리 파라미터와 동일)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileItem {
+
+        @NotBlank(message = "파일명은 필수입니다")
+        private String filename;
+
+        /**
+         * 선택: MIME type (미전달 시 확장자 기반 추론)
+         */
+        @JsonProperty("content_type")
+        private String contentType;
+    }
+}
@@ -28,7 +28,7 @@ public class UpdateProfileRequest {
 
     /**
      * 선택: 프로필 이미지 제거 플래그
-     * - true: 기존 이미지 제거 (TTL 복원 + 관계 해제)
+     * - true: 기존 이미지 제거 (참조 해제 + 관계 해제 → 유예 시간 후 정리 배치 삭제)
      * - false/null: 기존 이미지 유지
      *
      * 주의: removeImage와 imageId 동시 전달 시 imageId가 우선 적용됨
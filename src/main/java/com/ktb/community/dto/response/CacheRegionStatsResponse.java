@@ -0,0 +1,19 @@
+package com.ktb.community.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Hibernate 2차 캐시 리전 통계 응답 DTO
+ */
+@Getter
+@Builder
+public class CacheRegionStatsResponse {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;       // hit / (hit + miss), 요청 없으면 0
+    private long elementCount;     // 메모리 내 항목 수 (제공자가 지원하지 않으면 -1)
+}
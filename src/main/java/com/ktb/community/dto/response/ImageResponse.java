@@ -34,4 +34,21 @@ public class ImageResponse {
                 .expiresAt(image.getExpiresAt())
                 .build();
     }
+
+    /**
+     * 중복 업로드 재사용 응답
+     * - 기존 이미지의 식별 정보(imageId, imageUrl)만 사용, 메타데이터는 요청자 값으로 구성
+     * - 다른 사용자의 원본 파일명/업로드 시각/삭제 예정 시각 노출 방지 (신규 업로드 응답과 같은 형태)
+     */
+    public static ImageResponse reused(Image existing, String originalFilename, Integer fileSize,
+                                       LocalDateTime expiresAt) {
+        return ImageResponse.builder()
+                .imageId(existing.getImageId())
+                .imageUrl(existing.getImageUrl())
+                .fileSize(fileSize)
+                .originalFilename(originalFilename)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
 }
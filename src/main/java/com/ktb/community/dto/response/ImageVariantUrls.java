@@ -0,0 +1,46 @@
+package com.ktb.community.dto.response;
+
+import com.ktb.community.entity.Image;
+import com.ktb.community.enums.ImageVariant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이미지 변형 URL DTO (Nested)
+ * PostResponse(게시글 이미지), UserSummary(프로필 이미지)에서 사용
+ *
+ * 변형 미생성 이미지(생성 중/실패, Presigned URL 업로드)는 모든 필드가 원본 URL
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImageVariantUrls {
+
+    private String original;
+    private String avatar;  // 160x160 정사각형
+    private String feed;    // 640 박스
+    private String detail;  // 1280 박스
+
+    /**
+     * Entity → DTO 변환
+     *
+     * @param image Image 엔티티 (nullable)
+     * @return ImageVariantUrls DTO (image가 null이면 null)
+     */
+    public static ImageVariantUrls from(Image image) {
+        if (image == null) {
+            return null;
+        }
+        String url = image.getImageUrl();
+        if (!image.isVariantsReady()) {
+            return new ImageVariantUrls(url, url, url, url);
+        }
+        return ImageVariantUrls.builder()
+                .original(url)
+                .avatar(ImageVariant.AVATAR.derive(url))
+                .feed(ImageVariant.FEED.derive(url))
+                .detail(ImageVariant.DETAIL.derive(url))
+                .build();
+    }
+}
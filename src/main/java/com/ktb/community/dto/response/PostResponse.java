@@ -1,5 +1,6 @@
 package com.ktb.community.dto.response;
 
+import com.ktb.community.entity.Image;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostImage;
 import lombok.AllArgsConstructor;
@@ -28,6 +29,7 @@ public class PostResponse {
     private UserSummary author;
     private PostStatsResponse stats;
     private List<String> images;  // image URLs (display_order 순서)
+    private List<ImageVariantUrls> imageVariants;  // 리사이즈 변형 URL (images와 같은 순서)
     private Boolean isLikedByCurrentUser;  // 현재 사용자의 좋아요 여부 (비로그인 시 null)
 
     /**
@@ -48,6 +50,11 @@ public class PostResponse {
      * @return PostResponse DTO
      */
     public static PostResponse from(Post post, Boolean isLikedByCurrentUser) {
+        List<Image> sortedImages = post.getPostImages().stream()
+                .sorted(Comparator.comparing(PostImage::getDisplayOrder))
+                .map(PostImage::getImage)
+                .toList();
+
         return PostResponse.builder()
                 .postId(post.getPostId())
                 .title(post.getTitle())
@@ -56,9 +63,11 @@ public class PostResponse {
                 .updatedAt(post.getUpdatedAt())
                 .author(UserSummary.from(post.getUser()))
                 .stats(post.getStats() != null ? PostStatsResponse.from(post.getStats()) : null)
-                .images(post.getPostImages().stream()
-                        .sorted(Comparator.comparing(PostImage::getDisplayOrder))
-                        .map(pi -> pi.getImage().getImageUrl())
+                .images(sortedImages.stream()
+                        .map(Image::getImageUrl)
+                        .collect(Collectors.toList()))
+                .imageVariants(sortedImages.stream()
+                        .map(ImageVariantUrls::from)
                         .collect(Collectors.toList()))
                 .isLikedByCurrentUser(isLikedByCurrentUser)
                 .build();
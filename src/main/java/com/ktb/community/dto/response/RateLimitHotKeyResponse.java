@@ -0,0 +1,19 @@
+package com.ktb.community.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Rate Limit 거절 상위 클라이언트 응답 DTO
+ * GET /admin/rate-limit/hot-keys
+ */
+@Getter
+@Builder
+public class RateLimitHotKeyResponse {
+
+    private String endpoint;
+    private String clientIp;
+    private Long userId;          // 비인증 요청은 null
+    private long rejectedCount;   // 직전 1분 거절 수 (추정 상한)
+    private long error;           // 최대 과대 추정치 (실제 거절 수 ≥ rejectedCount - error)
+}
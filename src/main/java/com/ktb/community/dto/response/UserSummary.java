@@ -17,6 +17,7 @@ public class UserSummary {
     private Long userId;
     private String nickname;
     private String profileImage;  // image_url (nullable)
+    private ImageVariantUrls profileImageVariants;  // 리사이즈 변형 URL (nullable, 목록/댓글은 avatar 사용)
 
     /**
      * Entity → DTO 변환
@@ -30,6 +31,7 @@ public class UserSummary {
                 .nickname(user.getNickname())
                 .profileImage(user.getProfileImage() != null ?
                         user.getProfileImage().getImageUrl() : null)
+                .profileImageVariants(ImageVariantUrls.from(user.getProfileImage()))
                 .build();
     }
 }
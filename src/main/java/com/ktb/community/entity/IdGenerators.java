@@ -0,0 +1,24 @@
+package com.ktb.community.entity;
+
+/**
+ * 엔티티 ID 생성 설정 (@TableGenerator 공통 상수)
+ * - IDENTITY는 INSERT 직후 키를 받아야 하므로 Hibernate JDBC 배치가 비활성화됨
+ * - id_sequences 테이블에서 ALLOCATION_SIZE 단위로 ID 구간을 미리 할당 (pooled 옵티마이저)
+ * - 테이블별 행(sequence_name = 테이블명)으로 분리 → 구간 할당 시에만 행 잠금
+ *
+ * 기존 AUTO_INCREMENT 컬럼 전환: docs/be/DDL.md "ID 시퀀스 마이그레이션" 참조
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_sequences";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 구간 크기 (hibernate.jdbc.batch_size와 동일하게 유지)
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
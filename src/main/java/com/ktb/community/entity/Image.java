@@ -1,6 +1,7 @@
 package com.ktb.community.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -8,8 +9,18 @@ import java.time.LocalDateTime;
 /**
  * 이미지 엔티티
  * DDL: images 테이블
+ * 2차 캐시: image 리전 (READ_WRITE, 프로필 이미지 반복 조회 대상)
+ *
+ * 수명 관리 (참조 카운트):
+ * - 프로필/게시글 연결 시 ref_count + 1, 해제 시 - 1 (ImageRepository 원자적 UPDATE)
+ * - ref_count가 0이 된 시각을 released_at에 기록 → 정리 배치가 유예 시간 이후 삭제
+ * - 업로드 직후(미연결) 이미지는 ref_count 0, released_at = 생성 시각
+ * - 같은 내용(content_hash) 재업로드 시 새 객체/행 대신 기존 이미지 반환 → 연결 시 참조 수만 증가
+ * - 업로드 후 리사이즈 변형(avatar/feed/detail)을 비동기 생성, 완료 시 variants_ready = true
  */
 @Entity
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "image")
 @Table(name = "images")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,7 +28,10 @@ import java.time.LocalDateTime;
 public class Image extends BaseCreatedTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "images_id")
+    @TableGenerator(name = "images_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "images", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "image_id")
     private Long imageId;
 
@@ -30,32 +44,42 @@ public class Image extends BaseCreatedTimeEntity {
     @Column(name = "original_filename", length = 255)
     private String originalFilename;
 
-    @Column(name = "expires_at")
-    private LocalDateTime expiresAt;
-
-    @Builder
-    public Image(String imageUrl, Integer fileSize, String originalFilename, LocalDateTime expiresAt) {
-        this.imageUrl = imageUrl;
-        this.fileSize = fileSize;
-        this.originalFilename = originalFilename;
-        this.expiresAt = expiresAt;
-    }
+    /**
+     * 내용 SHA-256 (hex 64자, 중복 업로드 시 기존 이미지 재사용)
+     * 내용을 알 수 없는 경우(Presigned URL 사전 등록) NULL
+     */
+    @Column(name = "content_hash", length = 64, updatable = false)
+    private String contentHash;
 
     /**
-     * 이미지를 영구 보존하기 위해 만료 시간 제거
-     * 게시글이나 프로필에 연결될 때 호출
+     * 미연결 업로드 이미지의 삭제 예정 시각 (업로드 응답 표시용 정보, 생성 시각 + 유예 시간, 연결 시 NULL)
+     * 정리 배치는 사용하지 않음 (삭제 기준은 ref_count = 0 AND released_at < now - 유예 시간)
      */
-    public void clearExpiresAt() {
-        this.expiresAt = null;
-    }
+    @Column(name = "expires_at", updatable = false)
+    private LocalDateTime expiresAt;
+
+    // 참조 카운트 컬럼은 원자적 UPDATE로만 변경 (엔티티 flush가 다른 트랜잭션의 증감을 덮어쓰지 않도록 updatable = false)
+    @Column(name = "ref_count", nullable = false, updatable = false)
+    private int refCount = 0;
+
+    @Column(name = "released_at", updatable = false)
+    private LocalDateTime releasedAt;
 
     /**
-     * 고아 이미지로 전환 (TTL 복원)
-     * 게시글/프로필에서 제거될 때 호출
-     *
-     * @param expiresAt 만료 시간 (기본: 현재 + 1시간)
+     * 리사이즈 변형(ImageVariant) 저장 완료 여부 (ImageVariantService가 원자적 UPDATE로 설정)
+     * false면 응답의 변형 URL은 원본 URL로 대체
      */
-    public void setExpiresAt(LocalDateTime expiresAt) {
+    @Column(name = "variants_ready", nullable = false, updatable = false)
+    private boolean variantsReady = false;
+
+    @Builder
+    public Image(String imageUrl, Integer fileSize, String originalFilename, String contentHash,
+                 LocalDateTime expiresAt) {
+        this.imageUrl = imageUrl;
+        this.fileSize = fileSize;
+        this.originalFilename = originalFilename;
+        this.contentHash = contentHash;
         this.expiresAt = expiresAt;
+        this.releasedAt = LocalDateTime.now();  // 생성 시점에는 참조 없음
     }
 }
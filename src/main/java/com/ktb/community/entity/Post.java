@@ -19,7 +19,10 @@ import java.util.List;
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "posts_id")
+    @TableGenerator(name = "posts_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "posts", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "post_id")
     private Long postId;
 
@@ -16,7 +16,10 @@ import lombok.*;
 public class PostLike extends BaseCreatedTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_likes_id")
+    @TableGenerator(name = "post_likes_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "post_likes", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "like_id")
     private Long likeId;
 
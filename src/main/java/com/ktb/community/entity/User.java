@@ -3,6 +3,7 @@ package com.ktb.community.entity;
 import com.ktb.community.enums.UserRole;
 import com.ktb.community.enums.UserStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -11,8 +12,11 @@ import java.util.List;
 /**
  * 사용자 엔티티
  * DDL: users 테이블
+ * 2차 캐시: user 리전 (READ_WRITE, 변경 시 커밋 후 UserCacheEvictor로 명시적 제거)
  */
 @Entity
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -20,7 +24,10 @@ import java.util.List;
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "users", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "user_id")
     private Long userId;
 
@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 public class UserToken extends BaseCreatedTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_tokens_id")
+    @TableGenerator(name = "user_tokens_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "user_tokens", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "user_token_id")
     private Long userTokenId;
 
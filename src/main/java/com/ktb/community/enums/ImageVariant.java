@@ -0,0 +1,60 @@
+package com.ktb.community.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 변형 (리사이즈 사본) 종류
+ * - 원본 키/URL에서 접미사로 위치 결정 (DB에 변형별 URL 저장 X)
+ *   images/2025/10/11/{UUID}.png → images/2025/10/11/{UUID}_feed.png
+ * - 형식: PNG/GIF 원본 → PNG (투명도 유지), 그 외 → JPEG
+ * - 원본보다 크게 확대하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    AVATAR("avatar", 160, 160, true),     // 프로필 (정사각형 중앙 크롭)
+    FEED("feed", 640, 640, false),        // 목록 카드 (비율 유지, 640 박스 안)
+    DETAIL("detail", 1280, 1280, false);  // 상세 (비율 유지, 1280 박스 안)
+
+    private final String suffix;
+    private final int width;
+    private final int height;
+    private final boolean crop;  // true: 박스를 채우고 넘치는 부분 잘라냄, false: 박스 안에 맞춤
+
+    /**
+     * 원본 키 또는 URL → 변형 키 또는 URL
+     *
+     * @param original 원본 키/URL (예: images/2025/10/11/{UUID}.jpg)
+     * @return 변형 키/URL (예: images/2025/10/11/{UUID}_avatar.jpg)
+     */
+    public String derive(String original) {
+        int dot = extensionIndex(original);
+        String base = dot < 0 ? original : original.substring(0, dot);
+        return base + "_" + suffix + "." + formatOf(original);
+    }
+
+    /**
+     * 변형 저장 형식 (ImageIO 포맷명 겸 확장자)
+     *
+     * @return "png" (PNG/GIF 원본) 또는 "jpg"
+     */
+    public static String formatOf(String original) {
+        int dot = extensionIndex(original);
+        String extension = dot < 0 ? "" : original.substring(dot + 1).toLowerCase();
+        return extension.equals("png") || extension.equals("gif") ? "png" : "jpg";
+    }
+
+    /**
+     * 변형 Content-Type
+     */
+    public static String contentTypeOf(String original) {
+        return formatOf(original).equals("png") ? "image/png" : "image/jpeg";
+    }
+
+    private static int extensionIndex(String original) {
+        int dot = original.lastIndexOf('.');
+        return dot > original.lastIndexOf('/') ? dot : -1;
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.http.HttpStatus;
  * 사용 예시:
  * throw new BusinessException(ErrorCode.USER_NOT_FOUND);
  * throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS, "email: " + email);
+ *
+ * 스택 트레이스: ErrorCode.expected=true이고 원인 예외가 없으면 생성 생략
+ * (Spring/AOP 호출 스택 전체를 채우는 fillInStackTrace 비용 제거)
  */
 @Getter
 public class BusinessException extends RuntimeException {
@@ -21,7 +24,7 @@ public class BusinessException extends RuntimeException {
      * ErrorCode의 기본 메시지 사용
      */
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, !errorCode.isExpected());
         this.errorCode = errorCode;
     }
     
@@ -29,7 +32,7 @@ public class BusinessException extends RuntimeException {
      * 커스텀 메시지로 기본 메시지 오버라이드
      */
     public BusinessException(ErrorCode errorCode, String customMessage) {
-        super(customMessage);
+        super(customMessage, null, true, !errorCode.isExpected());
         this.errorCode = errorCode;
     }
     
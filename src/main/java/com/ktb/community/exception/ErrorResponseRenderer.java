@@ -0,0 +1,175 @@
+package com.ktb.community.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.dto.ApiResponse;
+import com.ktb.community.dto.ErrorDetails;
+import com.ktb.community.enums.ErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 사전 직렬화 에러 응답 렌더러
+ * - DispatcherServlet 진입 전(Filter)에서 ApiResponse 형식 에러 응답 작성 (write)
+ * - GlobalExceptionHandler의 기본 메시지 BusinessException 응답 body (render)
+ * - ErrorCode별 JSON을 최초 1회 직렬화 후 timestamp 앞/뒤 바이트로 분할 캐싱
+ * - 필터 전용 고정 응답(예: 401 상세 메시지)은 prepare로 동일하게 사전 직렬화
+ * - 요청마다 timestamp만 끼워 넣어 ObjectMapper 호출 없이 출력
+ *
+ * timestamp: 초 단위 앞부분(yyyy-MM-ddTHH:mm:ss)을 캐싱하고 밀리초 3자리만 매번 기록
+ * (ISO_LOCAL_DATE_TIME으로 파싱 가능, LocalDateTime 생성/포맷터 호출 없음)
+ *
+ * 응답 형식 (GlobalExceptionHandler와 동일):
+ * {"message":"COMMON-004","data":{"field":null,"details":"Too many requests"},"timestamp":"..."}
+ */
+@Component
+public class ErrorResponseRenderer {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final String TIMESTAMP_TAIL = "null}";
+    private static final byte[] TIMESTAMP_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int TIMESTAMP_LENGTH = 23;  // yyyy-MM-ddTHH:mm:ss.SSS
+
+    private final ObjectMapper objectMapper;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final Map<ErrorCode, PreparedError> templates = new EnumMap<>(ErrorCode.class);
+
+    /**
+     * 마지막으로 포맷한 초와 그 앞부분 바이트 (초가 바뀔 때만 교체)
+     */
+    private volatile SecondPrefix secondPrefix = new SecondPrefix(Long.MIN_VALUE, null);
+
+    public ErrorResponseRenderer(ObjectMapper objectMapper) throws JsonProcessingException {
+        this.objectMapper = objectMapper;
+        // 기동 시 전체 ErrorCode 템플릿 생성 (이후 읽기 전용 → 동기화 불필요)
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            templates.put(errorCode, prepare(errorCode.getCode(), errorCode.getMessage(), errorCode.getHttpStatus()));
+        }
+    }
+
+    /**
+     * 사전 직렬화된 고정 에러 응답
+     * - prefix: timestamp 값 앞까지의 JSON 바이트 (여는 따옴표 포함)
+     * - prefix == null: 직렬화 형식이 예상과 달라 매 요청 ObjectMapper 사용
+     */
+    public static final class PreparedError {
+        private final int status;
+        private final String message;
+        private final String details;
+        private final byte[] prefix;
+
+        private PreparedError(int status, String message, String details, byte[] prefix) {
+            this.status = status;
+            this.message = message;
+            this.details = details;
+            this.prefix = prefix;
+        }
+    }
+
+    private record SecondPrefix(long epochSecond, byte[] bytes) {}
+
+    /**
+     * 고정 에러 응답 사전 직렬화 (기동 시 1회 호출용)
+     *
+     * @param message ApiResponse message (에러 코드 문자열, 예: "AUTH-002")
+     * @param details ErrorDetails details
+     * @param status HTTP 상태
+     */
+    public PreparedError prepare(String message, String details, HttpStatus status) throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(new ApiResponse<>(
+                message, ErrorDetails.of(details), null));
+
+        if (!json.endsWith(TIMESTAMP_TAIL)) {
+            return new PreparedError(status.value(), message, details, null);
+        }
+
+        String prefix = json.substring(0, json.length() - TIMESTAMP_TAIL.length()) + "\"";
+        return new PreparedError(status.value(), message, details, prefix.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * ErrorCode 응답 작성 (status, Content-Type, Content-Length, body)
+     *
+     * @param response HTTP 응답
+     * @param errorCode 에러 코드 (details는 ErrorCode 기본 메시지)
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        write(response, templates.get(errorCode));
+    }
+
+    /**
+     * 사전 직렬화 응답 작성 (status, Content-Type, Content-Length, body)
+     */
+    public void write(HttpServletResponse response, PreparedError error) throws IOException {
+        byte[] body = body(error);
+
+        response.setStatus(error.status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * ErrorCode 응답 body 바이트 (GlobalExceptionHandler용, status/헤더는 호출자가 설정)
+     *
+     * @param errorCode 에러 코드 (details는 ErrorCode 기본 메시지)
+     * @return ApiResponse JSON 바이트
+     */
+    public byte[] render(ErrorCode errorCode) throws JsonProcessingException {
+        return body(templates.get(errorCode));
+    }
+
+    /**
+     * prefix + timestamp + suffix를 단일 배열로 조립
+     */
+    private byte[] body(PreparedError error) throws JsonProcessingException {
+        if (error.prefix == null) {
+            return objectMapper.writeValueAsBytes(ApiResponse.error(error.message, ErrorDetails.of(error.details)));
+        }
+
+        byte[] prefix = error.prefix;
+        byte[] body = new byte[prefix.length + TIMESTAMP_LENGTH + TIMESTAMP_SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        writeTimestamp(body, prefix.length, System.currentTimeMillis());
+        System.arraycopy(TIMESTAMP_SUFFIX, 0, body, prefix.length + TIMESTAMP_LENGTH, TIMESTAMP_SUFFIX.length);
+        return body;
+    }
+
+    /**
+     * 현재 시각을 yyyy-MM-ddTHH:mm:ss.SSS (시스템 기본 타임존, LocalDateTime.now()와 동일 기준)로 기록
+     */
+    void writeTimestamp(byte[] dst, int offset, long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        int millis = (int) Math.floorMod(epochMillis, 1000);
+
+        SecondPrefix cached = secondPrefix;
+        if (cached.epochSecond() != epochSecond) {
+            ZoneOffset zoneOffset = zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+            byte[] bytes = SECOND_FORMATTER.format(LocalDateTime.ofEpochSecond(epochSecond, 0, zoneOffset))
+                    .getBytes(StandardCharsets.US_ASCII);
+            cached = new SecondPrefix(epochSecond, bytes);
+            secondPrefix = cached;  // 경합 시 같은 값으로 덮어쓰므로 무해
+        }
+
+        byte[] bytes = cached.bytes();
+        System.arraycopy(bytes, 0, dst, offset, bytes.length);
+        int position = offset + bytes.length;
+        dst[position] = '.';
+        dst[position + 1] = (byte) ('0' + millis / 100);
+        dst[position + 2] = (byte) ('0' + millis / 10 % 10);
+        dst[position + 3] = (byte) ('0' + millis % 10);
+    }
+}
@@ -1,10 +1,13 @@
 package com.ktb.community.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ktb.community.dto.ApiResponse;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.dto.ErrorDetails;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,7 +25,10 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+
+    private final ErrorResponseRenderer errorResponseRenderer;
     
     /**
      * 파일 크기 초과 예외 처리
@@ -51,8 +58,17 @@ public class GlobalExceptionHandler {
      * @return ErrorCode에 정의된 HTTP 상태 코드와 에러 응답
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResponse<ErrorDetails>> handleBusinessException(BusinessException ex) {
+    public ResponseEntity<?> handleBusinessException(BusinessException ex) throws JsonProcessingException {
         ErrorCode errorCode = ex.getErrorCode();
+
+        // 예상된 예외 + 기본 메시지: 사전 직렬화 body 사용 (429 폭주 시 ObjectMapper/경고 로그 생략)
+        if (errorCode.isExpected() && errorCode.getMessage().equals(ex.getMessage())) {
+            log.debug("[Error] 비즈니스 예외: {}", errorCode.getCode());
+            return ResponseEntity.status(errorCode.getHttpStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponseRenderer.render(errorCode));
+        }
+
         log.warn("[Error] 비즈니스 예외: {} - {}", errorCode.getCode(), ex.getMessage());
         
         ErrorDetails errorDetails = ErrorDetails.of(ex.getMessage());
@@ -151,7 +167,15 @@ public class GlobalExceptionHandler {
      * @return 500 Internal Server Error
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<ErrorDetails>> handleGeneralException(Exception ex) {
+    public ResponseEntity<?> handleGeneralException(Exception ex) throws JsonProcessingException {
+
+        // 커넥션 획득 실패 (ConnectionGuardDataSource 대기 상한/시간 초과) → 503
+        if (isConnectionUnavailable(ex)) {
+            log.warn("[Error] DB 커넥션 획득 실패: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponseRenderer.render(ErrorCode.SERVICE_UNAVAILABLE));
+        }
 
         log.error("[Error] 예상치 못한 서버 오류 발생", ex);
 
@@ -160,4 +184,16 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    /**
+     * 원인 체인에 커넥션 획득 실패(SQLTransientConnectionException)가 있는지 확인
+     */
+    private static boolean isConnectionUnavailable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,21 +1,22 @@
 package com.ktb.community.filter;
 
-import com.ktb.community.dto.ApiResponse;
-import com.ktb.community.dto.ErrorDetails;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ktb.community.exception.ErrorResponseRenderer;
+import com.ktb.community.exception.ErrorResponseRenderer.PreparedError;
 import com.ktb.community.security.JwtTokenProvider;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.Set;
 
 /**
@@ -23,16 +24,33 @@ import java.util.Set;
  * - 순서: 1 (가장 먼저 실행)
  * - 공개 엔드포인트는 통과
  * - JWT 검증 후 Request Attribute에 userId 저장
+ * - TokenRevocationList로 폐기된 토큰 거부
  * - SessionAuthenticationFilter 패턴 재사용
  */
 @Slf4j
 @Component
 @Order(1)
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter implements Filter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final ObjectMapper objectMapper;
+    private final TokenRevocationList tokenRevocationList;
+    private final ErrorResponseRenderer errorResponseRenderer;
+
+    // 401 응답 (기동 시 사전 직렬화, 요청마다 timestamp만 기록)
+    private final PreparedError noToken;
+    private final PreparedError invalidToken;
+    private final PreparedError revokedToken;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   TokenRevocationList tokenRevocationList,
+                                   ErrorResponseRenderer errorResponseRenderer) throws JsonProcessingException {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.errorResponseRenderer = errorResponseRenderer;
+        this.noToken = errorResponseRenderer.prepare("AUTH-002", "No access token", HttpStatus.UNAUTHORIZED);
+        this.invalidToken = errorResponseRenderer.prepare("AUTH-002", "Invalid or expired token", HttpStatus.UNAUTHORIZED);
+        this.revokedToken = errorResponseRenderer.prepare("AUTH-002", "Revoked token", HttpStatus.UNAUTHORIZED);
+    }
 
     // 공개 엔드포인트 (인증 불필요)
     private static final Set<String> PUBLIC_PATHS = Set.of(
@@ -72,14 +90,13 @@ public class JwtAuthenticationFilter implements Filter {
 
             // JWT 추출 시도
             String jwt = extractJwt(req);
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                if (userId != null) {
-                    req.setAttribute("userId", userId);
-                    log.debug("[JwtFilter] 로그인 상태로 공개 엔드포인트 접근: userId={}", userId);
-                }
+            Claims claims = jwt != null ? jwtTokenProvider.parseClaims(jwt) : null;
+            if (claims != null && !isRevoked(claims)) {
+                Long userId = Long.parseLong(claims.getSubject());
+                req.setAttribute("userId", userId);
+                log.debug("[JwtFilter] 로그인 상태로 공개 엔드포인트 접근: userId={}", userId);
             }
-            // JWT 없거나 유효하지 않아도 통과
+            // JWT 없거나 유효하지 않거나 폐기되어도 통과 (비로그인 취급)
 
             chain.doFilter(request, response);
             return;
@@ -88,23 +105,26 @@ public class JwtAuthenticationFilter implements Filter {
         // JWT 추출 (Cookie → Authorization header)
         String jwt = extractJwt(req);
         if (jwt == null) {
-            sendUnauthorized(res, "No access token");
+            sendUnauthorized(res, noToken);
             return;
         }
 
-        // JWT 검증
-        if (!jwtTokenProvider.validateToken(jwt)) {
-            sendUnauthorized(res, "Invalid or expired token");
+        // JWT 검증 + payload 추출 (서명 검증 1회)
+        Claims claims = jwtTokenProvider.parseClaims(jwt);
+        if (claims == null) {
+            sendUnauthorized(res, invalidToken);
             return;
         }
 
-        // JWT payload에서 userId 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-        if (userId == null) {
-            sendUnauthorized(res, "Invalid token payload");
+        // 폐기 목록 확인 (로그아웃, 비밀번호 변경, 탈퇴)
+        if (isRevoked(claims)) {
+            sendUnauthorized(res, revokedToken);
             return;
         }
 
+        // JWT payload에서 userId 추출
+        Long userId = Long.parseLong(claims.getSubject());
+
         // Request Attribute에 userId 저장
         req.setAttribute("userId", userId);
         log.debug("[JwtFilter] 인증 성공");
@@ -112,6 +132,16 @@ public class JwtAuthenticationFilter implements Filter {
         chain.doFilter(request, response);
     }
 
+    /**
+     * 폐기 여부 (Bloom Filter 음성이면 해시 확인만으로 종료)
+     */
+    private boolean isRevoked(Claims claims) {
+        return tokenRevocationList.isRevoked(
+                claims.getId(),
+                Long.parseLong(claims.getSubject()),
+                claims.getIssuedAt().getTime());
+    }
+
     /**
      * 공개 엔드포인트 판단
      */
@@ -131,8 +161,14 @@ public class JwtAuthenticationFilter implements Filter {
         }
 
         // 3. /images/* 경로 (POST /images, POST /images/metadata는 인증 불필요)
-        //    단, GET /images/presigned-url은 인증 필요 (토큰 발급이므로)
-        if (normalizedUri.startsWith("/images/") && !normalizedUri.equals("/images/presigned-url")) {
+        //    단, GET /images/presigned-url, POST /images/presigned-urls는 인증 필요 (토큰 발급이므로)
+        if (normalizedUri.startsWith("/images/") && !normalizedUri.equals("/images/presigned-url")
+                && !normalizedUri.equals("/images/presigned-urls")) {
+            return true;
+        }
+
+        // 3-1. 로컬 객체 저장소 (storage.type=local): GET 공개 파일, PUT은 서명 URL로 검증
+        if (normalizedUri.startsWith("/storage/")) {
             return true;
         }
 
@@ -166,21 +202,10 @@ public class JwtAuthenticationFilter implements Filter {
     }
 
     /**
-     * 401 Unauthorized 응답
+     * 401 Unauthorized 응답 (사전 직렬화 바이트 출력)
      */
-    private void sendUnauthorized(HttpServletResponse response, String message) throws IOException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json;charset=UTF-8");
-
-        ErrorDetails errorDetails = ErrorDetails.of(message);
-        ApiResponse<ErrorDetails> apiResponse = ApiResponse.error("AUTH-002", errorDetails);
-        apiResponse = new ApiResponse<>(
-                apiResponse.getMessage(),
-                apiResponse.getData(),
-                LocalDateTime.now()
-        );
-
-        response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
-        log.warn("[JwtFilter] 인증 실패: {}", message);
+    private void sendUnauthorized(HttpServletResponse response, PreparedError error) throws IOException {
+        errorResponseRenderer.write(response, error);
+        log.debug("[JwtFilter] 인증 실패");
     }
 }
@@ -0,0 +1,161 @@
+package com.ktb.community.filter;
+
+import com.ktb.community.config.RateLimit;
+import com.ktb.community.config.RateLimiter;
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.ErrorResponseRenderer;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rate Limit 필터 (rate-limit.mode=filter)
+ * - 순서: 2 (JwtAuthenticationFilter 다음 → userId 기반 키 유지)
+ * - DispatcherServlet 진입 전에 제한 초과 요청 차단
+ *   (핸들러 매핑, 인자 바인딩, @Valid, 요청 body 읽기 모두 생략)
+ * - 기동 시 @RateLimit 핸들러를 (HTTP 메서드, 경로) 라우팅 테이블로 변환
+ * - 429 응답은 ErrorResponseRenderer의 사전 직렬화 바이트로 출력
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.mode", havingValue = "filter")
+public class RateLimitFilter implements Filter {
+
+    private final RateLimiter rateLimiter;
+    private final ErrorResponseRenderer errorResponseRenderer;
+
+    /**
+     * HTTP 메서드별 라우팅 테이블 (기동 후 교체, 이후 읽기 전용)
+     */
+    private volatile Map<String, Routes> routes = Map.of();
+
+    /**
+     * 메서드별 라우트
+     *
+     * @param exact 고정 경로 → 엔드포인트 (예: /auth/login)
+     * @param patterns 경로 변수 포함 패턴 (예: /posts/{postId}/like)
+     */
+    private record Routes(Map<String, RateLimiter.Endpoint> exact, List<PatternRoute> patterns) {}
+
+    private record PatternRoute(PathPattern pattern, RateLimiter.Endpoint endpoint) {}
+
+    /**
+     * 기동 시 @RateLimit 핸들러 → 라우팅 테이블 생성
+     */
+    @EventListener
+    public void registerRoutes(ContextRefreshedEvent event) {
+        Map<String, Routes> table = new HashMap<>();
+        int count = 0;
+
+        for (RequestMappingHandlerMapping mapping : event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry
+                    : mapping.getHandlerMethods().entrySet()) {
+                Method method = entry.getValue().getMethod();
+                RateLimit rateLimit = AnnotatedElementUtils.findMergedAnnotation(method, RateLimit.class);
+                if (rateLimit == null) {
+                    continue;
+                }
+
+                RateLimiter.Endpoint endpoint = rateLimiter.resolveEndpoint(method, rateLimit);
+                RequestMappingInfo info = entry.getKey();
+                Set<RequestMethod> httpMethods = info.getMethodsCondition().getMethods();
+                if (httpMethods.isEmpty()) {
+                    httpMethods = Set.of(RequestMethod.values());
+                }
+
+                for (RequestMethod httpMethod : httpMethods) {
+                    Routes methodRoutes = table.computeIfAbsent(httpMethod.name(),
+                            m -> new Routes(new HashMap<>(), new ArrayList<>()));
+                    for (String path : info.getPatternValues()) {
+                        if (path.indexOf('{') < 0 && path.indexOf('*') < 0) {
+                            methodRoutes.exact().put(path, endpoint);
+                        } else {
+                            methodRoutes.patterns().add(
+                                    new PatternRoute(PathPatternParser.defaultInstance.parse(path), endpoint));
+                        }
+                        count++;
+                    }
+                }
+            }
+        }
+
+        // 구체적인 패턴 우선 (Spring MVC 매칭 우선순위와 동일)
+        table.values().forEach(methodRoutes -> methodRoutes.patterns()
+                .sort((a, b) -> PathPattern.SPECIFICITY_COMPARATOR.compare(a.pattern(), b.pattern())));
+
+        this.routes = table;
+        log.info("[RateLimit] 필터 모드 라우트 등록 완료: {}개", count);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest req = (HttpServletRequest) request;
+        RateLimiter.Endpoint endpoint = match(req);
+
+        if (endpoint != null && !rateLimiter.tryAcquire(endpoint, req)) {
+            errorResponseRenderer.write((HttpServletResponse) response, ErrorCode.TOO_MANY_REQUESTS);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * 요청 → @RateLimit 엔드포인트 매칭
+     * - 고정 경로: HashMap 조회 1회
+     * - 패턴 경로: 해당 HTTP 메서드의 패턴만 순회
+     *
+     * @return 엔드포인트 (제한 대상 아니면 null)
+     */
+    private RateLimiter.Endpoint match(HttpServletRequest request) {
+        Routes methodRoutes = routes.get(request.getMethod());
+        if (methodRoutes == null) {
+            return null;
+        }
+
+        // ALB 경로 기반 라우팅: /api/v1/* 접두사 제거 (있는 경우)
+        String uri = request.getRequestURI();
+        String path = uri.startsWith("/api/v1") ? uri.substring(7) : uri;
+
+        RateLimiter.Endpoint endpoint = methodRoutes.exact().get(path);
+        if (endpoint != null || methodRoutes.patterns().isEmpty()) {
+            return endpoint;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PatternRoute route : methodRoutes.patterns()) {
+            if (route.pattern().matches(pathContainer)) {
+                return route.endpoint();
+            }
+        }
+        return null;
+    }
+}
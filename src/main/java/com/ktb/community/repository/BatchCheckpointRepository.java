@@ -0,0 +1,67 @@
+package com.ktb.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배치 작업 진행 위치 저장소 (batch_checkpoints 테이블)
+ * - 중단된 배치(시간 예산 초과, 재배포)가 처음부터 다시 스캔하지 않고 이어서 처리
+ * - keyset 커서 (정렬 시각, ID) 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * keyset 커서 (이 위치까지 처리 완료)
+     *
+     * @param sortKey 정렬 기준 시각 (예: images.expires_at)
+     * @param id 같은 시각 내 정렬 기준 ID
+     */
+    public record Cursor(LocalDateTime sortKey, long id) {}
+
+    public Optional<Cursor> find(String jobName) {
+        List<Cursor> rows = jdbcTemplate.query(
+                "SELECT cursor_sort_key, cursor_id FROM batch_checkpoints WHERE job_name = ?",
+                (rs, rowNum) -> new Cursor(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                jobName);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    public void save(String jobName, Cursor cursor) {
+        Timestamp sortKey = Timestamp.valueOf(cursor.sortKey());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_checkpoints SET cursor_sort_key = ?, cursor_id = ?, updated_at = ? WHERE job_name = ?",
+                sortKey, cursor.id(), now, jobName);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO batch_checkpoints (job_name, cursor_sort_key, cursor_id, updated_at) VALUES (?, ?, ?, ?)",
+                        jobName, sortKey, cursor.id(), now);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 생성 → 갱신으로 재시도
+                jdbcTemplate.update(
+                        "UPDATE batch_checkpoints SET cursor_sort_key = ?, cursor_id = ?, updated_at = ? WHERE job_name = ?",
+                        sortKey, cursor.id(), now, jobName);
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 제거 (전체 스캔 완료 → 다음 실행은 처음부터)
+     */
+    public void delete(String jobName) {
+        jdbcTemplate.update("DELETE FROM batch_checkpoints WHERE job_name = ?", jobName);
+    }
+}
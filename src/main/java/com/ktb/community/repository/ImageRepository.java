@@ -1,13 +1,18 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.Image;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 이미지 Repository
@@ -17,25 +22,127 @@ import java.util.List;
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
     /**
-     * 만료된 이미지 조회 (고아 이미지 배치용)
-     * - expires_at < 지정 시간
-     * - idx_images_expires 인덱스 활용
+     * 정리 배치용 이미지 행 (엔티티 적재 없이 삭제에 필요한 컬럼만)
      */
-    List<Image> findByExpiresAtBefore(LocalDateTime dateTime);
+    interface CleanupRow {
+        Long getImageId();
+        String getImageUrl();
+        LocalDateTime getReleasedAt();
+        Boolean getVariantsReady();
+    }
 
     /**
-     * 이미지 URL 존재 여부 확인 (Lambda 메타데이터 등록 시 중복 체크)
+     * 참조 획득 (프로필/게시글 연결 시)
+     * - ref_count + 1, released_at / expires_at 해제
+     * - 해제 후 유예 시간이 지난 이미지(ref_count = 0 AND released_at < releasedAfter)는 거부
+     *   → 정리 배치가 이미 선택해 저장소 객체를 삭제 중일 수 있음 (claimForReuse와 동일 기준)
+     * - 벌크 UPDATE → 2차 캐시 image 리전 무효화 (연결/해제는 조회 대비 드묾)
+     *
+     * @param releasedAfter 현재 시각 - 유예 시간 (image-cleanup.release-grace-ms)
+     * @return 갱신된 행 수 (0 = 이미지 없음 또는 정리 대상)
      */
-    boolean existsByImageUrl(String imageUrl);
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.releasedAt = NULL, i.expiresAt = NULL, i.refCount = i.refCount + 1 " +
+           "WHERE i.imageId = :imageId " +
+           "AND (i.refCount > 0 OR i.releasedAt IS NULL OR i.releasedAt >= :releasedAfter)")
+    int acquireReference(@Param("imageId") Long imageId, @Param("releasedAfter") LocalDateTime releasedAfter);
+
+    /**
+     * 참조 일괄 획득 (게시글 다중 이미지 연결 시)
+     * - acquireReference와 동일, 이미지 수와 무관하게 UPDATE 1회
+     *
+     * @return 갱신된 행 수 (imageIds 수보다 작으면 일부가 없거나 정리 대상)
+     */
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.releasedAt = NULL, i.expiresAt = NULL, i.refCount = i.refCount + 1 " +
+           "WHERE i.imageId IN :imageIds " +
+           "AND (i.refCount > 0 OR i.releasedAt IS NULL OR i.releasedAt >= :releasedAfter)")
+    int acquireReferences(@Param("imageIds") Collection<Long> imageIds,
+                          @Param("releasedAfter") LocalDateTime releasedAfter);
+
+    /**
+     * 참조 해제 (프로필/게시글 연결 해제 시)
+     * - ref_count - 1, 0이 되는 이미지는 released_at = now
+     * - released_at을 ref_count보다 먼저 SET (MySQL은 앞선 SET 결과를 이후 식에서 사용)
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.releasedAt = CASE WHEN i.refCount = 1 THEN :now ELSE i.releasedAt END, " +
+           "i.refCount = i.refCount - 1 " +
+           "WHERE i.imageId IN :imageIds AND i.refCount > 0")
+    int releaseReferences(@Param("imageIds") Collection<Long> imageIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 해제된 이미지 첫 청크 조회 (정리 배치용)
+     * - ref_count = 0 AND released_at < threshold, (released_at, image_id) 순
+     * - idx_images_gc (ref_count, released_at) 인덱스 순서 그대로 읽음 (InnoDB 보조 인덱스는 PK 포함 → filesort 없음)
+     */
+    @Query("SELECT i.imageId AS imageId, i.imageUrl AS imageUrl, i.releasedAt AS releasedAt, " +
+           "i.variantsReady AS variantsReady FROM Image i " +
+           "WHERE i.refCount = 0 AND i.releasedAt < :threshold " +
+           "ORDER BY i.releasedAt, i.imageId")
+    List<CleanupRow> findReleasedChunk(@Param("threshold") LocalDateTime threshold, Limit limit);
+
+    /**
+     * 해제된 이미지 다음 청크 조회 (keyset: 직전 청크 마지막 행 이후)
+     * - 삭제 실패로 남은 행은 커서가 지나가므로 같은 실행에서 재조회되지 않음
+     */
+    @Query("SELECT i.imageId AS imageId, i.imageUrl AS imageUrl, i.releasedAt AS releasedAt, " +
+           "i.variantsReady AS variantsReady FROM Image i " +
+           "WHERE i.refCount = 0 AND i.releasedAt < :threshold " +
+           "AND (i.releasedAt > :afterReleasedAt OR (i.releasedAt = :afterReleasedAt AND i.imageId > :afterId)) " +
+           "ORDER BY i.releasedAt, i.imageId")
+    List<CleanupRow> findReleasedChunkAfter(@Param("threshold") LocalDateTime threshold,
+                                            @Param("afterReleasedAt") LocalDateTime afterReleasedAt,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
 
     /**
-     * 영구 고아 이미지 조회 (7일 안전 마진)
-     * - expires_at IS NULL + 아무 곳에도 연결되지 않은 이미지
+     * 참조 없는 이미지만 삭제 (조회 이후 다시 연결된 이미지는 유지)
+     * - 정리 배치(트랜잭션 밖)에서 호출 → 메서드 단위 트랜잭션
+     *
+     * @return 삭제된 행 수
      */
-    @Query("SELECT i FROM Image i " +
-           "WHERE i.expiresAt IS NULL " +
-           "AND i.createdAt < :threshold " +
-           "AND NOT EXISTS (SELECT u FROM User u WHERE u.profileImage = i) " +
-           "AND NOT EXISTS (SELECT pi FROM PostImage pi WHERE pi.image = i)")
-    List<Image> findPermanentOrphans(@Param("threshold") LocalDateTime threshold);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Image i WHERE i.imageId IN :imageIds AND i.refCount = 0")
+    int deleteUnreferenced(@Param("imageIds") Collection<Long> imageIds);
+
+    /**
+     * 내용 해시로 이미지 조회 (중복 업로드 판별, uq_images_content_hash)
+     */
+    Optional<Image> findByContentHash(String contentHash);
+
+    /**
+     * 중복 업로드 재사용 선점
+     * - 참조 중이거나 reuseAfter 이후 해제된 이미지만 재사용 (정리 배치가 곧 삭제할 이미지 제외)
+     * - 미참조 이미지는 released_at = now → 정리 유예 시간 재시작 (연결 전 삭제 방지)
+     * - 업로드 요청(트랜잭션 밖)에서 호출 → 메서드 단위 트랜잭션
+     *
+     * @return 갱신된 행 수 (0 = 재사용 불가, 새 객체로 업로드)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.releasedAt = CASE WHEN i.refCount = 0 THEN :now ELSE i.releasedAt END " +
+           "WHERE i.imageId = :imageId AND (i.refCount > 0 OR i.releasedAt > :reuseAfter)")
+    int claimForReuse(@Param("imageId") Long imageId,
+                      @Param("now") LocalDateTime now,
+                      @Param("reuseAfter") LocalDateTime reuseAfter);
+
+    /**
+     * 리사이즈 변형 저장 완료 표시 (ImageVariantService 워커 스레드, 트랜잭션 밖)
+     * - 벌크 UPDATE → 2차 캐시 image 리전 무효화 → 다음 조회부터 변형 URL 응답
+     *
+     * @return 갱신된 행 수 (0 = 생성 중 이미지 삭제됨)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = false)
+    @Query("UPDATE Image i SET i.variantsReady = true WHERE i.imageId = :imageId")
+    int markVariantsReady(@Param("imageId") Long imageId);
+
+    /**
+     * 이미지 URL 존재 여부 확인 (Lambda 메타데이터 등록 시 중복 체크)
+     */
+    boolean existsByImageUrl(String imageUrl);
 }
@@ -2,8 +2,11 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.User;
 import com.ktb.community.enums.UserStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +17,11 @@ import java.util.Optional;
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    /**
+     * 상태 조건 조회 쿼리 캐시 리전
+     */
+    String USER_STATUS_QUERY_REGION = "user-status";
     
     /**
      * 이메일로 사용자 조회
@@ -42,7 +50,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     /**
      * 사용자 ID와 상태로 조회
+     * - 쿼리 캐시(user-status 리전): 결과 ID만 캐싱, 엔티티는 user 리전에서 조회
+     * - users 테이블 변경 시 Hibernate가 해당 쿼리 캐시 자동 무효화
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = USER_STATUS_QUERY_REGION)
+    })
     Optional<User> findByUserIdAndUserStatus(Long userId, UserStatus userStatus);
     
     /**
@@ -53,6 +67,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 사용자 ID와 상태 목록으로 존재 확인 (ACTIVE + INACTIVE 등)
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = USER_STATUS_QUERY_REGION)
+    })
     boolean existsByUserIdAndUserStatusIn(Long userId, java.util.List<UserStatus> statuses);
     
     /**
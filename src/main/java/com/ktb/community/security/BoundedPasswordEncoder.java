@@ -0,0 +1,153 @@
+package com.ktb.community.security;
+
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 전용 워커 풀 PasswordEncoder (Decorator)
+ * - encode/matches를 고정 크기 스레드 풀 + 제한된 큐에서 실행
+ * - 큐 초과 시 즉시 TOO_MANY_REQUESTS (대기 없이 fail-fast)
+ * - 로그인 폭주 시에도 CPU 해시가 워커 수만큼만 동시에 실행되어 조회 API 지연 격리
+ *
+ * 메트릭:
+ * - password.hash.queue.wait: 큐 대기 시간 (op=encode|matches)
+ * - password.hash.duration: 해시 실행 시간 (op=encode|matches)
+ * - password.hash.rejected: 큐 초과/대기 시간 초과로 거절된 요청 수
+ * - password.hash.queue.size: 현재 큐 적재량
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    private final Timer encodeQueueWait;
+    private final Timer matchesQueueWait;
+    private final Timer encodeDuration;
+    private final Timer matchesDuration;
+    private final Counter rejected;
+
+    /**
+     * @param delegate 실제 해시 구현 (BCryptPasswordEncoder)
+     * @param poolSize 동시 해시 워커 수
+     * @param queueCapacity 대기 큐 크기 (초과 시 거절)
+     * @param waitTimeoutMillis 호출 스레드 최대 대기 시간 (큐 대기 + 해시)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int poolSize,
+                                  int queueCapacity,
+                                  long waitTimeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeQueueWait = Timer.builder("password.hash.queue.wait").tag("op", "encode").register(meterRegistry);
+        this.matchesQueueWait = Timer.builder("password.hash.queue.wait").tag("op", "matches").register(meterRegistry);
+        this.encodeDuration = Timer.builder("password.hash.duration").tag("op", "encode").register(meterRegistry);
+        this.matchesDuration = Timer.builder("password.hash.duration").tag("op", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeQueueWait, encodeDuration);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesQueueWait, matchesDuration);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 계산 없음 (prefix/strength 비교만) → 호출 스레드에서 직접 실행
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 워커 풀에 해시 작업 제출 후 결과 대기
+     * - 큐 초과: 즉시 TOO_MANY_REQUESTS
+     * - 대기 시간 초과: 작업 취소 후 TOO_MANY_REQUESTS
+     */
+    private <T> T submit(Callable<T> task, Timer queueWait, Timer duration) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[PasswordEncoder] 해시 큐 포화로 요청 거절: queueSize={}", executor.getQueue().size());
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("[PasswordEncoder] 해시 대기 시간 초과: timeout={}ms", waitTimeoutMillis);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Password hashing failed", cause);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 워커 풀 정리
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 핵심 컴포넌트.
@@ -29,6 +30,7 @@ public class JwtTokenProvider {
     private final SecretKey secretKey;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
@@ -37,16 +39,19 @@ public class JwtTokenProvider {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();  // 불변, 스레드 안전
     }
 
     /**
      * Access Token 생성 (15분)
+     * - jti: 토큰 단위 폐기용 ID (TokenRevocationList)
      */
     public String createAccessToken(Long userId, String email, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenValidity);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
                 .claim("email", email)
                 .claim("role", role)
@@ -89,6 +94,20 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * JWT 토큰 검증 + Claims 추출 (서명 검증 1회)
+     *
+     * @return Claims (유효하지 않으면 null)
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * JWT 토큰에서 사용자 ID 추출
      */
@@ -0,0 +1,203 @@
+package com.ktb.community.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Access Token 폐기 목록 (인메모리)
+ * - 로그아웃: 토큰 ID(jti) 단위 폐기
+ * - 비밀번호 변경/탈퇴: 사용자 단위 폐기 (기준 시각 이전 발급 토큰 전체)
+ * - 항목은 Access Token 최대 유효 시간까지만 유지 후 정리
+ *
+ * 조회 구조:
+ * - Bloom Filter (jti, userId 키) → 음성이면 즉시 통과 (요청 대부분)
+ * - 양성일 때만 정확 집합(ConcurrentHashMap) 확인 → 오탐으로 인한 오거부 없음
+ * - Bloom Filter는 삭제 불가 → 2세대 회전 (AT 유효 시간마다 이전 세대 폐기)
+ *
+ * 동기화: 추가/회전은 synchronized (드묾), 조회는 잠금 없음
+ *
+ * 한계: 인스턴스 로컬 (다중 인스턴스 환경에서는 폐기한 인스턴스에서만 즉시 반영)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final int HASH_COUNT = 5;
+
+    private final int bloomBits;
+    private final long retentionMillis;
+
+    /**
+     * jti → 토큰 만료 시각 (epoch millis)
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * userId → 폐기 기준 시각 (epoch millis, 이 시각 이전 발급 토큰 거부)
+     */
+    private final Map<Long, Long> userCutoffs = new ConcurrentHashMap<>();
+
+    /**
+     * Bloom Filter 세대 (현재 세대에만 추가, 조회는 두 세대 모두)
+     */
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+
+    public TokenRevocationList(@Value("${jwt.revocation.bloom-bits:1048576}") int bloomBits,
+                               @Value("${jwt.access-token-validity}") long accessTokenValidity) {
+        this.bloomBits = Math.max(64, Integer.highestOneBit(bloomBits));
+        this.retentionMillis = accessTokenValidity;
+        this.current = new AtomicLongArray(this.bloomBits >>> 6);
+        this.previous = new AtomicLongArray(this.bloomBits >>> 6);
+    }
+
+    /**
+     * 토큰 단위 폐기 (로그아웃)
+     *
+     * @param tokenId jti
+     * @param expiresAtMillis 토큰 만료 시각 (이후에는 서명 검증에서 거부되므로 보관 불필요)
+     */
+    public synchronized void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        // 정확 집합 먼저 기록 → Bloom 양성 시점에는 항상 조회 가능
+        revokedTokens.put(tokenId, expiresAtMillis);
+        addToBloom(tokenKey(tokenId));
+        log.debug("[TokenRevocation] 토큰 폐기");
+    }
+
+    /**
+     * 사용자 단위 폐기 (비밀번호 변경, 탈퇴)
+     * - JWT iat는 초 단위 → 기준 시각을 초 단위로 내림 (같은 초에 재발급된 토큰 허용)
+     */
+    public synchronized void revokeAllForUser(Long userId) {
+        long cutoff = System.currentTimeMillis() / 1000 * 1000;
+        userCutoffs.merge(userId, cutoff, Math::max);
+        addToBloom(userKey(userId));
+        log.info("[TokenRevocation] 사용자 토큰 일괄 폐기: userId={}", userId);
+    }
+
+    /**
+     * 사용자 단위 폐기 (트랜잭션 커밋 후)
+     * - 롤백 시 폐기하지 않음 (비밀번호/상태 변경이 취소됐는데 로그아웃되는 것 방지)
+     * - 트랜잭션 밖에서는 즉시 폐기
+     */
+    public void revokeAllForUserAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeAllForUser(userId);
+                }
+            });
+        } else {
+            revokeAllForUser(userId);
+        }
+    }
+
+    /**
+     * 폐기 여부 확인 (JwtAuthenticationFilter 요청당 1회)
+     *
+     * @param tokenId jti (없으면 사용자 단위 폐기만 확인)
+     * @param userId 토큰 subject
+     * @param issuedAtMillis 토큰 발급 시각
+     */
+    public boolean isRevoked(String tokenId, long userId, long issuedAtMillis) {
+        if (tokenId != null && mightContain(tokenKey(tokenId))
+                && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (mightContain(userKey(userId))) {
+            Long cutoff = userCutoffs.get(userId);
+            return cutoff != null && issuedAtMillis < cutoff;
+        }
+        return false;
+    }
+
+    /**
+     * 만료 항목 정리 + Bloom Filter 세대 회전 (AT 유효 시간마다)
+     * - 회전 시점 이전에 추가된 항목은 이전 세대로 최소 1주기 더 유지 → 보관 기간 ≥ AT 유효 시간
+     */
+    @Scheduled(fixedRateString = "${jwt.access-token-validity}",
+               initialDelayString = "${jwt.access-token-validity}")
+    public synchronized void rotate() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        userCutoffs.values().removeIf(cutoff -> cutoff + retentionMillis <= now);
+
+        previous = current;
+        current = new AtomicLongArray(bloomBits >>> 6);
+
+        // 정리 후 남은 항목은 새 세대에도 재등록 (이전 세대가 다음 회전에서 버려지므로)
+        revokedTokens.keySet().forEach(tokenId -> addToBloom(tokenKey(tokenId)));
+        userCutoffs.keySet().forEach(userId -> addToBloom(userKey(userId)));
+
+        log.debug("[TokenRevocation] 세대 회전: tokens={}, users={}", revokedTokens.size(), userCutoffs.size());
+    }
+
+    /**
+     * 폐기 항목 수 (jti + 사용자)
+     */
+    public int size() {
+        return revokedTokens.size() + userCutoffs.size();
+    }
+
+    private void addToBloom(long key) {
+        AtomicLongArray bits = current;
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (int) ((h1 + i * h2) & (bloomBits - 1));
+            int word = bit >>> 6;
+            bits.set(word, bits.get(word) | (1L << bit));  // 단일 writer (synchronized 구간)
+        }
+    }
+
+    private boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        return contains(current, h1, h2) || contains(previous, h1, h2);
+    }
+
+    private boolean contains(AtomicLongArray bits, long h1, long h2) {
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (int) ((h1 + i * h2) & (bloomBits - 1));
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 토큰 키 (하위 32bit)
+     */
+    private static long tokenKey(String tokenId) {
+        return tokenId.hashCode() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 사용자 키 (jti 해시와 구분되도록 상위 비트 표시)
+     */
+    private static long userKey(long userId) {
+        return userId | Long.MIN_VALUE;
+    }
+
+    /**
+     * 64bit 비트 혼합 (SplitMix64 finalizer)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -11,8 +11,10 @@ import com.ktb.community.repository.ImageRepository;
 import com.ktb.community.repository.UserRepository;
 import com.ktb.community.repository.UserTokenRepository;
 import com.ktb.community.security.JwtTokenProvider;
+import com.ktb.community.security.TokenRevocationList;
 // [JWT 전환] 세션 방식 (보존)
 // import com.ktb.community.session.SessionManager;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -45,6 +47,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final UserTokenRepository userTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
     private final ImageService imageService;
     private final ImageRepository imageRepository;
 
@@ -81,7 +84,7 @@ public class AuthService {
             image = imageRepository.findById(request.getImageId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
                             "Invalid or expired image ID: " + request.getImageId()));
-            image.clearExpiresAt();  // TTL 해제 → 영구 보존
+            imageService.acquireReference(image.getImageId());  // 참조 획득 → 정리 배치 대상 제외
             log.debug("[Auth] 회원가입 프로필 이미지 연결: imageId={}", image.getImageId());
         }
 
@@ -141,14 +144,25 @@ public class AuthService {
     /**
      * 로그아웃 (FR-AUTH-003)
      * - Refresh Token 삭제
+     * - Access Token 폐기 (만료 전 재사용 차단, 헤더로 전달된 경우)
      */
     @Transactional
-    public void logout(String refreshToken) {
+    public void logout(String refreshToken, String accessToken) {
         // [세션 방식] (보존)
         // sessionManager.deleteSession(sessionId);
 
         // [JWT 방식] RT 삭제
-        userTokenRepository.deleteByToken(refreshToken);
+        if (refreshToken != null) {
+            userTokenRepository.deleteByToken(refreshToken);
+        }
+
+        // AT 폐기 (유효한 토큰만, 만료 시각까지 보관)
+        if (accessToken != null) {
+            Claims claims = jwtTokenProvider.parseClaims(accessToken);
+            if (claims != null) {
+                tokenRevocationList.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
+        }
         log.info("[Auth] 로그아웃 완료");
     }
     
@@ -0,0 +1,53 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 통계 조회
+ * - hibernate.generate_statistics=true일 때만 값이 누적됨
+ * - 동일 값은 Micrometer(hibernate.second.level.cache.requests 등)로도 노출
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 리전별 적중률 (엔티티 리전 + 쿼리 캐시 리전, 이름순)
+     */
+    public List<CacheRegionStatsResponse> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+
+        List<CacheRegionStatsResponse> result = new ArrayList<>(regionNames.length);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            long requests = region.getHitCount() + region.getMissCount();
+            result.add(CacheRegionStatsResponse.builder()
+                    .region(regionName)
+                    .hitCount(region.getHitCount())
+                    .missCount(region.getMissCount())
+                    .putCount(region.getPutCount())
+                    .hitRatio(requests == 0 ? 0 : (double) region.getHitCount() / requests)
+                    .elementCount(region.getElementCountInMemory())
+                    .build());
+        }
+        return result;
+    }
+}
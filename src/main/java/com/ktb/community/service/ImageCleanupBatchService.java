@@ -1,182 +1,358 @@
 package com.ktb.community.service;
 
-import com.ktb.community.entity.Image;
-import com.ktb.community.enums.ErrorCode;
-import com.ktb.community.exception.BusinessException;
+import com.ktb.community.enums.ImageVariant;
+import com.ktb.community.repository.BatchCheckpointRepository;
+import com.ktb.community.repository.BatchCheckpointRepository.Cursor;
 import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.repository.ImageRepository.CleanupRow;
+import com.ktb.community.storage.ObjectStorage;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 이미지 정리 배치 서비스
- * - 고아 이미지 자동 삭제 (expires_at < NOW())
- * - 영구 고아 이미지 자동 삭제 (expires_at IS NULL + 7일 안전 마진)
+ * - 참조 없는 이미지 자동 삭제 (ref_count = 0 AND released_at < NOW() - 유예 시간)
  * - 매일 새벽 3시 실행
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ImageCleanupBatchService {
 
+    static final String RELEASED_CLEANUP_JOB = "image-cleanup-released";
+
     private final ImageRepository imageRepository;
-    private final S3Client s3Client;
-    private final ImageCleanupBatchService self;  // Self-injection for proxy access
+    private final ObjectStorage objectStorage;
+    private final BatchCheckpointRepository checkpointRepository;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    @Value("${image-cleanup.chunk-size:1000}")
+    private int chunkSize;
 
-    /**
-     * Self-injection 생성자 (@Lazy로 순환 의존성 방지)
-     */
-    public ImageCleanupBatchService(
-            ImageRepository imageRepository,
-            S3Client s3Client,
-            @Lazy ImageCleanupBatchService self
-    ) {
-        this.imageRepository = imageRepository;
-        this.s3Client = s3Client;
-        this.self = self;
-    }
+    @Value("${image-cleanup.workers:4}")
+    private int workers;
+
+    @Value("${image-cleanup.time-budget-ms:1800000}")
+    private long timeBudgetMs;
+
+    @Value("${image-cleanup.storage-keys-per-second:3000}")
+    private int storageKeysPerSecond;
+
+    @Value("${image-cleanup.release-grace-ms:3600000}")
+    private long releaseGraceMs;
 
     /**
      * 고아 이미지 정리 배치 작업 (FR-IMAGE-002)
      * - 스케줄: 매일 새벽 3시 (CRON: 0 0 3 * * ?)
-     * - TTL 만료 이미지 삭제 (S3 + DB Hard Delete)
-     * - Self-injection으로 REQUIRES_NEW 트랜잭션 보장
-     * 
+     * - 참조 해제 후 유예 시간(image-cleanup.release-grace-ms, 기본 1시간)이 지난 이미지 삭제 (저장소 + DB Hard Delete)
+     *   → 미연결 업로드, 게시글/프로필에서 제거된 이미지 모두 동일 조건 (연결 테이블 anti-join 없음)
+     * - keyset 청크 단위 처리 (image-cleanup.chunk-size, 기본 1000)
+     *   → 만료 이미지 전체를 메모리에 적재하지 않음, 청크당 저장소 일괄 삭제 1회 + DB DELETE 1회
+     * - 청크 스캔은 순차, 청크 삭제는 Virtual Thread 워커 병렬 (image-cleanup.workers, 동시 처리 청크 수 상한)
+     * - 저장소 삭제 속도 제한 (image-cleanup.storage-keys-per-second, 0 이하면 제한 없음)
+     * - 시간 예산 (image-cleanup.time-budget-ms) 초과 시 새 청크 스캔 중단
+     *
+     * 체크포인트 (batch_checkpoints):
+     * - 앞에서부터 연속으로 처리 완료된 청크의 마지막 (released_at, image_id) 저장
+     * - 중단된 실행은 다음 실행에서 체크포인트 이후부터 이어서 스캔
+     * - 전체 스캔 완료 시 제거 → 저장소 삭제 실패로 남은 행은 다음 전체 스캔에서 재시도
+     *
      * 상세: LLD.md Section 7.5 참조
      */
     @Scheduled(cron = "0 0 3 * * ?")
     public void cleanupOrphanImages() {
         log.info("[Batch] 고아 이미지 정리 배치 시작");
         long startTime = System.currentTimeMillis();
+        long deadline = startTime + timeBudgetMs;
 
-        LocalDateTime now = LocalDateTime.now();
-        List<Image> expiredImages = imageRepository.findByExpiresAtBefore(now);
-
-        if (expiredImages.isEmpty()) {
-            log.info("[Batch] 삭제할 고아 이미지 없음");
-            return;
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMillis(releaseGraceMs));
+        Cursor cursor = checkpointRepository.find(RELEASED_CLEANUP_JOB).orElse(null);
+        if (cursor != null) {
+            log.info("[Batch] 체크포인트에서 재개: releasedAt={}, imageId={}", cursor.sortKey(), cursor.id());
         }
 
-        int successCount = 0;
-        int failCount = 0;
+        Bucket storageLimiter = createStorageLimiter();
+        CheckpointTracker tracker = new CheckpointTracker();
+        Semaphore permits = new Semaphore(Math.max(1, workers));
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger skippedChunks = new AtomicInteger();
+        boolean scanCompleted = false;
+        int chunkCount = 0;
 
-        for (Image image : expiredImages) {
-            try {
-                // 프록시를 통해 호출하여 REQUIRES_NEW 트랜잭션 적용
-                self.deleteImageInNewTransaction(image);
-                successCount++;
-                log.debug("[Batch] 이미지 삭제 성공: imageId={}", image.getImageId());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                if (System.currentTimeMillis() >= deadline) {
+                    log.warn("[Batch] 시간 예산 초과, 스캔 중단: budget={}ms, 청크={}", timeBudgetMs, chunkCount);
+                    break;
+                }
 
-            } catch (Exception e) {
-                failCount++;
-                log.error("[Batch] 이미지 삭제 실패: imageId={}, error={}",
-                         image.getImageId(), e.getMessage(), e);
+                List<CleanupRow> chunk = cursor == null
+                        ? imageRepository.findReleasedChunk(threshold, Limit.of(chunkSize))
+                        : imageRepository.findReleasedChunkAfter(threshold, cursor.sortKey(), cursor.id(), Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    scanCompleted = true;
+                    break;
+                }
+
+                CleanupRow last = chunk.get(chunk.size() - 1);
+                Cursor chunkEnd = new Cursor(last.getReleasedAt(), last.getImageId());
+                long seq = chunkCount++;
+
+                try {
+                    permits.acquire();  // 처리 중 청크 수 = 워커 수 상한 (메모리도 워커 수 × 청크 크기로 제한)
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("[Batch] 고아 이미지 정리 중단 (인터럽트)");
+                    break;
+                }
+                executor.submit(() -> {
+                    try {
+                        if (!acquireStorageQuota(storageLimiter, storageKeyCount(chunk), deadline)) {
+                            // 체크포인트는 이 청크 이전에서 멈춤 → 다음 실행에서 다시 처리
+                            skippedChunks.incrementAndGet();
+                            return;
+                        }
+                        int deleted = deleteChunk(chunk);
+                        successCount.addAndGet(deleted);
+                        failCount.addAndGet(chunk.size() - deleted);
+                        tracker.complete(seq, chunkEnd);
+                    } catch (Exception e) {
+                        skippedChunks.incrementAndGet();
+                        log.error("[Batch] 청크 처리 실패: chunkEnd={}, error={}", chunkEnd, e.getMessage(), e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+
+                if (chunk.size() < chunkSize) {
+                    scanCompleted = true;  // 마지막 청크
+                    break;
+                }
+                cursor = chunkEnd;
             }
+        }  // close(): 제출된 청크 처리 완료까지 대기
+
+        if (chunkCount == 0 && scanCompleted) {
+            checkpointRepository.delete(RELEASED_CLEANUP_JOB);
+            log.info("[Batch] 삭제할 고아 이미지 없음");
+            return;
+        }
+
+        if (scanCompleted && skippedChunks.get() == 0) {
+            checkpointRepository.delete(RELEASED_CLEANUP_JOB);
+        } else {
+            log.warn("[Batch] 고아 이미지 정리 미완료, 체크포인트 유지: 건너뛴 청크={}, 체크포인트={}",
+                    skippedChunks.get(), tracker.watermark());
         }
 
         long elapsedTime = System.currentTimeMillis() - startTime;
-        log.info("[Batch] 고아 이미지 정리 완료: 성공={}, 실패={}, 전체={}, 소요시간={}ms",
-                successCount, failCount, expiredImages.size(), elapsedTime);
+        log.info("[Batch] 고아 이미지 정리 완료: 성공={}, 실패={}, 전체={}, 청크={}, 워커={}, 소요시간={}ms",
+                successCount.get(), failCount.get(), successCount.get() + failCount.get(),
+                chunkCount, workers, elapsedTime);
     }
 
     /**
-     * 영구 고아 이미지 정리 배치 작업 (Phase 5)
-     * - 스케줄: 매일 새벽 4시 (CRON: 0 0 4 * * ?)
-     * - 영구 보존(expires_at=NULL)이지만 아무 곳에도 연결되지 않은 이미지 삭제
-     * - 7일 안전 마진: 생성 후 7일이 지난 이미지만 삭제
+     * 저장소 삭제 속도 제한 버킷 (실행마다 새로 생성, 인스턴스 간 공유 없음)
+     * - 용량: max(초당 키 수, 청크 크기) → 청크 1개 분량은 항상 한 번에 소비 가능
      *
-     * 시나리오:
-     * - 프로필 수정 중 새 이미지 업로드 후 저장 취소
-     * - 게시글 작성 중 이미지 업로드 후 작성 취소
-     * - clearExpiresAt() 호출 후 실제 연결이 완료되지 않은 경우
+     * @return 제한 없음(storage-keys-per-second <= 0)이면 null
      */
-    @Scheduled(cron = "0 0 4 * * ?")
-    public void cleanupPermanentOrphanImages() {
-        log.info("[Batch] 영구 고아 이미지 정리 배치 시작");
-        long startTime = System.currentTimeMillis();
-
-        // 7일 전 기준 (안전 마진)
-        LocalDateTime threshold = LocalDateTime.now().minusDays(7);
-        List<Image> permanentOrphans = imageRepository.findPermanentOrphans(threshold);
-
-        if (permanentOrphans.isEmpty()) {
-            log.info("[Batch] 삭제할 영구 고아 이미지 없음");
-            return;
+    private Bucket createStorageLimiter() {
+        if (storageKeysPerSecond <= 0) {
+            return null;
         }
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(
+                        storageLimiterCapacity(),
+                        Refill.greedy(storageKeysPerSecond, Duration.ofSeconds(1))))
+                .build();
+    }
 
-        int successCount = 0;
-        int failCount = 0;
-
-        for (Image image : permanentOrphans) {
-            try {
-                // 프록시를 통해 호출하여 REQUIRES_NEW 트랜잭션 적용
-                self.deleteImageInNewTransaction(image);
-                successCount++;
-                log.debug("[Batch] 영구 고아 이미지 삭제 성공: imageId={}", image.getImageId());
+    private long storageLimiterCapacity() {
+        return Math.max(storageKeysPerSecond, chunkSize);
+    }
 
-            } catch (Exception e) {
-                failCount++;
-                log.error("[Batch] 영구 고아 이미지 삭제 실패: imageId={}, error={}",
-                         image.getImageId(), e.getMessage(), e);
-            }
+    /**
+     * 청크의 저장소 삭제 키 수 (원본 + 생성된 리사이즈 변형)
+     */
+    private static int storageKeyCount(List<CleanupRow> chunk) {
+        int keys = 0;
+        for (CleanupRow row : chunk) {
+            keys += Boolean.TRUE.equals(row.getVariantsReady()) ? 1 + ImageVariant.values().length : 1;
         }
-
-        long elapsedTime = System.currentTimeMillis() - startTime;
-        log.info("[Batch] 영구 고아 이미지 정리 완료: 성공={}, 실패={}, 전체={}, 소요시간={}ms",
-                successCount, failCount, permanentOrphans.size(), elapsedTime);
+        return keys;
     }
 
     /**
-     * 독립적인 트랜잭션으로 이미지 삭제 (REQUIRES_NEW)
-     * - 실패 시 해당 트랜잭션만 롤백
+     * 청크 저장소 삭제 토큰 획득 (저장소 키 수 기준)
+     * - 시간 예산 안에서만 대기
+     * - 버킷 용량을 넘는 요청은 용량만큼만 소비 (변형이 많은 청크도 한 번에 처리 가능)
+     *
+     * @return 획득 실패(예산 초과, 인터럽트) 시 false → 청크 건너뜀
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void deleteImageInNewTransaction(Image image) {
-        // 1. S3 파일 삭제
-        String s3Key = extractS3Key(image.getImageUrl());
-        deleteFromS3(s3Key);
-
-        // 2. DB 레코드 삭제 (Hard Delete)
-        imageRepository.delete(image);
+    private boolean acquireStorageQuota(Bucket storageLimiter, long keys, long deadline) {
+        if (storageLimiter == null) {
+            return true;
+        }
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+            return false;
+        }
+        try {
+            long tokens = Math.min(keys, storageLimiterCapacity());
+            return storageLimiter.asBlocking().tryConsume(tokens, Duration.ofMillis(remainingMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     /**
-     * S3 파일 삭제
+     * 연속 처리 완료 위치 추적 (워커 완료 순서와 무관하게 스캔 순서 기준으로 체크포인트 전진)
+     * - 청크 n이 끝나도 n-1이 진행 중이면 체크포인트는 n-2 끝에 머묾
+     * - ReentrantLock 사용 (synchronized 안에서 DB 저장 시 Virtual Thread 캐리어 고정)
      */
-    private void deleteFromS3(String s3Key) {
-        try {
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .build();
+    private final class CheckpointTracker {
 
-            s3Client.deleteObject(deleteObjectRequest);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TreeMap<Long, Cursor> completed = new TreeMap<>();
+        private long nextSeq = 0;
+        private Cursor watermark;
 
-        } catch (Exception e) {
-            log.error("[Batch] S3 파일 삭제 실패: s3Key={}, error={}", s3Key, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        void complete(long seq, Cursor chunkEnd) {
+            lock.lock();
+            try {
+                completed.put(seq, chunkEnd);
+                Cursor advanced = null;
+                while (completed.containsKey(nextSeq)) {
+                    advanced = completed.remove(nextSeq++);
+                }
+                if (advanced == null) {
+                    return;
+                }
+                watermark = advanced;
+                try {
+                    checkpointRepository.save(RELEASED_CLEANUP_JOB, advanced);
+                } catch (Exception e) {
+                    // 저장 실패: 다음 실행이 이전 위치부터 다시 스캔 (삭제는 멱등)
+                    log.warn("[Batch] 체크포인트 저장 실패: cursor={}, error={}", advanced, e.getMessage());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Cursor watermark() {
+            lock.lock();
+            try {
+                return watermark;
+            } finally {
+                lock.unlock();
+            }
         }
     }
 
     /**
-     * S3 URL에서 키 추출
-     * 예시: https://bucket-name.s3.region.amazonaws.com/images/2025/10/11/test.jpg
-     *       → images/2025/10/11/test.jpg
+     * 청크 삭제
+     * 1. 저장소 일괄 삭제 (S3 DeleteObjects: 요청당 최대 1000키, 생성된 리사이즈 변형 포함)
+     * 2. 저장소 삭제 성공 행만 DB 일괄 삭제 (DELETE ... WHERE image_id IN (...) AND ref_count = 0 1회)
+     *
+     * 실패 처리:
+     * - 저장소 삭제 실패 키: 이미지별 로그, DB 행 유지 → 다음 배치에서 재시도
+     * - 변형 삭제 실패: 로그만 (원본 삭제 성공 시 DB 행 삭제, 남은 변형 객체는 수동 정리)
+     * - DB 삭제 실패: 청크 전체 실패 처리 (저장소 삭제는 멱등 → 다음 배치에서 재시도 가능)
+     *
+     * @return DB에서 삭제된 행 수
      */
-    private String extractS3Key(String imageUrl) {
-        int keyStartIndex = imageUrl.indexOf(".com/") + 5;
-        return imageUrl.substring(keyStartIndex);
+    private int deleteChunk(List<CleanupRow> chunk) {
+        Map<String, List<Long>> imageIdsByKey = new HashMap<>(chunk.size() * 2);
+        List<String> variantKeys = new ArrayList<>();
+        List<Long> deletableIds = new ArrayList<>(chunk.size());
+
+        for (CleanupRow row : chunk) {
+            String s3Key = objectStorage.keyOf(row.getImageUrl());
+            if (s3Key == null) {
+                // 다른 버킷/저장소 URL: 이 저장소에서 삭제할 객체 없음 → DB 레코드만 정리
+                log.warn("[Batch] 저장소 외부 URL, DB 레코드만 삭제: imageId={}, imageUrl={}",
+                        row.getImageId(), row.getImageUrl());
+                deletableIds.add(row.getImageId());
+            } else {
+                imageIdsByKey.computeIfAbsent(s3Key, key -> new ArrayList<>(1)).add(row.getImageId());
+                if (Boolean.TRUE.equals(row.getVariantsReady())) {
+                    for (ImageVariant variant : ImageVariant.values()) {
+                        variantKeys.add(variant.derive(s3Key));
+                    }
+                }
+            }
+        }
+
+        Set<String> deletedKeys = Set.of();
+        if (!imageIdsByKey.isEmpty()) {
+            Set<String> keys = new HashSet<>(imageIdsByKey.keySet());
+            keys.addAll(variantKeys);
+            try {
+                deletedKeys = objectStorage.deleteAll(keys);
+            } catch (Exception e) {
+                log.error("[Batch] 저장소 일괄 삭제 실패: keys={}, error={}", keys.size(), e.getMessage(), e);
+            }
+        }
+
+        int failedVariants = 0;
+        for (String variantKey : variantKeys) {
+            if (!deletedKeys.contains(variantKey)) {
+                failedVariants++;
+            }
+        }
+        if (failedVariants > 0) {
+            log.warn("[Batch] 리사이즈 변형 삭제 실패: count={}", failedVariants);
+        }
+
+        for (Map.Entry<String, List<Long>> entry : imageIdsByKey.entrySet()) {
+            if (deletedKeys.contains(entry.getKey())) {
+                deletableIds.addAll(entry.getValue());
+            } else {
+                log.error("[Batch] 이미지 삭제 실패 (저장소): imageIds={}, s3Key={}", entry.getValue(), entry.getKey());
+            }
+        }
+
+        if (deletableIds.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int deleted = imageRepository.deleteUnreferenced(deletableIds);
+            if (deleted < deletableIds.size()) {
+                // 참조 획득은 유예 시간이 지난 이미지를 거부하므로 정상 흐름에서는 발생하지 않음
+                // (노드 간 시계 차이 등) → 저장소 객체는 이미 삭제됨, 수동 확인 필요
+                log.warn("[Batch] 삭제 중 재연결된 이미지 존재: 대상={}, 삭제={}", deletableIds.size(), deleted);
+            }
+            log.debug("[Batch] 이미지 청크 삭제 성공: count={}", deleted);
+            return deleted;
+        } catch (Exception e) {
+            log.error("[Batch] 이미지 DB 일괄 삭제 실패: imageIds={}, error={}", deletableIds, e.getMessage(), e);
+            return 0;
+        }
     }
 }
@@ -1,58 +1,83 @@
 package com.ktb.community.service;
 
 import com.ktb.community.dto.request.ImageMetadataRequest;
+import com.ktb.community.dto.request.PresignedUrlBatchRequest;
 import com.ktb.community.dto.response.ImageResponse;
 import com.ktb.community.dto.response.PresignedUrlResponse;
 import com.ktb.community.entity.Image;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
 import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.storage.ObjectStorage;
+import com.ktb.community.util.ContentHasher;
 import com.ktb.community.util.FileValidator;
 import com.ktb.community.util.S3KeyGenerator;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
-
-import java.io.IOException;
+
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 이미지 업로드 서비스
  * LLD.md Section 7.5 참조 (S3 직접 연동 방식)
+ *
+ * 저장소 접근은 ObjectStorage로 추상화 (storage.type=s3 | local)
+ *
+ * 중복 업로드 제거:
+ * - 업로드/메타데이터 등록 시 내용 SHA-256 계산 (images.content_hash, UNIQUE)
+ * - 같은 해시의 이미지가 재사용 가능하면 새 객체/행 없이 기존 이미지 반환
+ *   → Post/User 연결 시 참조 획득으로 ref_count만 증가
+ *
+ * 리사이즈 변형: 새 이미지 저장 후 ImageVariantService에 비동기 생성 요청
+ * (Presigned URL은 발급 시점에 객체가 없으므로 변형 없음 → 응답은 원본 URL)
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ImageService {
 
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
+    private final ObjectStorage objectStorage;
+    private final ExecutorService storageExecutor;
     private final ImageRepository imageRepository;
-
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
-
-    @Value("${aws.s3.region}")
-    private String region;
+    private final ImageVariantService imageVariantService;
+
+    @Value("${image-cleanup.release-grace-ms:3600000}")
+    private long releaseGraceMs;
+
+    public ImageService(ObjectStorage objectStorage,
+                        @Qualifier("storageExecutor") ExecutorService storageExecutor,
+                        ImageRepository imageRepository,
+                        ImageVariantService imageVariantService) {
+        this.objectStorage = objectStorage;
+        this.storageExecutor = storageExecutor;
+        this.imageRepository = imageRepository;
+        this.imageVariantService = imageVariantService;
+    }
 
     /**
-     * 이미지 업로드
+     * 이미지 업로드 (동기)
      * - 파일 검증 (MIME type, Magic Number)
-     * - S3 업로드
-     * - DB 저장 (expires_at = 1시간 후)
+     * - 내용 해시 계산 → 재사용 가능한 동일 이미지가 있으면 업로드 생략
+     * - 저장소 업로드 (스트리밍, 힙에 파일 전체 복사 X)
+     * - DB 저장 (미참조: ref_count 0, released_at = 생성 시각 → 유예 시간 안에 연결 필요)
+     *
+     * 트랜잭션은 save() 한 번에만 적용 (업로드 동안 DB 커넥션 점유 X)
      */
-    @Transactional
     public ImageResponse uploadImage(MultipartFile file) {
         log.debug("[Image] 이미지 업로드 시작: filename={}, size={}, contentType={}", 
             file.getOriginalFilename(), file.getSize(), file.getContentType());
@@ -60,43 +85,195 @@ public class ImageService {
         // 1. 파일 검증
         FileValidator.validateImageFile(file);
 
-        // 2. S3 업로드
+        // 2. 중복 판별 (업로드 전 해시 → 중복이면 업로드 대역폭도 절약)
+        Dedup dedup = findDuplicate(ContentHasher.sha256Hex(file));
+        if (dedup.existing() != null) {
+            return reuse(dedup.existing(), file.getOriginalFilename(), (int) file.getSize());
+        }
+
+        // 3. 저장소 업로드
         String s3Key = S3KeyGenerator.generateKey(file.getOriginalFilename());
-        String imageUrl = uploadToS3(file, s3Key);
+        try {
+            objectStorage.put(s3Key, file.getContentType(), file.getSize(), file);
+        } catch (Exception e) {
+            log.error("[Image] 업로드 에러: s3Key={}", s3Key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
+                "S3 upload error: " + e.getMessage());
+        }
 
-        // 3. DB 저장 (expires_at = 1시간 후)
+        // 4. DB 저장 (미참조 → 유예 시간 안에 연결하지 않으면 정리 배치가 삭제)
+        return saveUploadedImage(file, s3Key, dedup.contentHash());
+    }
+
+    /**
+     * 이미지 업로드 (비동기)
+     * - 파일 검증은 호출 스레드에서 즉시 수행 (헤더 8바이트만 읽음)
+     * - 내용 해시 계산/중복 조회는 storageExecutor에서 수행 (중복이면 업로드 생략)
+     * - ObjectStorage.putAsync로 업로드 → 요청 스레드는 반환 즉시 해제 (Controller가 CompletableFuture 반환)
+     * - 업로드 완료 콜백에서 DB 저장 (storageExecutor, save() 단일 트랜잭션)
+     *
+     * 실패 처리:
+     * - 업로드 시간 초과 (aws.s3.async.upload-timeout-ms): 저장소가 요청 중단 → 503
+     * - 업로드 실패: 500, DB 저장 없음
+     * - DB 저장 실패: 업로드된 객체 삭제 (고아 객체 방지) 후 500
+     *
+     * @param file 업로드할 이미지 파일 (비동기 요청 처리 완료 전까지 임시 파일 유지)
+     * @return 업로드 + DB 저장 완료 시 완료되는 Future
+     */
+    public CompletableFuture<ImageResponse> uploadImageAsync(MultipartFile file) {
+        log.debug("[Image] 비동기 이미지 업로드 시작: filename={}, size={}, contentType={}",
+            file.getOriginalFilename(), file.getSize(), file.getContentType());
+
+        // 1. 파일 검증
+        FileValidator.validateImageFile(file);
+
+        // 2. 중복 판별 (해시 계산/조회도 storageExecutor에서 수행)
+        return CompletableFuture.supplyAsync(() -> findDuplicate(ContentHasher.sha256Hex(file)), storageExecutor)
+                .thenCompose(dedup -> {
+                    if (dedup.existing() != null) {
+                        return CompletableFuture.completedFuture(
+                                reuse(dedup.existing(), file.getOriginalFilename(), (int) file.getSize()));
+                    }
+
+                    // 3. 비동기 업로드 → 4. 완료 후 DB 저장 (미참조)
+                    String s3Key = S3KeyGenerator.generateKey(file.getOriginalFilename());
+                    return objectStorage.putAsync(s3Key, file.getContentType(), file.getSize(), file)
+                            .handleAsync((ignored, ex) -> {
+                                if (ex != null) {
+                                    throw toUploadException(s3Key, ex);
+                                }
+                                return saveUploadedImage(file, s3Key, dedup.contentHash());
+                            }, storageExecutor);
+                });
+    }
+
+    /**
+     * 업로드 완료 이미지 DB 저장
+     * - 같은 내용 동시 업로드로 해시 UNIQUE 충돌 시: 먼저 저장된 이미지 재사용 (내 객체 삭제),
+     *   재사용 불가하면 해시 없이 저장
+     * - 그 외 저장 실패 시 업로드된 객체 삭제
+     */
+    private ImageResponse saveUploadedImage(MultipartFile file, String s3Key, String contentHash) {
         Image image = Image.builder()
-                .imageUrl(imageUrl)
+                .imageUrl(objectStorage.urlOf(s3Key))
                 .fileSize((int) file.getSize())
                 .originalFilename(file.getOriginalFilename())
-                .expiresAt(LocalDateTime.now().plusHours(1))
+                .contentHash(contentHash)
+                .expiresAt(unlinkedExpiresAt())
                 .build();
 
-        Image savedImage = imageRepository.save(image);
-        log.info("[Image] 이미지 업로드 완료: imageId={}, s3Key={}", savedImage.getImageId(), s3Key);
+        try {
+            Image savedImage = imageRepository.save(image);
+            log.info("[Image] 이미지 업로드 완료: imageId={}, s3Key={}", savedImage.getImageId(), s3Key);
+            imageVariantService.generateAsync(savedImage.getImageId(), savedImage.getImageUrl());
+            return ImageResponse.from(savedImage);
+        } catch (DataIntegrityViolationException e) {
+            if (contentHash == null) {
+                log.error("[Image] 업로드 후 DB 저장 실패 → 객체 삭제: s3Key={}", s3Key, e);
+                deleteUploadedObject(s3Key);
+                throw e;
+            }
+            log.info("[Image] 동일 내용 동시 업로드 감지: s3Key={}, contentHash={}", s3Key, contentHash);
+            Dedup dedup = findDuplicate(contentHash);
+            if (dedup.existing() != null) {
+                deleteUploadedObject(s3Key);
+                return reuse(dedup.existing(), file.getOriginalFilename(), (int) file.getSize());
+            }
+            return saveUploadedImage(file, s3Key, null);
+        } catch (RuntimeException e) {
+            log.error("[Image] 업로드 후 DB 저장 실패 → 객체 삭제: s3Key={}", s3Key, e);
+            deleteUploadedObject(s3Key);
+            throw e;
+        }
+    }
 
-        return ImageResponse.from(savedImage);
+    /**
+     * 중복 판별 결과
+     *
+     * @param existing 재사용할 기존 이미지 (없으면 null)
+     * @param contentHash 새 이미지에 저장할 해시 (재사용 불가한 기존 이미지가 해시를 점유 중이면 null)
+     */
+    private record Dedup(Image existing, String contentHash) {
+    }
+
+    /**
+     * 같은 내용의 기존 이미지 조회 + 재사용 선점
+     * - 정리 유예 시간의 절반 이상 지난 미참조 이미지는 배치가 곧 삭제할 수 있으므로 재사용 X
+     * - 해시 계산 불가(null)면 중복 판별 생략
+     */
+    private Dedup findDuplicate(String contentHash) {
+        if (contentHash == null) {
+            return new Dedup(null, null);
+        }
+        Optional<Image> found = imageRepository.findByContentHash(contentHash);
+        if (found.isEmpty()) {
+            return new Dedup(null, contentHash);
+        }
+
+        Image existing = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime reuseAfter = now.minus(Duration.ofMillis(releaseGraceMs / 2));
+        if (imageRepository.claimForReuse(existing.getImageId(), now, reuseAfter) == 0) {
+            log.debug("[Image] 정리 대상 임박 이미지 재사용 생략: imageId={}", existing.getImageId());
+            return new Dedup(null, null);
+        }
+        return new Dedup(existing, contentHash);
+    }
+
+    /**
+     * 재사용 응답 (요청자의 파일명/크기로 구성, 기존 업로더의 메타데이터 노출 X)
+     */
+    private ImageResponse reuse(Image existing, String originalFilename, Integer fileSize) {
+        log.info("[Image] 동일 내용 이미지 재사용: imageId={}", existing.getImageId());
+        return ImageResponse.reused(existing, originalFilename, fileSize, unlinkedExpiresAt());
+    }
+
+    /**
+     * 업로드된 객체 삭제 (DB 레코드 없는 객체 방지, 실패는 로그만)
+     */
+    private void deleteUploadedObject(String s3Key) {
+        try {
+            objectStorage.delete(s3Key);
+        } catch (RuntimeException deleteEx) {
+            log.warn("[Image] 객체 삭제 실패 (DB 레코드 없음, 수동 정리 필요): s3Key={}", s3Key, deleteEx);
+        }
+    }
+
+    /**
+     * 비동기 업로드 실패 → BusinessException 변환
+     */
+    private BusinessException toUploadException(String s3Key, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException) {
+            log.warn("[Image] 업로드 시간 초과: s3Key={}", s3Key);
+            return new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "S3 upload timed out");
+        }
+        log.error("[Image] 비동기 업로드 에러: s3Key={}", s3Key, cause);
+        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+            "S3 upload error: " + cause.getMessage());
     }
 
     /**
      * 이미지 메타데이터 등록 (Lambda 업로드 후 Backend 등록)
-     * - imageUrl 검증 (S3 버킷 URL 형식)
+     * - imageUrl 검증 (저장소 공개 URL 형식)
      * - 중복 검증
-     * - DB 저장 (expires_at = 1시간 후)
+     * - 업로드된 객체를 스트리밍으로 읽어 내용 해시 계산 (클라이언트 전달 값은 신뢰 X)
+     * - 같은 내용의 재사용 가능한 이미지가 있으면 방금 업로드된 객체 삭제 후 기존 이미지 반환
+     * - DB 저장 (미참조: ref_count 0, released_at = 생성 시각 → 유예 시간 안에 연결 필요)
      *
      * 플로우: Lambda (S3 업로드) → Backend (메타데이터 등록) → imageId 반환
+     * 트랜잭션은 쿼리 단위로만 적용 (객체 읽는 동안 DB 커넥션 점유 X)
      */
-    @Transactional
     public ImageResponse registerImageMetadata(ImageMetadataRequest request) {
         log.debug("[Image] 이미지 메타데이터 등록 시작: imageUrl={}, fileSize={}",
             request.getImageUrl(), request.getFileSize());
 
         // 1. imageUrl 형식 검증
-        String s3BaseUrl = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
-        if (!request.getImageUrl().startsWith(s3BaseUrl)) {
+        String key = objectStorage.keyOf(request.getImageUrl());
+        if (key == null) {
             log.warn("[Image] 잘못된 이미지 URL 형식: imageUrl={}", request.getImageUrl());
             throw new BusinessException(ErrorCode.INVALID_IMAGE_URL,
-                "Image URL must start with: " + s3BaseUrl);
+                "Image URL must start with: " + objectStorage.urlOf(""));
         }
 
         // 2. 중복 검증
@@ -106,51 +283,94 @@ public class ImageService {
                 "Image URL already exists: " + request.getImageUrl());
         }
 
-        // 3. DB 저장 (expires_at = 1시간 후)
+        // 3. 내용 중복 판별 → 재사용 시 Lambda가 올린 객체 삭제
+        Dedup dedup = findDuplicate(hashStoredObject(key));
+        if (dedup.existing() != null) {
+            deleteUploadedObject(key);
+            return reuse(dedup.existing(), request.getOriginalFilename(), request.getFileSize());
+        }
+
+        // 4. DB 저장 (미참조 → 유예 시간 안에 연결하지 않으면 정리 배치가 삭제)
         Image image = Image.builder()
                 .imageUrl(request.getImageUrl())
                 .fileSize(request.getFileSize())
                 .originalFilename(request.getOriginalFilename())
-                .expiresAt(LocalDateTime.now().plusHours(1))
+                .contentHash(dedup.contentHash())
+                .expiresAt(unlinkedExpiresAt())
                 .build();
 
-        Image savedImage = imageRepository.save(image);
+        Image savedImage;
+        try {
+            savedImage = imageRepository.save(image);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 URL 또는 같은 내용의 동시 등록 → 재요청 시 기존 이미지 재사용
+            log.warn("[Image] 동시 등록 충돌: imageUrl={}", request.getImageUrl());
+            throw new BusinessException(ErrorCode.RESOURCE_CONFLICT,
+                "Image already registered concurrently: " + request.getImageUrl());
+        }
         log.info("[Image] 이미지 메타데이터 등록 완료: imageId={}, imageUrl={}",
             savedImage.getImageId(), savedImage.getImageUrl());
+        imageVariantService.generateAsync(savedImage.getImageId(), savedImage.getImageUrl());
 
         return ImageResponse.from(savedImage);
     }
 
     /**
-     * S3 업로드 수행
-     * - PutObjectRequest 생성 및 S3 업로드
-     * - 이미지 URL 반환
+     * 저장소 객체 내용 해시
+     * - 읽기 실패(객체 없음 등) 시 null → 중복 판별 없이 기존과 같이 등록
      */
-    private String uploadToS3(MultipartFile file, String s3Key) {
+    private String hashStoredObject(String key) {
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .acl(ObjectCannedACL.PUBLIC_READ)  // 이미지 객체만 public 설정
-                    .build();
+            return ContentHasher.sha256Hex(() -> objectStorage.open(key));
+        } catch (RuntimeException e) {
+            log.warn("[Image] 객체 해시 계산 실패 (중복 판별 생략): key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
 
-            // S3 URL 생성
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, s3Key);
+    /**
+     * 이미지 참조 획득 (프로필/게시글 연결, 호출자 트랜잭션 참여)
+     * - 유예 시간이 지난 미참조 이미지는 거부: 정리 배치가 이미 선택해 저장소 객체를 삭제 중일 수 있음
+     *   (연결을 허용하면 DB 행은 남고 객체만 사라짐)
+     *
+     * @throws BusinessException IMAGE_NOT_FOUND - 이미지 없음 또는 정리 대상
+     */
+    public void acquireReference(Long imageId) {
+        if (imageRepository.acquireReference(imageId, releasedAfter()) == 0) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
+                    "Invalid or expired image ID: " + imageId);
+        }
+    }
 
-        } catch (IOException e) {
-            log.error("[Image] S3 업로드 실패 (IOException): s3Key={}", s3Key, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
-                "S3 upload failed: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("[Image] S3 업로드 에러: s3Key={}", s3Key, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
-                "S3 upload error: " + e.getMessage());
+    /**
+     * 이미지 참조 일괄 획득 (게시글 다중 이미지, UPDATE 1회)
+     * - 일부라도 거부되면 예외 → 호출자 트랜잭션 롤백으로 나머지 증가분도 취소
+     *
+     * @param imageIds 중복 없는 이미지 ID 목록
+     * @throws BusinessException IMAGE_NOT_FOUND - 이미지 없음 또는 정리 대상 포함
+     */
+    public void acquireReferences(Collection<Long> imageIds) {
+        if (imageRepository.acquireReferences(imageIds, releasedAfter()) < imageIds.size()) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
+                    "Invalid or expired image IDs: " + imageIds);
         }
     }
 
+    /**
+     * 새 미참조 이미지의 삭제 예정 시각 (응답 표시용 expires_at, 생성 시각 + 유예 시간)
+     * - 정리 배치 기준은 ref_count / released_at (expires_at은 삭제 판단에 사용하지 않음)
+     */
+    private LocalDateTime unlinkedExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(releaseGraceMs));
+    }
+
+    /**
+     * 연결 가능한 미참조 이미지의 최소 해제 시각 (ImageCleanupBatchService 삭제 기준과 동일)
+     */
+    private LocalDateTime releasedAfter() {
+        return LocalDateTime.now().minus(Duration.ofMillis(releaseGraceMs));
+    }
 
     /**
      * Presigned URL 발급 (클라이언트 직접 S3 업로드용)
@@ -160,7 +380,7 @@ public class ImageService {
      * 1. 확장자 검증
      * 2. S3 Key 생성
      * 3. Presigned URL 생성 (15분 유효)
-     * 4. DB에 Image 레코드 사전 등록 (expires_at = 1시간)
+     * 4. DB에 Image 레코드 사전 등록 (미참조, 유예 시간 안에 연결하지 않으면 정리 배치가 삭제)
      * 5. PresignedUrlResponse 반환
      *
      * @param filename 원본 파일명 (확장자 필수)
@@ -183,30 +403,16 @@ public class ImageService {
         String s3Key = S3KeyGenerator.generateKey(filename);
 
         // 4. Presigned URL 생성 (15분 유효)
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(s3Key)
-                .contentType(resolvedContentType)
-                .acl(ObjectCannedACL.PUBLIC_READ)  // 이미지 객체 public 설정 (다운로드 허용)
-                .build();
-
-        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(15))
-                .putObjectRequest(putObjectRequest)
-                .build();
+        String uploadUrl = objectStorage.presignPut(s3Key, resolvedContentType, Duration.ofMinutes(15));
 
-        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
-        String uploadUrl = presignedRequest.url().toString();
-
-        // 5. DB에 Image 레코드 사전 등록 (expires_at = 1시간 후)
-        //    - 클라이언트가 업로드 완료 후 Post/User에 연결하면 clearExpiresAt() 호출
+        // 5. DB에 Image 레코드 사전 등록 (ref_count 0, released_at = 생성 시각)
+        //    - 클라이언트가 업로드 완료 후 Post/User에 연결하면 참조 획득 (ref_count + 1)
         //    - 미연결 시 ImageCleanupBatchService가 정리
-        String imageUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, s3Key);
         Image image = Image.builder()
-                .imageUrl(imageUrl)
+                .imageUrl(objectStorage.urlOf(s3Key))
                 .fileSize(0)  // 클라이언트 직접 업로드이므로 파일 크기 미확인
                 .originalFilename(filename)
-                .expiresAt(LocalDateTime.now().plusHours(1))
+                .expiresAt(unlinkedExpiresAt())
                 .build();
 
         Image savedImage = imageRepository.save(image);
@@ -219,4 +425,70 @@ public class ImageService {
                 savedImage.getExpiresAt()
         );
     }
+
+    /**
+     * Presigned URL 일괄 발급 (다중 이미지 게시글용)
+     * API.md Section 4.4 참조
+     *
+     * 플로우:
+     * 1. 전체 확장자 검증 (하나라도 실패 시 발급/등록 없음)
+     * 2. S3 Key 생성
+     * 3. Presigned URL 일괄 생성 (요청 템플릿 1개 재사용, 15분 유효)
+     * 4. DB에 Image 레코드 일괄 사전 등록 (saveAll → JDBC 배치 INSERT, 미참조)
+     * 5. 요청 순서대로 PresignedUrlResponse 반환
+     *
+     * @param files 파일 목록 (최대 PresignedUrlBatchRequest.MAX_FILES개)
+     * @return Presigned URL 응답 목록 (요청 순서)
+     */
+    @Transactional
+    public List<PresignedUrlResponse> generatePresignedUrls(List<PresignedUrlBatchRequest.FileItem> files) {
+        log.debug("[Image] Presigned URL 일괄 발급 시작: count={}", files.size());
+
+        // 1. 확장자 검증 (.jpg, .jpeg, .png, .gif)
+        files.forEach(file -> FileValidator.validateExtension(file.getFilename()));
+
+        // 2. S3 Key 생성 + Content-Type 추론 (요청 순서 유지)
+        Map<String, String> contentTypesByKey = new LinkedHashMap<>();
+        List<String> s3Keys = new ArrayList<>(files.size());
+        for (PresignedUrlBatchRequest.FileItem file : files) {
+            String s3Key = S3KeyGenerator.generateKey(file.getFilename());
+            String contentType = file.getContentType();
+            contentTypesByKey.put(s3Key, (contentType != null && !contentType.isBlank())
+                    ? contentType
+                    : FileValidator.inferContentType(file.getFilename()));
+            s3Keys.add(s3Key);
+        }
+
+        // 3. Presigned URL 일괄 생성 (15분 유효)
+        Map<String, String> uploadUrls = objectStorage.presignPutAll(contentTypesByKey, Duration.ofMinutes(15));
+
+        // 4. DB에 Image 레코드 일괄 사전 등록 (ref_count 0, released_at = 생성 시각)
+        //    - hibernate.jdbc.batch_size + TableGenerator(allocationSize) → 다중 행 INSERT
+        LocalDateTime expiresAt = unlinkedExpiresAt();
+        List<Image> images = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            images.add(Image.builder()
+                    .imageUrl(objectStorage.urlOf(s3Keys.get(i)))
+                    .fileSize(0)  // 클라이언트 직접 업로드이므로 파일 크기 미확인
+                    .originalFilename(files.get(i).getFilename())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        List<Image> savedImages = imageRepository.saveAll(images);
+        log.info("[Image] Presigned URL 일괄 발급 완료: count={}", savedImages.size());
+
+        // 5. 요청 순서대로 응답 (saveAll은 입력 순서 유지)
+        List<PresignedUrlResponse> responses = new ArrayList<>(savedImages.size());
+        for (int i = 0; i < savedImages.size(); i++) {
+            Image savedImage = savedImages.get(i);
+            String s3Key = s3Keys.get(i);
+            responses.add(PresignedUrlResponse.of(
+                    savedImage.getImageId(),
+                    uploadUrls.get(s3Key),
+                    s3Key,
+                    savedImage.getExpiresAt()
+            ));
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,229 @@
+package com.ktb.community.service;
+
+import com.ktb.community.enums.ImageVariant;
+import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 리사이즈 변형 생성 서비스
+ * - 업로드(DB 저장) 완료 후 비동기 실행 (imageVariantExecutor, 고정 워커 + 대기 큐 상한)
+ * - 원본을 저장소에서 스트리밍으로 읽어 1회만 디코딩 → avatar/feed/detail 변형 인코딩 → 저장소 저장
+ * - 모든 변형 저장 후 images.variants_ready = true (응답 DTO가 변형 URL 사용 시작)
+ * - 순수 JDK ImageIO 사용 (외부 네이티브 라이브러리 X)
+ *
+ * 실패(디코딩 불가, 큐 포화, 저장 실패) 시 variants_ready = false 유지 → 응답은 원본 URL
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    private final ObjectStorage objectStorage;
+    private final ImageRepository imageRepository;
+    private final ExecutorService imageVariantExecutor;
+
+    @Value("${image-variants.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image-variants.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    public ImageVariantService(ObjectStorage objectStorage,
+                               ImageRepository imageRepository,
+                               @Qualifier("imageVariantExecutor") ExecutorService imageVariantExecutor) {
+        this.objectStorage = objectStorage;
+        this.imageRepository = imageRepository;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    /**
+     * 변형 생성 예약 (호출 스레드는 대기하지 않음)
+     * - 원본 객체가 저장소에 있고 images 행이 커밋된 후 호출
+     *
+     * @param imageId 이미지 ID
+     * @param imageUrl 원본 공개 URL (이 저장소 URL이 아니면 생략)
+     */
+    public void generateAsync(Long imageId, String imageUrl) {
+        if (!enabled) {
+            return;
+        }
+        String key = objectStorage.keyOf(imageUrl);
+        if (key == null) {
+            return;
+        }
+        try {
+            imageVariantExecutor.execute(() -> generate(imageId, key));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ImageVariant] 작업 큐 포화, 변형 생성 생략 (원본 URL 사용): imageId={}", imageId);
+        }
+    }
+
+    /**
+     * 변형 생성 (워커 스레드)
+     * - 일부 변형 저장 실패 시 이미 저장한 변형 삭제 (variants_ready = false 이미지는 정리 배치가 변형을 찾지 않음)
+     */
+    void generate(Long imageId, String key) {
+        long startTime = System.currentTimeMillis();
+        String format = ImageVariant.formatOf(key);
+        String contentType = ImageVariant.contentTypeOf(key);
+        List<String> storedKeys = new ArrayList<>(ImageVariant.values().length);
+
+        try {
+            BufferedImage source = decode(key);
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] encoded = encode(resize(source, variant, format.equals("png")), format);
+                String variantKey = variant.derive(key);
+                objectStorage.put(variantKey, contentType, encoded.length, new ByteArrayResource(encoded));
+                storedKeys.add(variantKey);
+            }
+
+            if (imageRepository.markVariantsReady(imageId) == 0) {
+                // 생성 중 이미지 행 삭제됨 (정리 배치) → 변형도 정리
+                log.warn("[ImageVariant] 이미지 행 없음, 변형 삭제: imageId={}", imageId);
+                objectStorage.deleteAll(storedKeys);
+                return;
+            }
+            log.info("[ImageVariant] 변형 생성 완료: imageId={}, source={}x{}, 소요시간={}ms",
+                    imageId, source.getWidth(), source.getHeight(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("[ImageVariant] 변형 생성 실패 (원본 URL 사용): imageId={}, key={}, error={}",
+                    imageId, key, e.getMessage());
+            if (!storedKeys.isEmpty()) {
+                try {
+                    objectStorage.deleteAll(storedKeys);
+                } catch (RuntimeException deleteEx) {
+                    log.warn("[ImageVariant] 변형 삭제 실패 (수동 정리 필요): keys={}", storedKeys, deleteEx);
+                }
+            }
+        }
+    }
+
+    /**
+     * 원본 디코딩 (1회)
+     * - 가장 큰 변형에 필요한 해상도까지만 디코딩 (ImageReadParam 서브샘플링)
+     *   → 5MB JPEG(수천만 픽셀)도 전체 해상도 버퍼를 만들지 않음
+     * - GIF는 첫 프레임만 사용
+     */
+    private BufferedImage decode(String key) throws IOException {
+        try (InputStream inputStream = objectStorage.open(key);
+             ImageInputStream imageInput = new MemoryCacheImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + key);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int subsampling = subsamplingOf(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                if (image == null) {
+                    throw new IOException("Failed to decode image: " + key);
+                }
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 서브샘플링 배율 (모든 변형이 축소만으로 만들어지는 최대 정수 배율)
+     */
+    static int subsamplingOf(int width, int height) {
+        int subsampling = Integer.MAX_VALUE;
+        for (ImageVariant variant : ImageVariant.values()) {
+            double scale = scaleOf(width, height, variant);
+            subsampling = Math.min(subsampling, (int) Math.floor(1 / scale));
+        }
+        return Math.max(1, subsampling);
+    }
+
+    /**
+     * 원본 → 변형 배율 (확대 X)
+     * - crop: 박스를 채우는 배율 (짧은 변 기준)
+     * - fit: 박스 안에 들어가는 배율 (긴 변 기준)
+     */
+    private static double scaleOf(int width, int height, ImageVariant variant) {
+        double scaleX = (double) variant.getWidth() / width;
+        double scaleY = (double) variant.getHeight() / height;
+        double scale = variant.isCrop() ? Math.max(scaleX, scaleY) : Math.min(scaleX, scaleY);
+        return Math.min(scale, 1.0);
+    }
+
+    /**
+     * 리사이즈 (bicubic, crop 변형은 중앙 기준 잘라냄)
+     * - JPEG 출력은 알파 채널이 없으므로 투명 영역을 흰색으로 채움
+     */
+    static BufferedImage resize(BufferedImage source, ImageVariant variant, boolean alpha) {
+        double scale = scaleOf(source.getWidth(), source.getHeight(), variant);
+        int scaledWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        int width = variant.isCrop() ? Math.min(variant.getWidth(), scaledWidth) : scaledWidth;
+        int height = variant.isCrop() ? Math.min(variant.getHeight(), scaledHeight) : scaledHeight;
+
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            if (!alpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, (width - scaledWidth) / 2, (height - scaledHeight) / 2,
+                    scaledWidth, scaledHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (format.equals("png")) {
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (MemoryCacheImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
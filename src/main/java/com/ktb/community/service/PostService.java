@@ -31,9 +31,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 // import jakarta.persistence.EntityManager; // Phase 5에서 제거됨 (detached entity 이슈 해결)
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +52,7 @@ public class PostService {
     private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
     private final ImageRepository imageRepository;
+    private final ImageService imageService;
     private final PostImageRepository postImageRepository;
     private final PostLikeRepository postLikeRepository;
     // EntityManager: Phase 5에서 제거됨 (detached entity 이슈 해결)
@@ -62,8 +66,8 @@ public class PostService {
      * 게시글 작성 (FR-POST-001)
      * - 사용자 존재 확인
      * - 게시글 생성 및 통계 초기화
-     * - 이미지 연결 (imageId 있을 경우)
-     * - 이미지 expires_at 클리어 (영구 보존)
+     * - 이미지 연결 (imageIds 또는 imageId 있을 경우, 최대 PostCreateRequest.MAX_IMAGES개)
+     * - 이미지 참조 획득 (ref_count + 1, released_at 해제 → 정리 배치 대상 제외)
      */
     @Transactional
     public PostResponse createPost(PostCreateRequest request, Long userId) {
@@ -84,29 +88,60 @@ public class PostService {
         // Post에 stats 연결 (PostResponse에서 null 방지)
         savedPost.updateStats(savedStats);
 
-        // 이미지 연결 처리 (imageId가 있을 경우)
-        if (request.getImageId() != null) {
-            Image image = imageRepository.findById(request.getImageId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
-                            "Image not found with id: " + request.getImageId()));
+        // 이미지 연결 처리 (imageIds 순서 = display_order)
+        List<Long> imageIds = request.resolveImageIds();
+        if (!imageIds.isEmpty()) {
+            linkImages(savedPost, imageIds);
+        }
 
-            // expires_at 클리어 (영구 보존)
-            image.clearExpiresAt();
+        log.debug("[Post] 게시글 작성 완료: postId={}", savedPost.getPostId());
 
-            // PostImage 브릿지 테이블 저장
-            PostImage postImage = PostImage.builder()
-                    .post(savedPost)
-                    .image(image)
-                    .displayOrder(1)
-                    .build();
-            postImageRepository.save(postImage);
+        return PostResponse.from(savedPost);
+    }
 
-            log.info("[Post] 게시글 이미지 연결: postId={}, imageId={}", savedPost.getPostId(), image.getImageId());
+    /**
+     * 게시글 다중 이미지 연결
+     * - 이미지 조회 1회 (IN), 참조 획득 UPDATE 1회, post_images 배치 INSERT
+     * - display_order = 목록 순서 (1부터)
+     * - 같은 imageId 반복 거부 (post_images PK = post_id + image_id)
+     *   같은 내용 재업로드는 같은 imageId를 반환하므로 클라이언트가 중복 제거 후 전달 (API.md 4.1)
+     */
+    private void linkImages(Post post, List<Long> imageIds) {
+        Set<Long> seen = new HashSet<>();
+        List<Long> duplicateIds = imageIds.stream()
+                .filter(imageId -> !seen.add(imageId))
+                .distinct()
+                .toList();
+        if (!duplicateIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "Duplicate image ids: " + duplicateIds + " (identical uploads share one imageId; send it once)");
         }
 
-        log.debug("[Post] 게시글 작성 완료: postId={}", savedPost.getPostId());
+        Map<Long, Image> imagesById = imageRepository.findAllById(imageIds).stream()
+                .collect(Collectors.toMap(Image::getImageId, image -> image));
+        List<Long> missingIds = imageIds.stream()
+                .filter(imageId -> !imagesById.containsKey(imageId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
+                    "Image not found with id: " + missingIds);
+        }
 
-        return PostResponse.from(savedPost);
+        // 참조 획득 (정리 배치 대상 제외)
+        imageService.acquireReferences(imageIds);
+
+        // PostImage 브릿지 테이블 저장
+        List<PostImage> postImages = new ArrayList<>(imageIds.size());
+        for (int i = 0; i < imageIds.size(); i++) {
+            postImages.add(PostImage.builder()
+                    .post(post)
+                    .image(imagesById.get(imageIds.get(i)))
+                    .displayOrder(i + 1)
+                    .build());
+        }
+        postImageRepository.saveAll(postImages);
+
+        log.info("[Post] 게시글 이미지 연결: postId={}, imageIds={}", post.getPostId(), imageIds);
     }
 
     /**
@@ -220,7 +255,7 @@ public class PostService {
      * 게시글 수정 (FR-POST-004)
      * - 작성자 본인만 수정 가능
      * - 최소 1개 필드 필요 (부분 업데이트)
-     * - 이미지 변경 시 기존 연결 해제 후 재연결
+     * - 이미지 변경 시 기존 연결 해제 후 재연결 (imageIds 전체 교체, 다중 이미지 게시글은 imageId 단독 교체 거부)
      */
     @Transactional
     public PostResponse updatePost(Long postId, PostUpdateRequest request, Long userId) {
@@ -243,40 +278,34 @@ public class PostService {
         }
 
         // ========== 이미지 처리 ==========
-        log.debug("[DEBUG] 이미지 처리 - removeImage: {}, imageId: {}",
-                  request.getRemoveImage(), request.getImageId());
+        log.debug("[DEBUG] 이미지 처리 - removeImage: {}, imageId: {}, imageIds: {}",
+                  request.getRemoveImage(), request.getImageId(), request.getImageIds());
 
         // Case 1: 이미지 제거 요청 (removeImage: true)
         if (Boolean.TRUE.equals(request.getRemoveImage())) {
             log.info("[Post] 게시글 이미지 제거 시작: postId={}", postId);
-            restoreExpiresAtAndDeleteBridge(postId);
+            releaseImagesAndDeleteBridge(postId);
             log.info("[Post] 게시글 이미지 제거 완료: postId={}", postId);
         }
-        // Case 2: 새 이미지로 교체 (imageId: 123)
-        else if (request.getImageId() != null) {
-            // 기존 이미지 TTL 복원 + 브릿지 삭제
-            restoreExpiresAtAndDeleteBridge(postId);
-
-            // 새 이미지 연결
-            Image newImage = imageRepository.findById(request.getImageId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
-                            "Image not found with id: " + request.getImageId()));
-
-            // expires_at 클리어 (영구 보존)
-            newImage.clearExpiresAt();
+        // Case 2: 새 이미지로 교체 (imageIds: [12, 10] 또는 imageId: 123)
+        else if (!request.resolveImageIds().isEmpty()) {
+            List<Long> imageIds = request.resolveImageIds();
+            List<PostImage> existingImages = postImageRepository.findByPostIdWithImage(postId);
+
+            // 단일 imageId로 다중 이미지 게시글을 교체하면 나머지 이미지가 사라짐 → imageIds 요구
+            boolean legacySingleImage = request.getImageIds() == null || request.getImageIds().isEmpty();
+            if (legacySingleImage && existingImages.size() > 1) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT,
+                        "Use imageIds to change images of a post with " + existingImages.size() + " images");
+            }
 
-            // PostImage 브릿지 테이블 저장
-            PostImage postImage = PostImage.builder()
-                    .post(post)
-                    .image(newImage)
-                    .displayOrder(1)
-                    .build();
-            postImageRepository.save(postImage);
+            // 기존 이미지 참조 해제 + 브릿지 삭제 → 새 목록 연결
+            releaseImagesAndDeleteBridge(postId, existingImages);
+            linkImages(post, imageIds);
 
-            log.info("[Post] 게시글 이미지 변경: postId={}, imageId={}",
-                     postId, newImage.getImageId());
+            log.info("[Post] 게시글 이미지 변경: postId={}, imageIds={}", postId, imageIds);
         }
-        // Case 3: 이미지 유지 (둘 다 없음)
+        // Case 3: 이미지 유지 (모두 없음)
 
         log.debug("[Post] 게시글 수정 완료: postId={}", postId);
 
@@ -287,7 +316,7 @@ public class PostService {
      * 게시글 삭제 (FR-POST-005)
      * - 작성자 본인만 삭제 가능
      * - Soft Delete (상태 → DELETED)
-     * - 연결된 이미지 TTL 복원 (고아 이미지 처리)
+     * - 연결된 이미지 참조 해제 (고아 이미지 처리)
      */
     @Transactional
     public void deletePost(Long postId, Long userId) {
@@ -301,8 +330,8 @@ public class PostService {
                     "Not authorized to delete this post");
         }
 
-        // 연결된 이미지 TTL 복원 + 브릿지 삭제 (고아 이미지 처리)
-        restoreExpiresAtAndDeleteBridge(postId);
+        // 연결된 이미지 참조 해제 + 브릿지 삭제 (고아 이미지 처리)
+        releaseImagesAndDeleteBridge(postId);
 
         // Soft Delete
         post.updateStatus(PostStatus.DELETED);
@@ -311,25 +340,26 @@ public class PostService {
     }
 
     /**
-     * 게시글의 기존 이미지 TTL 복원 + 브릿지 삭제
-     * - 배치에서 expires_at < NOW() 조건으로 자동 삭제
+     * 게시글의 기존 이미지 참조 해제 + 브릿지 삭제
+     * - 참조 수가 0이 된 이미지는 released_at 기록 → 유예 시간 후 정리 배치에서 삭제
      */
-    private void restoreExpiresAtAndDeleteBridge(Long postId) {
-        log.debug("[DEBUG] restoreExpiresAtAndDeleteBridge 시작: postId={}", postId);
-
+    private void releaseImagesAndDeleteBridge(Long postId) {
         // 1. 기존 브릿지 조회 (Fetch Join으로 Image 함께 조회)
-        List<PostImage> existingImages = postImageRepository.findByPostIdWithImage(postId);
-        log.debug("[DEBUG] 기존 이미지 개수: {}", existingImages.size());
-
-        // 2. 각 이미지 TTL 복원 (JPA Dirty Checking으로 UPDATE)
-        for (PostImage postImage : existingImages) {
-            Image image = postImage.getImage();
-            image.setExpiresAt(LocalDateTime.now().plusHours(1));
+        releaseImagesAndDeleteBridge(postId, postImageRepository.findByPostIdWithImage(postId));
+    }
 
-            log.info("[Post] 고아 이미지 TTL 복원: imageId={}, expiresAt={}",
-                     image.getImageId(), image.getExpiresAt());
+    private void releaseImagesAndDeleteBridge(Long postId, List<PostImage> existingImages) {
+        if (existingImages.isEmpty()) {
+            return;
         }
 
+        // 2. 참조 해제 (원자적 UPDATE 1회)
+        List<Long> imageIds = existingImages.stream()
+                .map(postImage -> postImage.getImage().getImageId())
+                .toList();
+        imageRepository.releaseReferences(imageIds, LocalDateTime.now());
+        log.info("[Post] 이미지 참조 해제: postId={}, imageIds={}", postId, imageIds);
+
         // 3. 브릿지 삭제 (JPQL Bulk Delete)
         int deletedCount = postImageRepository.deleteByPostId(postId);
         log.info("[Post] 브릿지 삭제 완료: postId={}, deletedCount={}", postId, deletedCount);
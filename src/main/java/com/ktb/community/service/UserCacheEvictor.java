@@ -0,0 +1,61 @@
+package com.ktb.community.service;
+
+import com.ktb.community.entity.Image;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User/Image 2차 캐시 명시적 제거
+ * - 프로필 수정, 비밀번호 변경, 탈퇴 후 호출
+ * - 트랜잭션 커밋 후 제거 (커밋 전 제거 시 동시 조회가 이전 값을 다시 적재할 수 있음)
+ * - 상태 조건 쿼리 캐시(user-status)도 함께 비움
+ *
+ * READ_WRITE 전략이 커밋 시 엔티티 캐시를 갱신하지만,
+ * replica 라우팅/다른 인스턴스의 갱신 지연과 무관하게 다음 조회가 DB 값을 읽도록 보장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 사용자(및 프로필 이미지) 캐시 제거 예약
+     *
+     * @param userId 사용자 ID
+     * @param imageIds 함께 제거할 이미지 ID (기존/신규 프로필 이미지, null 허용)
+     */
+    public void evictAfterCommit(Long userId, Long... imageIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId, imageIds);
+                }
+            });
+        } else {
+            evict(userId, imageIds);
+        }
+    }
+
+    private void evict(Long userId, Long... imageIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class, userId);
+        for (Long imageId : imageIds) {
+            if (imageId != null) {
+                cache.evictEntityData(Image.class, imageId);
+            }
+        }
+        cache.evictQueryRegion(UserRepository.USER_STATUS_QUERY_REGION);
+        log.debug("[Cache] 사용자 캐시 제거: userId={}", userId);
+    }
+}
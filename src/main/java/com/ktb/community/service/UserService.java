@@ -10,6 +10,8 @@ import com.ktb.community.exception.BusinessException;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.repository.ImageRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.repository.UserTokenRepository;
+import com.ktb.community.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,7 +32,11 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final ImageRepository imageRepository;
+    private final ImageService imageService;
     private final PasswordEncoder passwordEncoder;
+    private final UserTokenRepository userTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserCacheEvictor userCacheEvictor;
     
     /**
      * 사용자 프로필 조회 (FR-USER-001)
@@ -72,15 +78,14 @@ public class UserService {
         }
 
         // ========== 프로필 이미지 처리 ==========
+        Long previousImageId = user.getProfileImage() != null ? user.getProfileImage().getImageId() : null;
 
         // Case 1: 새 이미지로 교체 (imageId: Long) - 최우선
         if (request.getImageId() != null) {
-            // 1. 기존 이미지 TTL 복원 (고아 이미지 처리)
-            Image oldImage = user.getProfileImage();
-            if (oldImage != null) {
-                oldImage.setExpiresAt(LocalDateTime.now().plusHours(1));
-                log.info("[User] 고아 이미지 TTL 복원: imageId={}, expiresAt={}",
-                         oldImage.getImageId(), oldImage.getExpiresAt());
+            // 1. 기존 이미지 참조 해제 (고아 이미지 처리)
+            if (previousImageId != null) {
+                imageRepository.releaseReferences(List.of(previousImageId), LocalDateTime.now());
+                log.info("[User] 이미지 참조 해제: imageId={}", previousImageId);
             }
 
             // 2. 새 이미지 참조
@@ -88,20 +93,18 @@ public class UserService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND,
                             "Invalid or expired image ID: " + request.getImageId()));
 
-            // 3. 새 이미지 연결 (TTL 해제 → 영구 보존)
-            newImage.clearExpiresAt();
+            // 3. 새 이미지 연결 (참조 획득 → 정리 배치 대상 제외)
+            imageService.acquireReference(newImage.getImageId());
             user.updateProfileImage(newImage);
 
             log.info("[User] 프로필 이미지 변경: imageId={}", newImage.getImageId());
         }
         // Case 2: 이미지 제거 요청 (removeImage: true)
         else if (Boolean.TRUE.equals(request.getRemoveImage())) {
-            Image oldImage = user.getProfileImage();
-            if (oldImage != null) {
-                // TTL 복원 (고아 이미지 처리)
-                oldImage.setExpiresAt(LocalDateTime.now().plusHours(1));
-                log.info("[User] 고아 이미지 TTL 복원: imageId={}, expiresAt={}",
-                         oldImage.getImageId(), oldImage.getExpiresAt());
+            if (previousImageId != null) {
+                // 참조 해제 (고아 이미지 처리)
+                imageRepository.releaseReferences(List.of(previousImageId), LocalDateTime.now());
+                log.info("[User] 이미지 참조 해제: imageId={}", previousImageId);
 
                 // 관계 해제
                 user.updateProfileImage(null);
@@ -110,6 +113,10 @@ public class UserService {
         }
         // Case 3: 이미지 유지 (둘 다 없음)
 
+        // 2차 캐시 제거 (커밋 후, 기존/신규 프로필 이미지 포함)
+        userCacheEvictor.evictAfterCommit(userId, previousImageId,
+                user.getProfileImage() != null ? user.getProfileImage().getImageId() : null);
+
         return UserResponse.from(user);
     }
     
@@ -118,6 +125,7 @@ public class UserService {
      * - 본인만 변경 가능
      * - 비밀번호 정책 검증
      * - 비밀번호 확인 일치 검증
+     * - 기존 토큰 전체 무효화
      */
     @Transactional
     public void changePassword(Long userId, Long authenticatedUserId, ChangePasswordRequest request) {
@@ -133,12 +141,18 @@ public class UserService {
         // 비밀번호 암호화 및 업데이트
         String encodedPassword = passwordEncoder.encode(request.getNewPassword());
         user.updatePassword(encodedPassword);
+
+        // 기존 토큰 무효화 (RT 삭제 + 커밋 후 발급된 AT 전체 폐기 → 재로그인 필요)
+        userTokenRepository.deleteByUserUserId(userId);
+        tokenRevocationList.revokeAllForUserAfterCommit(userId);
+        userCacheEvictor.evictAfterCommit(userId);
     }
     
     /**
      * 회원 탈퇴 (FR-USER-004)
      * - 본인만 탈퇴 가능
      * - Soft Delete (상태 변경)
+     * - 발급된 Access Token 폐기
      */
     @Transactional
     public void deactivateAccount(Long userId, Long authenticatedUserId) {
@@ -153,6 +167,10 @@ public class UserService {
         
         // 상태 변경 (Soft Delete)
         user.updateStatus(UserStatus.INACTIVE);
+
+        // 커밋 후 발급된 AT 전체 폐기 (RT는 재발급 시 ACTIVE 확인으로 차단)
+        tokenRevocationList.revokeAllForUserAfterCommit(userId);
+        userCacheEvictor.evictAfterCommit(userId);
     }
 
     /**
@@ -1,65 +1,355 @@
 package com.ktb.community.session;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 인메모리 세션 저장소
- * - ConcurrentHashMap 사용 (Thread-Safe) - 세분화된 잠금 (Fine-Grained Locking)
- * - 만료된 세션 자동 정리 (조회 시)
+ * - ConcurrentHashMap 조회 (잠금 없음) + 최대 용량 초과 시 CLOCK(근사 LRU)으로 최근 미사용 세션 제거
+ * - Hashed Timing Wheel 스위퍼: 만료 슬롯만 순회하여 조회되지 않는 세션도 정리
+ * - 조회 시 만료 확인 (스위퍼 주기 사이에 만료된 세션 즉시 제외)
+ * - 슬라이딩 연장된 세션은 renewAll 또는 스윕 시 새 슬롯으로 재배치
+ *
+ * Timing Wheel 구조:
+ * - 슬롯 수: WHEEL_SIZE (2의 거듭제곱), 슬롯 간격: tick-ms
+ * - 세션은 만료 tick % WHEEL_SIZE 슬롯의 이중 연결 리스트에 등록 (등록/삭제 O(1))
+ * - 스위퍼는 tick마다 한 슬롯만 확인, 만료 tick이 아직 오지 않은 노드(다음 회전)는 유지
+ *
+ * CLOCK 구조:
+ * - 모든 노드를 원형 연결 리스트로 연결, 조회 시 referenced 비트만 설정 (구조 변경 X)
+ * - 제거 시 hand가 referenced 노드는 비트를 지우고 통과, 아닌 노드를 제거 (최근 조회 세션은 한 바퀴 유예)
+ *
+ * 동기화:
+ * - 조회(findById): 잠금 없음 (CHM 읽기 + volatile 비트 쓰기), 만료 세션 삭제 시에만 잠금
+ * - 저장/삭제/연장/스윕: ReentrantLock (Timing Wheel, CLOCK 리스트 변경, O(1) 구간만 잠금)
  */
 @Slf4j
 @Component
-public class InMemorySessionStore {
+@ConditionalOnProperty(name = "session.store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStore implements SessionStore {
 
-    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final int capacity;
+    private final long tickMillis;
+
+    /**
+     * 세션 ID → 노드 (읽기는 잠금 없이, 변경은 lock 보유 시에만)
+     */
+    private final ConcurrentHashMap<String, Node> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Timing Wheel 슬롯별 연결 리스트 머리 노드
+     */
+    private final Node[] wheel = new Node[WHEEL_SIZE];
+
+    /**
+     * 마지막으로 스윕한 tick
+     */
+    private long lastSweptTick;
+
+    /**
+     * CLOCK hand (다음 제거 후보, 세션 없으면 null)
+     */
+    private Node hand;
+
+    /**
+     * 세션 + Timing Wheel / CLOCK 연결 정보
+     */
+    private static final class Node {
+        private final Session session;
+        private long expiryTick;
+        private Node prev;
+        private Node next;
+        private Node clockPrev;
+        private Node clockNext;
+        private volatile boolean referenced;  // 마지막 hand 통과 이후 조회 여부
+
+        private Node(Session session, long expiryTick) {
+            this.session = session;
+            this.expiryTick = expiryTick;
+        }
+    }
+
+    public InMemorySessionStore(@Value("${session.store.capacity:100000}") int capacity,
+                                @Value("${session.store.tick-ms:1000}") long tickMillis) {
+        this.capacity = capacity;
+        this.tickMillis = tickMillis;
+        this.lastSweptTick = System.currentTimeMillis() / tickMillis;
+    }
 
     /**
      * 세션 저장
+     * - 용량 초과 시 CLOCK 순서로 최근 미사용 세션 제거
      */
+    @Override
     public void save(Session session) {
-        sessions.put(session.getSessionId(), session);
+        Node node = new Node(session, expiryTick(session.getExpiresAtMillis()));
+
+        lock.lock();
+        try {
+            Node previous = sessions.put(session.getSessionId(), node);
+            if (previous != null) {
+                unlink(previous);
+                unlinkClock(previous);
+            }
+            link(node);
+            linkClock(node);
+            evictOverCapacity();
+        } finally {
+            lock.unlock();
+        }
         log.debug("[SessionStore] 세션 저장 완료");
     }
 
     /**
-     * 세션 조회 (만료 시 자동 삭제)
+     * 세션 조회 (잠금 없음, 만료 시 자동 삭제)
+     * - 최근 사용 기록은 referenced 비트만 설정 (이미 설정된 경우 쓰기 생략)
      */
+    @Override
     public Optional<Session> findById(String sessionId) {
-        Session session = sessions.get(sessionId);
+        Node node = sessions.get(sessionId);
 
-        if (session == null) {
+        if (node == null) {
             return Optional.empty();
         }
 
         // 만료 확인
-        if (session.isExpired()) {
-            sessions.remove(sessionId);
+        if (node.session.isExpired()) {
+            lock.lock();
+            try {
+                remove(node);
+            } finally {
+                lock.unlock();
+            }
             log.debug("[SessionStore] 만료된 세션 자동 삭제");
             return Optional.empty();
         }
 
-        return Optional.of(session);
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return Optional.of(node.session);
     }
 
     /**
      * 세션 삭제 (로그아웃)
      */
+    @Override
     public void deleteById(String sessionId) {
-        Session removed = sessions.remove(sessionId);
+        Node removed;
+        lock.lock();
+        try {
+            removed = sessions.get(sessionId);
+            if (removed != null) {
+                remove(removed);
+            }
+        } finally {
+            lock.unlock();
+        }
         if (removed != null) {
             log.debug("[SessionStore] 세션 삭제 완료");
         }
     }
 
+    /**
+     * 만료 시각 일괄 연장
+     * - Session 객체는 SessionManager가 이미 갱신 → Timing Wheel 슬롯만 재배치
+     */
+    @Override
+    public void renewAll(Map<String, Long> expiries) {
+        lock.lock();
+        try {
+            for (Map.Entry<String, Long> entry : expiries.entrySet()) {
+                Node node = sessions.get(entry.getKey());
+                if (node == null) {
+                    continue;
+                }
+                if (entry.getValue() > node.session.getExpiresAtMillis()) {
+                    node.session.renew(entry.getValue());
+                }
+                reschedule(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * 전체 세션 개수 (디버깅용)
      */
+    @Override
     public int size() {
         return sessions.size();
     }
+
+    /**
+     * 만료 세션 정리 (tick 간격)
+     */
+    @Scheduled(fixedRateString = "${session.store.tick-ms:1000}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    /**
+     * 기준 시각까지 지나간 슬롯 스윕
+     * - 스위퍼 지연으로 여러 tick이 밀린 경우 밀린 슬롯을 순서대로 처리 (최대 1회전)
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 삭제된 세션 수
+     */
+    int sweep(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        long fromTick = Math.max(lastSweptTick + 1, nowTick - WHEEL_MASK);
+        int expired = 0;
+
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            lock.lock();
+            try {
+                expired += sweepSlot((int) (tick & WHEEL_MASK), nowTick, nowMillis);
+            } finally {
+                lock.unlock();
+            }
+        }
+        lastSweptTick = Math.max(lastSweptTick, nowTick);
+
+        if (expired > 0) {
+            log.debug("[SessionStore] 만료 세션 정리: {}건", expired);
+        }
+        return expired;
+    }
+
+    private int sweepSlot(int slot, long nowTick, long nowMillis) {
+        int expired = 0;
+        Node node = wheel[slot];
+        while (node != null) {
+            Node next = node.next;
+            // 다음 회전 대상(expiryTick > nowTick)은 유지
+            if (node.expiryTick <= nowTick) {
+                if (node.session.isExpired(nowMillis)) {
+                    remove(node);
+                    expired++;
+                } else {
+                    reschedule(node);  // 배치 반영 전 연장된 세션
+                }
+            }
+            node = next;
+        }
+        return expired;
+    }
+
+    /**
+     * 용량 초과 시 CLOCK 제거
+     * - referenced 노드는 비트를 지우고 통과, 조회되지 않은(또는 만료된) 노드 제거
+     * - 최대 두 바퀴 안에 제거 대상 발견 (한 바퀴 돌면 모든 비트가 지워짐)
+     */
+    private void evictOverCapacity() {
+        while (sessions.size() > capacity && hand != null) {
+            Node candidate = hand;
+            if (candidate.referenced && !candidate.session.isExpired()) {
+                candidate.referenced = false;
+                hand = candidate.clockNext;
+                continue;
+            }
+            remove(candidate);
+            log.debug("[SessionStore] 용량 초과로 최근 미사용 세션 제거 (capacity={})", capacity);
+        }
+    }
+
+    /**
+     * 세션 제거 (맵, Timing Wheel, CLOCK 리스트)
+     * - 조회 스레드가 같은 노드를 동시에 제거하려 할 수 있으므로 맵에 남아 있는 경우만 처리
+     */
+    private void remove(Node node) {
+        if (sessions.remove(node.session.getSessionId(), node)) {
+            unlink(node);
+            unlinkClock(node);
+        }
+    }
+
+    /**
+     * 만료 시각이 속한 tick (만료 직후 tick에 스윕되도록 올림)
+     */
+    private long expiryTick(long expiresAtMillis) {
+        return Math.floorDiv(expiresAtMillis + tickMillis, tickMillis);
+    }
+
+    /**
+     * 연장된 만료 시각 기준으로 슬롯 재배치
+     */
+    private void reschedule(Node node) {
+        long expiryTick = expiryTick(node.session.getExpiresAtMillis());
+        if (expiryTick != node.expiryTick) {
+            unlink(node);
+            node.expiryTick = expiryTick;
+            link(node);
+        }
+    }
+
+    private void link(Node node) {
+        int slot = (int) (node.expiryTick & WHEEL_MASK);
+        Node head = wheel[slot];
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        wheel[slot] = node;
+    }
+
+    /**
+     * CLOCK 리스트 삽입 (hand 바로 앞 = 가장 늦게 방문)
+     */
+    private void linkClock(Node node) {
+        if (hand == null) {
+            node.clockPrev = node;
+            node.clockNext = node;
+            hand = node;
+            return;
+        }
+        Node tail = hand.clockPrev;
+        tail.clockNext = node;
+        node.clockPrev = tail;
+        node.clockNext = hand;
+        hand.clockPrev = node;
+    }
+
+    private void unlinkClock(Node node) {
+        if (node.clockNext == node) {
+            hand = null;
+        } else {
+            node.clockPrev.clockNext = node.clockNext;
+            node.clockNext.clockPrev = node.clockPrev;
+            if (hand == node) {
+                hand = node.clockNext;
+            }
+        }
+        node.clockPrev = null;
+        node.clockNext = null;
+    }
+
+    private void unlink(Node node) {
+        int slot = (int) (node.expiryTick & WHEEL_MASK);
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (wheel[slot] == node) {
+            wheel[slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
 }
@@ -0,0 +1,489 @@
+package com.ktb.community.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑 파일 세션 저장소 (session.store.type=mapped)
+ * - 고정 크기 레코드를 파일 매핑 영역(off-heap)에 저장 → 세션 수와 무관하게 힙/GC 부담 일정
+ * - 인덱스: 세션 ID(UUID 128bit) 해시 기반 Open Addressing (Linear Probing, Backward-Shift 삭제)
+ * - 재시작 시 파일을 다시 매핑하고 레코드 검증(CRC32, 중복, 만료) 후 복구 → 로그인 상태 유지
+ *
+ * 파일 구조:
+ * - 헤더 64B: MAGIC, VERSION, 슬롯 수, 레코드 크기
+ * - 슬롯 N개 × 320B (N = capacity × 2 이상의 2의 거듭제곱, 부하율 0.5 이하)
+ *
+ * 레코드 구조 (320B):
+ * - 0: 상태 (0 비어있음, 1 사용중) - 마지막에 기록
+ * - 1: role 길이, 2~3: email 길이, 4~7: CRC32 (1~3, 8~319 구간)
+ * - 8~23: 세션 ID (UUID msb, lsb), 24: userId, 32: 생성 시각, 40: 만료 시각 (epoch millis)
+ * - 48~63: role (최대 16B), 64~319: email (최대 256B, UTF-8)
+ *
+ * 용량 초과 시: 탐색 경로(home 이후) 사용 중 슬롯 최대 EVICTION_PROBES개 중 만료가 가장 이른 세션 교체
+ * - 만료 세션 일괄 정리는 스위퍼(1분)에만 위임 (저장 시 전체 파일 스캔 X)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "session.store.type", havingValue = "mapped")
+public class MappedFileSessionStore implements SessionStore, DisposableBean {
+
+    private static final int MAGIC = 0x4B53_4553;  // "KSES"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 320;
+
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+
+    private static final int OFF_STATE = 0;
+    private static final int OFF_ROLE_LEN = 1;
+    private static final int OFF_EMAIL_LEN = 2;
+    private static final int OFF_CRC = 4;
+    private static final int OFF_MSB = 8;
+    private static final int OFF_LSB = 16;
+    private static final int OFF_USER_ID = 24;
+    private static final int OFF_CREATED_AT = 32;
+    private static final int OFF_EXPIRES_AT = 40;
+    private static final int OFF_ROLE = 48;
+    private static final int OFF_EMAIL = 64;
+    private static final int MAX_ROLE_BYTES = OFF_EMAIL - OFF_ROLE;
+    private static final int MAX_EMAIL_BYTES = RECORD_SIZE - OFF_EMAIL;
+
+    /**
+     * 용량 초과 시 교체 후보 수 (사용 중 슬롯 기준)
+     */
+    private static final int EVICTION_PROBES = 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int slotCount;
+    private final int slotMask;
+
+    /**
+     * 사용 중인 슬롯 수 (쓰기 잠금 하에서만 변경)
+     */
+    private int live;
+
+    public MappedFileSessionStore(@Value("${session.store.path:data/sessions.dat}") String path,
+                                  @Value("${session.store.capacity:100000}") int capacity) {
+        this.capacity = capacity;
+        this.slotCount = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+        this.slotMask = slotCount - 1;
+
+        long fileSize = HEADER_SIZE + (long) slotCount * RECORD_SIZE;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("session.store.capacity too large for a single mapping: " + capacity);
+        }
+
+        try {
+            Path file = Path.of(path);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean reuse = channel.size() == fileSize;
+            if (channel.size() > fileSize) {
+                // 용량 축소 등으로 기존 파일이 더 큼 → 잘라내지 않으면 재시작마다 크기 불일치로 초기화 반복
+                channel.truncate(fileSize);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+
+            if (reuse && hasValidHeader()) {
+                int recovered = recover(System.currentTimeMillis());
+                log.info("[SessionStore] 세션 파일 복구 완료: {}건 ({})", recovered, file.toAbsolutePath());
+            } else {
+                initialize();
+                log.info("[SessionStore] 세션 파일 초기화: slots={} ({})", slotCount, file.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open session store file: " + path, e);
+        }
+    }
+
+    @Override
+    public void save(Session session) {
+        UUID id = UUID.fromString(session.getSessionId());
+        byte[] role = encode(session.getRole(), MAX_ROLE_BYTES);
+        byte[] email = encode(session.getEmail(), MAX_EMAIL_BYTES);
+
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot < 0) {
+                if (live >= capacity && !evictOne(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                    log.warn("[SessionStore] 교체할 세션 없음, 저장 거부 (capacity={})", capacity);
+                    throw new IllegalStateException("Session store is full (capacity=" + capacity + ")");
+                }
+                slot = findFreeSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+                live++;
+            }
+            writeRecord(offset(slot), id, session, role, email);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("[SessionStore] 세션 저장 완료");
+    }
+
+    @Override
+    public Optional<Session> findById(String sessionId) {
+        UUID id = parse(sessionId);
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot < 0) {
+                return Optional.empty();
+            }
+
+            int base = offset(slot);
+            // 만료 세션은 제외만 하고 삭제는 스위퍼에 위임 (읽기 잠금 유지)
+            if (System.currentTimeMillis() > buffer.getLong(base + OFF_EXPIRES_AT)) {
+                return Optional.empty();
+            }
+            return Optional.of(readSession(base, sessionId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String sessionId) {
+        UUID id = parse(sessionId);
+        if (id == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot >= 0) {
+                removeSlot(slot);
+                log.debug("[SessionStore] 세션 삭제 완료");
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 만료 시각 일괄 연장 (배치 1회 쓰기 잠금)
+     */
+    @Override
+    public void renewAll(Map<String, Long> expiries) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, Long> entry : expiries.entrySet()) {
+                UUID id = parse(entry.getKey());
+                int slot = id != null ? findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits()) : -1;
+                if (slot < 0) {
+                    continue;
+                }
+                int base = offset(slot);
+                if (entry.getValue() > buffer.getLong(base + OFF_EXPIRES_AT)) {
+                    buffer.putLong(base + OFF_EXPIRES_AT, entry.getValue());
+                    buffer.putInt(base + OFF_CRC, checksum(base));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 만료 세션 정리 + 디스크 동기화 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        int expired;
+        lock.writeLock().lock();
+        try {
+            expired = removeExpired(System.currentTimeMillis());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        buffer.force();
+
+        if (expired > 0) {
+            log.debug("[SessionStore] 만료 세션 정리: {}건", expired);
+        }
+    }
+
+    /**
+     * 종료 시 디스크 동기화 후 파일 닫기
+     */
+    @Override
+    public void destroy() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    // ==================== 복구 ====================
+
+    private boolean hasValidHeader() {
+        return buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == VERSION
+                && buffer.getInt(8) == slotCount
+                && buffer.getInt(12) == RECORD_SIZE;
+    }
+
+    private void initialize() {
+        for (int i = 0; i < slotCount; i++) {
+            buffer.put(offset(i) + OFF_STATE, EMPTY);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, slotCount);
+        buffer.putInt(12, RECORD_SIZE);
+        live = 0;
+    }
+
+    /**
+     * 재시작 복구
+     * - CRC 불일치(기록 중 종료된 레코드) 제거
+     * - 중복 키(Backward-Shift 이동 중 종료) 제거: 탐색 결과가 자기 자신이 아닌 레코드
+     * - 만료 세션 제거
+     *
+     * @return 복구된 세션 수
+     */
+    int recover(long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            live = 0;
+            for (int i = 0; i < slotCount; i++) {
+                if (buffer.get(offset(i) + OFF_STATE) == USED) {
+                    live++;
+                }
+            }
+
+            int slot = 0;
+            while (slot < slotCount) {
+                int base = offset(slot);
+                if (buffer.get(base + OFF_STATE) == USED) {
+                    boolean corrupt = buffer.getInt(base + OFF_CRC) != checksum(base);
+                    boolean duplicate = !corrupt && findSlot(
+                            buffer.getLong(base + OFF_MSB), buffer.getLong(base + OFF_LSB)) != slot;
+                    if (corrupt || duplicate || nowMillis > buffer.getLong(base + OFF_EXPIRES_AT)) {
+                        removeSlot(slot);
+                        continue;  // Backward-Shift로 다른 레코드가 이 슬롯에 이동했을 수 있음
+                    }
+                }
+                slot++;
+            }
+            return live;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== Open Addressing ====================
+
+    /**
+     * 세션 ID 슬롯 탐색
+     *
+     * @return 슬롯 번호 (없으면 -1)
+     */
+    private int findSlot(long msb, long lsb) {
+        int slot = home(msb, lsb);
+        for (int probe = 0; probe < slotCount; probe++) {
+            int base = offset(slot);
+            if (buffer.get(base + OFF_STATE) == EMPTY) {
+                return -1;
+            }
+            if (buffer.getLong(base + OFF_MSB) == msb && buffer.getLong(base + OFF_LSB) == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    private int findFreeSlot(long msb, long lsb) {
+        int slot = home(msb, lsb);
+        while (buffer.get(offset(slot) + OFF_STATE) != EMPTY) {
+            slot = (slot + 1) & slotMask;
+        }
+        return slot;
+    }
+
+    /**
+     * 용량 확보: home부터 사용 중 슬롯 EVICTION_PROBES개를 찾아 만료가 가장 이른 세션 1개 제거
+     * - 빈 슬롯은 건너뛰고 계속 탐색 (부하율 0.5 이하 → 평균 수 슬롯 내 종료, 만료 세션이 있으면 우선 선택됨)
+     *
+     * @return 제거 여부 (false: 사용 중 슬롯 없음)
+     */
+    private boolean evictOne(long msb, long lsb) {
+        int slot = home(msb, lsb);
+        int victim = -1;
+        long earliest = Long.MAX_VALUE;
+        int candidates = 0;
+        for (int probe = 0; probe < slotCount && candidates < EVICTION_PROBES; probe++) {
+            int base = offset(slot);
+            if (buffer.get(base + OFF_STATE) == USED) {
+                candidates++;
+                if (buffer.getLong(base + OFF_EXPIRES_AT) < earliest) {
+                    earliest = buffer.getLong(base + OFF_EXPIRES_AT);
+                    victim = slot;
+                }
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        if (victim < 0) {
+            return false;
+        }
+        removeSlot(victim);
+        log.debug("[SessionStore] 용량 초과로 세션 교체 (capacity={})", capacity);
+        return true;
+    }
+
+    private int removeExpired(long nowMillis) {
+        int expired = 0;
+        int slot = 0;
+        while (slot < slotCount) {
+            int base = offset(slot);
+            if (buffer.get(base + OFF_STATE) == USED && nowMillis > buffer.getLong(base + OFF_EXPIRES_AT)) {
+                removeSlot(slot);
+                expired++;
+                continue;
+            }
+            slot++;
+        }
+        return expired;
+    }
+
+    /**
+     * Backward-Shift 삭제 (Tombstone 없음 → 탐색 길이 유지)
+     * - 삭제 위치 뒤의 레코드 중 원래 위치(home)가 빈 슬롯 이전인 레코드를 앞으로 당김
+     */
+    private void removeSlot(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & slotMask;
+        while (buffer.get(offset(next) + OFF_STATE) == USED) {
+            int base = offset(next);
+            int home = home(buffer.getLong(base + OFF_MSB), buffer.getLong(base + OFF_LSB));
+            // home이 (hole, next] 구간 밖이면 hole로 이동 가능
+            boolean movable = hole <= next
+                    ? (home <= hole || home > next)
+                    : (home <= hole && home > next);
+            if (movable) {
+                copyRecord(base, offset(hole));
+                hole = next;
+            }
+            next = (next + 1) & slotMask;
+        }
+        buffer.put(offset(hole) + OFF_STATE, EMPTY);
+        live--;
+    }
+
+    private int home(long msb, long lsb) {
+        long h = msb ^ lsb;
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return (int) h & slotMask;
+    }
+
+    // ==================== 레코드 읽기/쓰기 ====================
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    /**
+     * 레코드 기록 (필드 → CRC → 상태 순서, 상태 바이트는 마지막에 기록)
+     */
+    private void writeRecord(int base, UUID id, Session session, byte[] role, byte[] email) {
+        buffer.put(base + OFF_ROLE_LEN, (byte) role.length);
+        buffer.putShort(base + OFF_EMAIL_LEN, (short) email.length);
+        buffer.putLong(base + OFF_MSB, id.getMostSignificantBits());
+        buffer.putLong(base + OFF_LSB, id.getLeastSignificantBits());
+        buffer.putLong(base + OFF_USER_ID, session.getUserId() != null ? session.getUserId() : 0L);
+        buffer.putLong(base + OFF_CREATED_AT, session.getCreatedAtMillis());
+        buffer.putLong(base + OFF_EXPIRES_AT, session.getExpiresAtMillis());
+        buffer.put(base + OFF_ROLE, role);
+        buffer.put(base + OFF_EMAIL, email);
+        buffer.putInt(base + OFF_CRC, checksum(base));
+        buffer.put(base + OFF_STATE, USED);
+    }
+
+    private void copyRecord(int from, int to) {
+        buffer.put(to + OFF_ROLE_LEN, buffer, from + OFF_ROLE_LEN, RECORD_SIZE - OFF_ROLE_LEN);
+        buffer.put(to + OFF_STATE, USED);
+    }
+
+    private Session readSession(int base, String sessionId) {
+        byte[] role = new byte[buffer.get(base + OFF_ROLE_LEN)];
+        byte[] email = new byte[buffer.getShort(base + OFF_EMAIL_LEN)];
+        buffer.get(base + OFF_ROLE, role);
+        buffer.get(base + OFF_EMAIL, email);
+
+        return Session.builder()
+                .sessionId(sessionId)
+                .userId(buffer.getLong(base + OFF_USER_ID))
+                .email(new String(email, StandardCharsets.UTF_8))
+                .role(new String(role, StandardCharsets.UTF_8))
+                .createdAtMillis(buffer.getLong(base + OFF_CREATED_AT))
+                .expiresAtMillis(buffer.getLong(base + OFF_EXPIRES_AT))
+                .build();
+    }
+
+    /**
+     * CRC32 (길이 필드 1~3 + 본문 8~319)
+     */
+    private int checksum(int base) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(base + OFF_ROLE_LEN, OFF_CRC - OFF_ROLE_LEN));
+        crc.update(buffer.slice(base + OFF_MSB, RECORD_SIZE - OFF_MSB));
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(String value, int maxBytes) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("Session field exceeds " + maxBytes + " bytes");
+        }
+        return bytes;
+    }
+
+    private static UUID parse(String sessionId) {
+        try {
+            return UUID.fromString(sessionId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.ktb.community.session;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * 세션 도메인 객체
  * - 세션 ID: UUID (쿠키에 저장)
- * - 유효시간: 1시간 고정
- * - 저장 위치: InMemorySessionStore (ConcurrentHashMap)
+ * - 유효시간: 1시간 슬라이딩 (SessionManager가 요청 시 갱신)
+ * - 저장 위치: SessionStore (memory | mapped)
+ * - 만료 시각은 epoch millis로 보관 (만료 확인 시 LocalDateTime 할당 없음)
  */
 @Getter
 @Builder
@@ -19,14 +22,45 @@ public class Session {
     private Long userId;
     private String email;
     private String role;
-    private LocalDateTime createdAt;
-    private LocalDateTime expiresAt;  // 1시간 고정
+    private long createdAtMillis;
+    private volatile long expiresAtMillis;  // 슬라이딩 갱신 (요청 스레드 간 공유)
 
     /**
      * 세션 만료 여부 확인
      * @return true: 만료됨, false: 유효함
      */
     public boolean isExpired() {
-        return LocalDateTime.now().isAfter(expiresAt);
+        return isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 세션 만료 여부 확인 (기준 시각 지정)
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return true: 만료됨, false: 유효함
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis > expiresAtMillis;
+    }
+
+    /**
+     * 만료 시각 연장 (SessionManager 슬라이딩 갱신)
+     * @param expiresAtMillis 새 만료 시각 (epoch millis)
+     */
+    void renew(long expiresAtMillis) {
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * 생성 시각 (표시용)
+     */
+    public LocalDateTime getCreatedAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 만료 시각 (표시용)
+     */
+    public LocalDateTime getExpiresAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
     }
 }
@@ -1,24 +1,47 @@
 package com.ktb.community.session;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 세션 관리 매니저
  * - 세션 생성, 조회, 삭제
  * - 세션 ID는 UUID v4 (2^122 가능성, 충돌 없음)
+ * - 슬라이딩 만료: 조회 시 만료 시각 연장 (touch-interval 당 최대 1회)
+ * - 연장 내역은 pendingTouches에 병합 후 주기적으로 저장소에 일괄 반영
+ *
+ * 요청당 비용: touch 주기가 지나지 않았으면 expiresAtMillis volatile 읽기 1회
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class SessionManager {
+public class SessionManager implements DisposableBean {
 
-    private final InMemorySessionStore sessionStore;
+    private final SessionStore sessionStore;
+    private final long ttlMillis;
+    private final long touchIntervalMillis;
+
+    /**
+     * 저장소 반영 대기 중인 연장 내역 (세션 ID → 새 만료 시각)
+     * - 같은 세션의 연속 touch는 1건으로 병합
+     */
+    private final Map<String, Long> pendingTouches = new ConcurrentHashMap<>();
+
+    public SessionManager(SessionStore sessionStore,
+                          @Value("${session.ttl-ms:3600000}") long ttlMillis,
+                          @Value("${session.touch-interval-ms:60000}") long touchIntervalMillis) {
+        this.sessionStore = sessionStore;
+        this.ttlMillis = ttlMillis;
+        this.touchIntervalMillis = touchIntervalMillis;
+    }
 
     /**
      * 세션 생성 (로그인)
@@ -29,14 +52,15 @@ public class SessionManager {
      */
     public String createSession(Long userId, String email, String role) {
         String sessionId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
 
         Session session = Session.builder()
                 .sessionId(sessionId)
                 .userId(userId)
                 .email(email)
                 .role(role)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusHours(1))  // 1시간 고정
+                .createdAtMillis(now)
+                .expiresAtMillis(now + ttlMillis)
                 .build();
 
         sessionStore.save(session);
@@ -46,12 +70,47 @@ public class SessionManager {
     }
 
     /**
-     * 세션 조회
+     * 세션 조회 (유효 세션은 슬라이딩 연장)
      * @param sessionId 세션 ID
      * @return Session (만료 시 빈 Optional)
      */
     public Optional<Session> findById(String sessionId) {
-        return sessionStore.findById(sessionId);
+        Optional<Session> session = sessionStore.findById(sessionId);
+        session.ifPresent(s -> touch(s, System.currentTimeMillis()));
+        return session;
+    }
+
+    /**
+     * 만료 시각 연장
+     * - 마지막 연장 시각(= 만료 시각 - TTL) 이후 touch-interval이 지나지 않았으면 생략
+     * - 연장 시 Session 객체는 즉시 갱신, 저장소 반영은 flushTouches에서 일괄 처리
+     */
+    void touch(Session session, long nowMillis) {
+        long expiresAt = session.getExpiresAtMillis();
+        if (nowMillis < expiresAt - ttlMillis + touchIntervalMillis) {
+            return;
+        }
+
+        long renewed = nowMillis + ttlMillis;
+        session.renew(renewed);
+        pendingTouches.merge(session.getSessionId(), renewed, Math::max);
+    }
+
+    /**
+     * 연장 내역 일괄 반영 (기본 5초마다)
+     * - 반영 중 같은 세션이 다시 연장되면 다음 배치에 포함 (remove(key, value)로 최신 값 보존)
+     */
+    @Scheduled(fixedDelayString = "${session.touch-flush-ms:5000}")
+    public void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> batch = new HashMap<>(pendingTouches);
+        batch.forEach(pendingTouches::remove);
+
+        sessionStore.renewAll(batch);
+        log.debug("[SessionManager] 세션 연장 반영: {}건", batch.size());
     }
 
     /**
@@ -59,7 +118,16 @@ public class SessionManager {
      * @param sessionId 세션 ID
      */
     public void deleteSession(String sessionId) {
+        pendingTouches.remove(sessionId);
         sessionStore.deleteById(sessionId);
         log.info("[SessionManager] 세션 삭제 완료");
     }
+
+    /**
+     * 종료 시 남은 연장 내역 반영
+     */
+    @Override
+    public void destroy() {
+        flushTouches();
+    }
 }
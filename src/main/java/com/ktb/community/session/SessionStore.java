@@ -0,0 +1,42 @@
+package com.ktb.community.session;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 세션 저장소
+ * - memory: InMemorySessionStore (힙, LRU + Timing Wheel 만료, 기본값)
+ * - mapped: MappedFileSessionStore (메모리 매핑 파일, 재시작 시 복구)
+ *
+ * 선택: session.store.type 프로퍼티
+ */
+public interface SessionStore {
+
+    /**
+     * 세션 저장
+     */
+    void save(Session session);
+
+    /**
+     * 세션 조회 (만료 세션은 빈 Optional)
+     */
+    Optional<Session> findById(String sessionId);
+
+    /**
+     * 세션 삭제 (로그아웃)
+     */
+    void deleteById(String sessionId);
+
+    /**
+     * 만료 시각 일괄 연장 (SessionManager의 touch 배치 반영)
+     * - 없는 세션은 무시, 기존 만료 시각보다 늦을 때만 반영
+     *
+     * @param expiries 세션 ID → 새 만료 시각 (epoch millis)
+     */
+    void renewAll(Map<String, Long> expiries);
+
+    /**
+     * 전체 세션 개수 (디버깅용)
+     */
+    int size();
+}
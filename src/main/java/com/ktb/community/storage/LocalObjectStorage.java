@@ -0,0 +1,239 @@
+package com.ktb.community.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 로컬 파일시스템 객체 저장소 (storage.type=local)
+ * - 네트워크 없이 이미지 업로드/조회/정리 전체 흐름 실행 (로컬 개발, CI, 벤치마크)
+ * - 파일 위치: {storage.local.root}/{key}
+ * - 공개 URL: {storage.local.base-url}/{key} (LocalStorageController가 GET 제공)
+ *
+ * 저장 방식:
+ * - FileChannel.transferFrom으로 복사 (원본이 파일이면 커널 내 복사, 사용자 공간 버퍼 X)
+ * - 같은 디렉토리 임시 파일에 쓴 뒤 원자적 rename → 쓰는 중인 파일이 조회되지 않음
+ *
+ * 서명 URL: HMAC-SHA256(key, contentType, expires) → LocalStorageController PUT에서 검증
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final ExecutorService storageExecutor;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStorage(@Value("${storage.local.root:data/storage}") String root,
+                              @Value("${storage.local.base-url:http://localhost:8080/storage}") String baseUrl,
+                              @Value("${storage.local.signing-secret:}") String signingSecret,
+                              @Qualifier("storageExecutor") ExecutorService storageExecutor) throws IOException {
+        this.root = Files.createDirectories(Path.of(root)).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.storageExecutor = storageExecutor;
+
+        // 시크릿 미지정 시 기동마다 새 키 (재시작 전 발급된 서명 URL은 무효)
+        byte[] secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        if (signingSecret.isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        }
+        this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+
+        log.info("[Storage] 로컬 객체 저장소 사용: root={}, baseUrl={}", this.root, this.baseUrl);
+    }
+
+    @Override
+    public void put(String key, String contentType, long contentLength, InputStreamSource source) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+
+            try (ReadableByteChannel in = openChannel(source);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < contentLength) {
+                    long transferred = out.transferFrom(in, position, contentLength - position);
+                    if (transferred <= 0) {
+                        break;  // 원본 EOF
+                    }
+                    position += transferred;
+                }
+                if (position != contentLength) {
+                    throw new IOException("Content length mismatch: expected=" + contentLength + ", actual=" + position);
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("Local storage write failed: " + key, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, String contentType, long contentLength,
+                                            InputStreamSource source) {
+        return CompletableFuture.runAsync(() -> put(key, contentType, contentLength, source), storageExecutor);
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Local storage read failed: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Local storage delete failed: " + key, e);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        Set<String> deleted = new HashSet<>(keys.size() * 2);
+        for (String key : keys) {
+            try {
+                delete(key);
+                deleted.add(key);
+            } catch (RuntimeException e) {
+                log.warn("[Storage] 로컬 파일 삭제 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public String presignPut(String key, String contentType, Duration ttl) {
+        resolve(key);  // 키 검증
+        long expires = System.currentTimeMillis() / 1000 + ttl.toSeconds();
+        return baseUrl + key
+                + "?contentType=" + URLEncoder.encode(contentType, StandardCharsets.UTF_8)
+                + "&expires=" + expires
+                + "&signature=" + sign(key, contentType, expires);
+    }
+
+    /**
+     * 서명 URL 검증 (LocalStorageController PUT)
+     *
+     * @param expires 만료 시각 (epoch seconds)
+     * @return 서명 일치 + 미만료 여부
+     */
+    public boolean verifySignature(String key, String contentType, long expires, String signature) {
+        if (signature == null || expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 키 → 파일 경로 (저장소 루트 밖을 가리키는 키는 거부)
+     *
+     * @throws IllegalArgumentException 잘못된 키 (빈 키, 상위 경로 탈출)
+     */
+    public Path resolve(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Storage key is required");
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(baseUrl) || url.length() == baseUrl.length()) {
+            return null;
+        }
+        return url.substring(baseUrl.length());
+    }
+
+    /**
+     * 원본 채널 열기
+     * - 파일 Resource / FileInputStream: FileChannel (transferFrom이 커널 내 복사 사용)
+     * - 그 외 스트림: Channels.newChannel 래핑
+     */
+    private static ReadableByteChannel openChannel(InputStreamSource source) throws IOException {
+        if (source instanceof Resource resource && resource.isFile()) {
+            return FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+        }
+        InputStream inputStream = source.getInputStream();
+        if (inputStream instanceof FileInputStream fileInputStream) {
+            return fileInputStream.getChannel();
+        }
+        return Channels.newChannel(inputStream);
+    }
+
+    private String sign(String key, String contentType, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((key + "\n" + contentType + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC signing failed", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 원래 예외 우선
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ktb.community.storage;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이미지 객체 저장소
+ * - s3: S3ObjectStorage (AWS S3 또는 S3 호환 엔드포인트, 기본값)
+ * - local: LocalObjectStorage (로컬 파일시스템, 네트워크 없는 개발/CI/벤치마크용)
+ *
+ * 선택: storage.type 프로퍼티
+ *
+ * 키 형식: images/yyyy/MM/dd/{UUID}.ext (S3KeyGenerator)
+ */
+public interface ObjectStorage {
+
+    /**
+     * 객체 저장 (동기)
+     * - source는 재시도 시 여러 번 열릴 수 있음 (MultipartFile, Resource 모두 가능)
+     *
+     * @param key 객체 키
+     * @param contentType MIME type
+     * @param contentLength 본문 길이 (bytes)
+     * @param source 본문
+     */
+    void put(String key, String contentType, long contentLength, InputStreamSource source);
+
+    /**
+     * 객체 저장 (비동기)
+     * - 시간 초과 시 TimeoutException으로 예외 완료
+     *
+     * @return 저장 완료 시 완료되는 Future
+     */
+    CompletableFuture<Void> putAsync(String key, String contentType, long contentLength, InputStreamSource source);
+
+    /**
+     * 객체 읽기 (스트리밍, 호출자가 close)
+     * - 메타데이터 등록 시 외부(Lambda) 업로드 객체의 내용 해시 계산용
+     *
+     * @throws RuntimeException 객체 없음 또는 읽기 실패
+     */
+    InputStream open(String key);
+
+    /**
+     * 객체 삭제 (없는 키는 성공 처리)
+     */
+    void delete(String key);
+
+    /**
+     * 객체 일괄 삭제
+     *
+     * @param keys 삭제할 키 목록
+     * @return 삭제 성공한 키 (실패 키는 제외, 호출자가 재시도/보존 판단)
+     */
+    Set<String> deleteAll(Collection<String> keys);
+
+    /**
+     * 업로드용 서명 URL 발급 (클라이언트 직접 PUT)
+     *
+     * @param key 객체 키
+     * @param contentType 업로드 시 사용해야 하는 MIME type
+     * @param ttl URL 유효 시간
+     * @return 서명 URL
+     */
+    String presignPut(String key, String contentType, Duration ttl);
+
+    /**
+     * 업로드용 서명 URL 일괄 발급 (여러 이미지 게시글 작성)
+     * - 구현체는 키마다 달라지지 않는 요청 설정(버킷, ACL)을 한 번만 구성해 재사용
+     *
+     * @param contentTypesByKey 객체 키 → 업로드 시 사용해야 하는 MIME type
+     * @param ttl URL 유효 시간
+     * @return 객체 키 → 서명 URL (입력 순서 유지)
+     */
+    default Map<String, String> presignPutAll(Map<String, String> contentTypesByKey, Duration ttl) {
+        Map<String, String> uploadUrls = new LinkedHashMap<>(contentTypesByKey.size() * 2);
+        contentTypesByKey.forEach((key, contentType) -> uploadUrls.put(key, presignPut(key, contentType, ttl)));
+        return uploadUrls;
+    }
+
+    /**
+     * 객체 공개 URL (DB images.image_url 저장 값)
+     */
+    String urlOf(String key);
+
+    /**
+     * 공개 URL → 객체 키
+     *
+     * @return 이 저장소의 URL이 아니면 null
+     */
+    String keyOf(String url);
+}
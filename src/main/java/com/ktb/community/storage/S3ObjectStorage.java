@@ -0,0 +1,273 @@
+package com.ktb.community.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AWS S3 객체 저장소 (storage.type=s3, 기본값)
+ * - 동기 업로드: S3Client + 스트림 공급자 (힙에 파일 전체 복사 X, 재시도 시 스트림 재개방)
+ * - 비동기 업로드: S3AsyncClient (Netty), API 호출 시간 초과 시 SDK가 요청 중단
+ * - 일괄 삭제: DeleteObjects (요청당 최대 1000개)
+ * - 공개 URL: https://{bucket}.s3.{region}.amazonaws.com/{key}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final int DELETE_BATCH_LIMIT = 1000;  // S3 DeleteObjects 요청당 최대 키 수
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService storageExecutor;
+    private final String bucketName;
+    private final String baseUrl;
+    private final Duration uploadTimeout;
+    private final PutObjectRequest presignTemplate;  // 서명 URL 공통 설정 (키/Content-Type만 요청마다 지정)
+
+    public S3ObjectStorage(S3Client s3Client,
+                           S3AsyncClient s3AsyncClient,
+                           S3Presigner s3Presigner,
+                           @Qualifier("storageExecutor") ExecutorService storageExecutor,
+                           @Value("${aws.s3.bucket}") String bucketName,
+                           @Value("${aws.s3.region}") String region,
+                           @Value("${aws.s3.async.upload-timeout-ms:20000}") long uploadTimeoutMillis) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.storageExecutor = storageExecutor;
+        this.bucketName = bucketName;
+        this.baseUrl = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
+        this.uploadTimeout = Duration.ofMillis(uploadTimeoutMillis);
+        this.presignTemplate = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .acl(ObjectCannedACL.PUBLIC_READ)  // 이미지 객체 public 설정 (다운로드 허용)
+                .build();
+    }
+
+    @Override
+    public void put(String key, String contentType, long contentLength, InputStreamSource source) {
+        try (SourceContentProvider contentProvider = new SourceContentProvider(source)) {
+            s3Client.putObject(putRequest(key, contentType, contentLength),
+                    RequestBody.fromContentProvider(contentProvider, contentLength, contentType));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, String contentType, long contentLength,
+                                            InputStreamSource source) {
+        InputStream inputStream;
+        try {
+            inputStream = source.getInputStream();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        PutObjectRequest request = putRequest(key, contentType, contentLength).toBuilder()
+                .overrideConfiguration(config -> config.apiCallTimeout(uploadTimeout))
+                .build();
+        AsyncRequestBody body = AsyncRequestBody.fromInputStream(inputStream, contentLength, storageExecutor);
+
+        return s3AsyncClient.putObject(request, body)
+                .handle((response, ex) -> {
+                    closeQuietly(inputStream);
+                    if (ex == null) {
+                        return null;
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof ApiCallTimeoutException) {
+                        throw new CompletionException(new TimeoutException(cause.getMessage()));
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * 일괄 삭제
+     * - quiet 모드: 응답에는 실패 항목만 포함 → 요청 키 - 실패 키 = 성공 키
+     * - 요청 자체 실패 시 해당 묶음 전체를 실패로 처리
+     */
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        List<String> keyList = new ArrayList<>(new LinkedHashSet<>(keys));
+        Set<String> deleted = new HashSet<>(keyList.size() * 2);
+
+        for (int from = 0; from < keyList.size(); from += DELETE_BATCH_LIMIT) {
+            List<String> chunk = keyList.subList(from, Math.min(from + DELETE_BATCH_LIMIT, keyList.size()));
+            List<ObjectIdentifier> objects = chunk.stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+
+                Set<String> failed = new HashSet<>();
+                for (S3Error error : response.errors()) {
+                    failed.add(error.key());
+                    log.warn("[Storage] S3 객체 삭제 실패: key={}, code={}", error.key(), error.code());
+                }
+                for (String key : chunk) {
+                    if (!failed.contains(key)) {
+                        deleted.add(key);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("[Storage] S3 일괄 삭제 요청 실패: keys={}, error={}", chunk.size(), e.getMessage(), e);
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public String presignPut(String key, String contentType, Duration ttl) {
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(presignTemplate.toBuilder()
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .build();
+
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    /**
+     * 일괄 발급: 요청 템플릿 1개를 키/Content-Type만 바꿔 서명 (서명은 로컬 계산, S3 호출 없음)
+     */
+    @Override
+    public Map<String, String> presignPutAll(Map<String, String> contentTypesByKey, Duration ttl) {
+        PutObjectPresignRequest.Builder presignRequest = PutObjectPresignRequest.builder().signatureDuration(ttl);
+        PutObjectRequest.Builder objectRequest = presignTemplate.toBuilder();
+
+        Map<String, String> uploadUrls = new LinkedHashMap<>(contentTypesByKey.size() * 2);
+        contentTypesByKey.forEach((key, contentType) -> {
+            PutObjectRequest request = objectRequest.key(key).contentType(contentType).build();
+            uploadUrls.put(key, s3Presigner.presignPutObject(presignRequest.putObjectRequest(request).build())
+                    .url().toString());
+        });
+        return uploadUrls;
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(baseUrl) || url.length() == baseUrl.length()) {
+            return null;
+        }
+        return url.substring(baseUrl.length());
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType, long contentLength) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .acl(ObjectCannedACL.PUBLIC_READ)  // 이미지 객체만 public 설정
+                .build();
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // 업로드 결과와 무관
+        }
+    }
+
+    /**
+     * 업로드 본문 스트림 공급자
+     * - SDK 재시도 시 newStream() 재호출 → 새 InputStream으로 처음부터 다시 전송
+     *   (RequestBody.fromInputStream은 mark/reset 128KB 한도로 큰 파일 재시도 불가)
+     * - 이전 스트림은 새 스트림 발급/close 시 닫음 (디스크 임시 파일 핸들 누수 방지)
+     */
+    private static final class SourceContentProvider implements ContentStreamProvider, AutoCloseable {
+
+        private final InputStreamSource source;
+        private InputStream current;
+
+        private SourceContentProvider(InputStreamSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public InputStream newStream() {
+            close();
+            try {
+                current = source.getInputStream();
+                return current;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (current != null) {
+                closeQuietly(current);
+                current = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ktb.community.util;
+
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 이미지 내용 해시 유틸리티 (중복 업로드 판별용)
+ * SHA-256, 소문자 hex 64자 (images.content_hash 저장 값)
+ */
+public class ContentHasher {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 스트리밍 SHA-256 계산 (8KB 버퍼 단위로 읽음, 파일 전체 적재 X)
+     *
+     * @param source 본문 (MultipartFile 등)
+     * @return 소문자 hex 64자
+     * @throws BusinessException 파일 읽기 실패
+     */
+    public static String sha256Hex(InputStreamSource source) {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = source.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                "Failed to read file bytes: " + e.getMessage());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);  // 모든 JVM 필수 알고리즘
+        }
+    }
+}
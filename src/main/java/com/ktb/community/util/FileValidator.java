@@ -5,6 +5,7 @@ import com.ktb.community.exception.BusinessException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -27,10 +28,13 @@ public class FileValidator {
     private static final byte[] GIF_MAGIC_87A = {0x47, 0x49, 0x46, 0x38, 0x37, 0x61}; // GIF87a
     private static final byte[] GIF_MAGIC_89A = {0x47, 0x49, 0x46, 0x38, 0x39, 0x61}; // GIF89a
 
+    // Magic Number 검증에 필요한 헤더 길이 (가장 긴 PNG 시그니처 기준)
+    private static final int HEADER_LENGTH = 8;
+
     /**
      * 이미지 파일 검증
      * 1. MIME type 검증
-     * 2. Magic Number 검증
+     * 2. Magic Number 검증 (InputStream으로 헤더 8바이트만 읽음, 파일 전체 적재 X)
      *
      * @param file 업로드된 파일
      * @throws BusinessException 유효하지 않은 파일 형식
@@ -47,26 +51,28 @@ public class FileValidator {
         }
 
         // 2. Magic Number 검증
-        try {
-            byte[] bytes = file.getBytes();
-            if (!isValidImageMagicNumber(bytes)) {
-                throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
-            }
+        byte[] header;
+        try (InputStream inputStream = file.getInputStream()) {
+            header = inputStream.readNBytes(HEADER_LENGTH);
         } catch (IOException e) {
             // 디버깅: 파일 읽기 실패 원인 로깅
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, 
                 "Failed to read file bytes: " + e.getMessage());
         }
+
+        if (!isValidImageMagicNumber(header)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
     }
 
     /**
      * Magic Number로 실제 이미지 파일인지 검증
      *
-     * @param bytes 파일 바이트 배열
+     * @param bytes 파일 헤더 바이트 배열
      * @return 유효한 이미지 여부
      */
     private static boolean isValidImageMagicNumber(byte[] bytes) {
-        if (bytes == null || bytes.length < 8) {
+        if (bytes == null || bytes.length < HEADER_LENGTH) {
             return false;
         }
 
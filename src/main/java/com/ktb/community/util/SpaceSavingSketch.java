@@ -0,0 +1,100 @@
+package com.ktb.community.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 스케치 (Top-K heavy hitter 근사)
+ * - 고정 크기 capacity개 슬롯만 유지 → 키 종류가 아무리 많아도 메모리 일정
+ * - 슬롯이 가득 차면 최소 카운트 슬롯을 새 키로 교체 (count = min + 1, error = min)
+ * - 실제 빈도 ∈ [count - error, count], 빈도가 N/capacity 초과인 키는 반드시 포함
+ *
+ * 동기화: 모든 메서드 synchronized (거절 경로에서만 호출되므로 경합 낮음)
+ *
+ * @param <K> 키 타입 (equals/hashCode 필요)
+ */
+public class SpaceSavingSketch<K> {
+
+    private final int capacity;
+    private final Map<K, Slot<K>> slots;
+
+    /**
+     * 집계 결과
+     *
+     * @param key 키
+     * @param count 추정 빈도 (상한)
+     * @param error 최대 과대 추정치
+     */
+    public record Entry<K>(K key, long count, long error) {}
+
+    private static final class Slot<K> {
+        private K key;
+        private long count;
+        private long error;
+
+        private Slot(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키 1회 관측
+     */
+    public synchronized void offer(K key) {
+        Slot<K> slot = slots.get(key);
+        if (slot != null) {
+            slot.count++;
+            return;
+        }
+
+        if (slots.size() < capacity) {
+            slots.put(key, new Slot<>(key, 1, 0));
+            return;
+        }
+
+        // 최소 카운트 슬롯 교체 (capacity가 작으므로 선형 탐색)
+        Slot<K> min = null;
+        for (Slot<K> candidate : slots.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        slots.remove(min.key);
+        min.error = min.count;
+        min.count++;
+        min.key = key;
+        slots.put(key, min);
+    }
+
+    /**
+     * 빈도 상위 k개 (count 내림차순)
+     */
+    public synchronized List<Entry<K>> topK(int k) {
+        List<Entry<K>> entries = new ArrayList<>(slots.size());
+        for (Slot<K> slot : slots.values()) {
+            entries.add(new Entry<>(slot.key, slot.count, slot.error));
+        }
+        entries.sort(Comparator.comparingLong((Entry<K> e) -> e.count()).reversed());
+        return entries.size() > k ? List.copyOf(entries.subList(0, k)) : entries;
+    }
+
+    /**
+     * 집계 초기화 (주기별 집계용)
+     */
+    public synchronized void reset() {
+        slots.clear();
+    }
+}
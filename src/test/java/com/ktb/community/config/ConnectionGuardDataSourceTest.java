@@ -0,0 +1,102 @@
+package com.ktb.community.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConnectionGuardDataSource 단위 테스트
+ */
+@DisplayName("ConnectionGuardDataSource 테스트")
+class ConnectionGuardDataSourceTest {
+
+    @Test
+    @DisplayName("close 시 permit 반환 - 중복 close도 1회만 반환")
+    void close_ReleasesPermitOnce() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        ConnectionGuardDataSource guard = new ConnectionGuardDataSource(target, 1, 0, 100);
+
+        // When
+        Connection first = guard.getConnection();
+        first.close();
+        first.close();
+        Connection second = guard.getConnection();
+
+        // Then - permit 1개: 두 번째 획득 성공, 세 번째는 대기자 상한(0)으로 즉시 실패
+        assertThat(second).isNotNull();
+        assertThatThrownBy(guard::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(physical, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - SQLTransientConnectionException")
+    void getConnection_Timeout() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionGuardDataSource guard = new ConnectionGuardDataSource(target, 1, 10, 50);
+        guard.getConnection();  // permit 점유
+
+        // When & Then
+        assertThatThrownBy(guard::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("timed out");
+        assertThat(guard.getWaiters()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중 반환 - 대기자가 permit 획득")
+    void getConnection_WaiterAcquiresAfterClose() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionGuardDataSource guard = new ConnectionGuardDataSource(target, 1, 10, 5_000);
+        Connection held = guard.getConnection();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try (Connection ignored = guard.getConnection()) {
+                acquired.countDown();
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+
+        // When
+        held.close();
+
+        // Then
+        assertThat(acquired.await(2, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+        assertThat(failure.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("커넥션 생성 실패 - permit 반환")
+    void getConnection_TargetFailure_ReleasesPermit() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection())
+                .thenThrow(new SQLTransientConnectionException("pool timeout"))
+                .thenReturn(mock(Connection.class));
+        ConnectionGuardDataSource guard = new ConnectionGuardDataSource(target, 1, 0, 100);
+
+        // When & Then
+        assertThatThrownBy(guard::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(guard.getConnection()).isNotNull();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ktb.community.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JdbcRateLimitStore 테스트 (H2)
+ */
+@JdbcTest(properties = "rate-limit.store=jdbc")
+@Import(JdbcRateLimitStore.class)
+@DisplayName("JdbcRateLimitStore 테스트")
+class JdbcRateLimitStoreTest {
+
+    @Autowired
+    private JdbcRateLimitStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static RateLimiter.Endpoint endpoint(String name, int requestsPerMinute) {
+        return new RateLimiter.Endpoint(0, name, requestsPerMinute, key -> null, null, null);
+    }
+
+    private static final RateLimiter.ClientKey CLIENT = new RateLimiter.ClientKey(0, 0L, 0x0000_FFFF_C0A8_0101L, -1L);
+
+    @Test
+    @DisplayName("제한값까지 허용 후 거절")
+    void tryConsume_ExceedsLimit() {
+        // Given
+        RateLimiter.Endpoint login = endpoint("AuthController.login", 5);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 8; i++) {
+            if (store.tryConsume(login, CLIENT)) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("노드 간 공유 - 두 인스턴스 합산 허용량이 제한값을 넘지 않음")
+    void tryConsume_SharedAcrossNodes() {
+        // Given - 같은 테이블을 쓰는 두 번째 노드
+        JdbcRateLimitStore otherNode = new JdbcRateLimitStore(jdbcTemplate);
+        RateLimiter.Endpoint like = endpoint("PostController.likePost", 200);
+
+        // When - 두 노드가 번갈아 호출 (선취 토큰 포함)
+        int allowed = 0;
+        for (int i = 0; i < 150; i++) {
+            if (store.tryConsume(like, CLIENT)) {
+                allowed++;
+            }
+            if (otherNode.tryConsume(like, CLIENT)) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("CAS 획득 - 윈도우 경과 시 용량 전체 충전")
+    void acquire_RefillsAfterWindow() {
+        // Given
+        long now = System.currentTimeMillis();
+        assertThat(store.acquire("refill-key", 3, 3, now).tokens()).isEqualTo(3);
+        assertThat(store.acquire("refill-key", 3, 1, now).tokens()).isZero();
+
+        // When - 1분 경과
+        JdbcRateLimitStore.Grant grant = store.acquire("refill-key", 3, 1, now + JdbcRateLimitStore.WINDOW_MILLIS);
+
+        // Then
+        assertThat(grant.tokens()).isEqualTo(1);
+        assertThat(grant.windowEnd()).isEqualTo(now + 2 * JdbcRateLimitStore.WINDOW_MILLIS);
+        Long remaining = jdbcTemplate.queryForObject(
+                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?", Long.class, "refill-key");
+        assertThat(remaining).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("선취 크기 - 낮은 제한값은 1개씩")
+    void prefetchSize() {
+        assertThat(store.prefetchSize(5)).isEqualTo(1);
+        assertThat(store.prefetchSize(100)).isEqualTo(5);
+        assertThat(store.prefetchSize(1000)).isEqualTo(10);
+    }
+}
@@ -2,26 +2,25 @@ package com.ktb.community.config;
 
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
-import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,14 +30,17 @@ import static org.mockito.Mockito.*;
 @DisplayName("RateLimitAspect 테스트")
 class RateLimitAspectTest {
 
-    @InjectMocks
     private RateLimitAspect rateLimitAspect;
 
+    private RateLimiter rateLimiter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private ProceedingJoinPoint pjp;
 
     @Mock
-    private Signature signature;
+    private MethodSignature signature;
 
     @Mock
     private HttpServletRequest request;
@@ -46,30 +48,44 @@ class RateLimitAspectTest {
     @Mock
     private RateLimit rateLimit;
 
-    @Mock
-    private Authentication authentication;
+    /**
+     * 테스트용 엔드포인트 (FQCN 격리 검증을 위해 동일 메서드명 클래스 2개)
+     */
+    static class AuthEndpoints {
+        public void login() {}
+        public void signup() {}
+    }
 
-    @Mock
-    private SecurityContext securityContext;
+    static class AdminAuthEndpoints {
+        public void login() {}
+    }
 
     @BeforeEach
     void setUp() {
+        rateLimiter = new RateLimiter(new InMemoryRateLimitStore(meterRegistry), meterRegistry);
+        rateLimitAspect = new RateLimitAspect(rateLimiter);
+
         // RequestContextHolder 설정
         ServletRequestAttributes attributes = new ServletRequestAttributes(request);
         RequestContextHolder.setRequestAttributes(attributes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
 
-        // SecurityContext 설정
-        SecurityContextHolder.setContext(securityContext);
-        when(securityContext.getAuthentication()).thenReturn(null);
+    private void givenMethod(Class<?> type, String name) throws NoSuchMethodException {
+        Method method = type.getMethod(name);
+        when(pjp.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(method);
     }
 
     @Test
     @DisplayName("정상 요청 - Rate limit 내에서 요청 성공")
     void rateLimit_Success() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
         when(rateLimit.requestsPerMinute()).thenReturn(100);
         when(pjp.proceed()).thenReturn("success");
@@ -86,9 +102,7 @@ class RateLimitAspectTest {
     @DisplayName("Rate limit 초과 - TOO_MANY_REQUESTS 예외 발생")
     void rateLimit_ExceedsLimit() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
         when(rateLimit.requestsPerMinute()).thenReturn(2); // 2회만 허용
 
@@ -108,41 +122,33 @@ class RateLimitAspectTest {
     void rateLimit_DifferentMethods_IndependentCounters() throws Throwable {
         // Given
         when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
         when(rateLimit.requestsPerMinute()).thenReturn(2);
         when(pjp.proceed()).thenReturn("success");
 
         // When - login 메서드 2회 호출
-        when(signature.getName()).thenReturn("login");
+        when(signature.getMethod()).thenReturn(AuthEndpoints.class.getMethod("login"));
         rateLimitAspect.rateLimit(pjp, rateLimit);
         rateLimitAspect.rateLimit(pjp, rateLimit);
 
         // Then - signup 메서드는 독립적이므로 성공해야 함
-        when(signature.getName()).thenReturn("signup");
+        when(signature.getMethod()).thenReturn(AuthEndpoints.class.getMethod("signup"));
         Object result = rateLimitAspect.rateLimit(pjp, rateLimit);
 
         assertThat(result).isEqualTo("success");
     }
 
     @Test
-    @DisplayName("인증 사용자 - IP:userId 키 사용")
+    @DisplayName("인증 사용자 - 같은 IP라도 userId별 독립 카운터")
     void rateLimit_AuthenticatedUser_UsesUserIdInKey() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.PostController");
-        when(signature.getName()).thenReturn("createPost");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
         when(rateLimit.requestsPerMinute()).thenReturn(2);
         when(pjp.proceed()).thenReturn("success");
 
-        // 인증 사용자 설정
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getPrincipal()).thenReturn("user");
-        when(authentication.getName()).thenReturn("user@example.com");
-
-        // When - 인증 사용자로 2회 호출
+        // When - userId=1로 2회 호출 (JwtAuthenticationFilter가 설정한 request attribute)
+        when(request.getAttribute("userId")).thenReturn(1L);
         rateLimitAspect.rateLimit(pjp, rateLimit);
         rateLimitAspect.rateLimit(pjp, rateLimit);
 
@@ -150,23 +156,22 @@ class RateLimitAspectTest {
         assertThatThrownBy(() -> rateLimitAspect.rateLimit(pjp, rateLimit))
             .isInstanceOf(BusinessException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+
+        // 같은 IP의 다른 사용자는 독립 카운터
+        when(request.getAttribute("userId")).thenReturn(2L);
+        assertThat(rateLimitAspect.rateLimit(pjp, rateLimit)).isEqualTo("success");
     }
 
     @Test
     @DisplayName("비인증 사용자 - IP만 사용")
     void rateLimit_UnauthenticatedUser_UsesIpOnly() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.PostController");
-        when(signature.getName()).thenReturn("getPosts");
+        givenMethod(AuthEndpoints.class, "signup");
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
         when(rateLimit.requestsPerMinute()).thenReturn(2);
         when(pjp.proceed()).thenReturn("success");
 
-        // 비인증 사용자 (authentication null)
-        when(securityContext.getAuthentication()).thenReturn(null);
-
-        // When - 비인증 사용자로 2회 호출
+        // When - 비인증 사용자로 2회 호출 (userId attribute 없음)
         rateLimitAspect.rateLimit(pjp, rateLimit);
         rateLimitAspect.rateLimit(pjp, rateLimit);
 
@@ -180,9 +185,7 @@ class RateLimitAspectTest {
     @DisplayName("IP 추출 - X-Forwarded-For 헤더 우선")
     void rateLimit_IpExtraction_XForwardedFor() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1");
         // X-Forwarded-For가 있으면 getRemoteAddr()는 호출되지 않음
         when(rateLimit.requestsPerMinute()).thenReturn(100);
@@ -194,15 +197,14 @@ class RateLimitAspectTest {
         // Then
         assertThat(result).isEqualTo("success");
         verify(request, times(1)).getHeader("X-Forwarded-For");
+        verify(request, never()).getRemoteAddr();
     }
 
     @Test
     @DisplayName("IP 추출 - X-Forwarded-For 복수 IP 처리")
     void rateLimit_IpExtraction_XForwardedFor_MultipleIps() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1, 10.0.0.2, 10.0.0.3");
         when(rateLimit.requestsPerMinute()).thenReturn(2);
         when(pjp.proceed()).thenReturn("success");
@@ -214,15 +216,18 @@ class RateLimitAspectTest {
         // Then - 3회째는 실패해야 함 (같은 첫 번째 IP 10.0.0.1 사용)
         assertThatThrownBy(() -> rateLimitAspect.rateLimit(pjp, rateLimit))
             .isInstanceOf(BusinessException.class);
+
+        // 첫 번째 IP가 같으면 뒤 프록시 체인이 달라도 같은 카운터
+        when(request.getHeader("X-Forwarded-For")).thenReturn(" 10.0.0.1 ,10.0.0.9");
+        assertThatThrownBy(() -> rateLimitAspect.rateLimit(pjp, rateLimit))
+            .isInstanceOf(BusinessException.class);
     }
 
     @Test
     @DisplayName("IP 추출 - Proxy-Client-IP 헤더 fallback")
     void rateLimit_IpExtraction_ProxyClientIp() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getHeader("X-Forwarded-For")).thenReturn(null);
         when(request.getHeader("Proxy-Client-IP")).thenReturn("10.0.0.2");
         when(rateLimit.requestsPerMinute()).thenReturn(100);
@@ -240,9 +245,7 @@ class RateLimitAspectTest {
     @DisplayName("IP 추출 - RemoteAddr fallback")
     void rateLimit_IpExtraction_RemoteAddr() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getHeader("X-Forwarded-For")).thenReturn(null);
         when(request.getHeader("Proxy-Client-IP")).thenReturn(null);
         when(request.getHeader("WL-Proxy-Client-IP")).thenReturn(null);
@@ -259,24 +262,97 @@ class RateLimitAspectTest {
     }
 
     @Test
-    @DisplayName("FQCN 키 형식 - 패키지 경로 포함")
+    @DisplayName("IP 추출 - IPv6 주소도 주소별 독립 카운터")
+    void rateLimit_IpExtraction_Ipv6() throws Throwable {
+        // Given
+        givenMethod(AuthEndpoints.class, "login");
+        when(rateLimit.requestsPerMinute()).thenReturn(1);
+        when(pjp.proceed()).thenReturn("success");
+
+        // When - 첫 번째 IPv6 주소로 1회 호출
+        when(request.getRemoteAddr()).thenReturn("2001:db8::1");
+        rateLimitAspect.rateLimit(pjp, rateLimit);
+
+        // Then - 다른 IPv6 주소는 독립 카운터
+        when(request.getRemoteAddr()).thenReturn("2001:db8::2");
+        assertThat(rateLimitAspect.rateLimit(pjp, rateLimit)).isEqualTo("success");
+    }
+
+    @Test
+    @DisplayName("엔드포인트 키 - 같은 메서드명이라도 클래스가 다르면 독립")
     void rateLimit_KeyFormat_UsesFQCN() throws Throwable {
         // Given
-        when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.AuthController");
-        when(signature.getName()).thenReturn("login");
+        givenMethod(AuthEndpoints.class, "login");
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
         when(rateLimit.requestsPerMinute()).thenReturn(2);
         when(pjp.proceed()).thenReturn("success");
 
-        // When - AuthController.login으로 2회 호출
+        // When - AuthEndpoints.login으로 2회 호출
         rateLimitAspect.rateLimit(pjp, rateLimit);
         rateLimitAspect.rateLimit(pjp, rateLimit);
 
-        // Then - 다른 패키지의 AuthController.login은 독립적이어야 함
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.admin.controller.AuthController");
+        // Then - 다른 클래스의 login은 독립적이어야 함
+        when(signature.getMethod()).thenReturn(AdminAuthEndpoints.class.getMethod("login"));
         Object result = rateLimitAspect.rateLimit(pjp, rateLimit);
 
         assertThat(result).isEqualTo("success");
     }
+
+    @Test
+    @DisplayName("filter 모드 - Aspect는 제한 없이 통과 (RateLimitFilter가 처리)")
+    void rateLimit_FilterMode_Proceeds() throws Throwable {
+        // Given
+        ReflectionTestUtils.setField(rateLimitAspect, "mode", "filter");
+        when(pjp.proceed()).thenReturn("success");
+
+        // When
+        Object result = rateLimitAspect.rateLimit(pjp, rateLimit);
+
+        // Then
+        assertThat(result).isEqualTo("success");
+        verify(pjp, never()).getSignature();
+        verifyNoInteractions(request);
+    }
+
+    @Test
+    @DisplayName("관측 - 엔드포인트별 허용/거절 카운터와 거절 상위 키 집계")
+    void rateLimit_Metrics_AndHotKeys() throws Throwable {
+        // Given
+        givenMethod(AuthEndpoints.class, "login");
+        when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(rateLimit.requestsPerMinute()).thenReturn(1);
+        when(pjp.proceed()).thenReturn("success");
+
+        // When - 1회 허용, 2회 거절
+        rateLimitAspect.rateLimit(pjp, rateLimit);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> rateLimitAspect.rateLimit(pjp, rateLimit))
+                .isInstanceOf(BusinessException.class);
+        }
+        rateLimiter.refreshHotKeys();
+
+        // Then
+        String endpoint = AuthEndpoints.class.getName() + ".login";
+        assertThat(meterRegistry.get("rate.limit.requests")
+            .tag("endpoint", endpoint).tag("outcome", "allowed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("rate.limit.requests")
+            .tag("endpoint", endpoint).tag("outcome", "rejected").counter().count()).isEqualTo(2.0);
+
+        assertThat(rateLimiter.getHotKeys()).singleElement().satisfies(hotKey -> {
+            assertThat(hotKey.getEndpoint()).isEqualTo(endpoint);
+            assertThat(hotKey.getClientIp()).isEqualTo("192.168.1.1");
+            assertThat(hotKey.getUserId()).isNull();
+            assertThat(hotKey.getRejectedCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("IPv4 파싱 - 유효/무효 형식")
+    void parseIpv4() {
+        assertThat(RateLimiter.parseIpv4("192.168.1.1", 0, 11)).isEqualTo(0xC0A80101L);
+        assertThat(RateLimiter.parseIpv4("x10.0.0.1x", 1, 9)).isEqualTo(0x0A000001L);
+        assertThat(RateLimiter.parseIpv4("256.0.0.1", 0, 9)).isEqualTo(-1L);
+        assertThat(RateLimiter.parseIpv4("10.0.0", 0, 6)).isEqualTo(-1L);
+        assertThat(RateLimiter.parseIpv4("2001:db8::1", 0, 11)).isEqualTo(-1L);
+    }
 }
@@ -2,18 +2,17 @@ package com.ktb.community.config;
 
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -40,14 +39,15 @@ import static org.mockito.Mockito.when;
 @DisplayName("RateLimit 동시성 테스트")
 class RateLimitConcurrencyTest {
 
-    @InjectMocks
     private RateLimitAspect rateLimitAspect;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private ProceedingJoinPoint pjp;
 
     @Mock
-    private Signature signature;
+    private MethodSignature signature;
 
     @Mock
     private HttpServletRequest request;
@@ -57,12 +57,19 @@ class RateLimitConcurrencyTest {
 
     @BeforeEach
     void setUp() {
+        rateLimitAspect = new RateLimitAspect(new RateLimiter(new InMemoryRateLimitStore(meterRegistry), meterRegistry));
+
         // RequestContextHolder 설정
         ServletRequestAttributes attributes = new ServletRequestAttributes(request);
         RequestContextHolder.setRequestAttributes(attributes);
 
-        // SecurityContext 초기화
-        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 테스트용 엔드포인트
+     */
+    static class TestController {
+        public void testMethod() {}
     }
 
     @Test
@@ -73,8 +80,7 @@ class RateLimitConcurrencyTest {
         int allowedRequests = 5; // 5회만 허용
 
         when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        when(signature.getMethod()).thenReturn(TestController.class.getMethod("testMethod"));
         when(request.getRemoteAddr()).thenReturn("192.168.1.100");
         when(rateLimit.requestsPerMinute()).thenReturn(allowedRequests);
         when(pjp.proceed()).thenReturn("success");
@@ -118,8 +124,7 @@ class RateLimitConcurrencyTest {
         int allowedRequestsPerIp = 5;
 
         when(pjp.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.ktb.community.controller.TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        when(signature.getMethod()).thenReturn(TestController.class.getMethod("testMethod"));
         when(rateLimit.requestsPerMinute()).thenReturn(allowedRequestsPerIp);
         when(pjp.proceed()).thenReturn("success");
 
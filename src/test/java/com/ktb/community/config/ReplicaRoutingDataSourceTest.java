@@ -0,0 +1,177 @@
+package com.ktb.community.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicaRoutingDataSource 테스트 (H2 인스턴스 2개로 primary/replica 구분)
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private final List<ReplicaRoutingDataSource> routings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        routings.forEach(ReplicaRoutingDataSource::destroy);
+    }
+
+    private static DataSource h2(String role) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node_role (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node_role VALUES (?)", role);
+        return dataSource;
+    }
+
+    /**
+     * 라우팅 DataSource 생성 + 첫 지연 확인 완료까지 대기 (확인은 전용 스레드에서 비동기 실행)
+     */
+    private ReplicaRoutingDataSource routing(String lagQuery) {
+        ReplicaRoutingDataSource routing = start(replica, lagQuery);
+        routing.checkReplicaLag();
+        return routing;
+    }
+
+    private ReplicaRoutingDataSource start(DataSource replicaDataSource, String lagQuery) {
+        ReplicaRoutingDataSource routing =
+                new ReplicaRoutingDataSource(primary, replicaDataSource, lagQuery, 2_000, 50, 5_000);
+        routings.add(routing);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    /**
+     * 트랜잭션 안에서 현재 연결된 노드 이름 조회
+     */
+    private static String currentNode(ReplicaRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node_role", String.class));
+    }
+
+    private static void loginAs(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 → replica, 쓰기 트랜잭션 → primary")
+    void route_ByReadOnlyFlag() {
+        // Given
+        ReplicaRoutingDataSource routing = routing("SELECT 0");
+
+        // When & Then
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+        assertThat(currentNode(routing, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica 지연 초과 → readOnly 트랜잭션도 primary")
+    void route_ReplicaLagging_FallsBackToPrimary() {
+        // Given - 지연 10초 (상한 2초)
+        ReplicaRoutingDataSource routing = routing("SELECT 10");
+
+        // When & Then
+        assertThat(routing.isReplicaAvailable()).isFalse();
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("지연 조회 실패 → primary")
+    void route_LagQueryFails_FallsBackToPrimary() {
+        // Given - H2는 SHOW REPLICA STATUS 미지원
+        ReplicaRoutingDataSource routing = routing("SHOW REPLICA STATUS");
+
+        // When & Then
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("read-your-writes - 쓰기 직후 같은 사용자의 읽기는 primary, 다른 사용자는 replica")
+    void route_ReadYourWrites() {
+        // Given
+        ReplicaRoutingDataSource routing = routing("SELECT 0");
+        loginAs(1L);
+        currentNode(routing, false);  // 사용자 1 쓰기
+
+        // When & Then
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+
+        loginAs(2L);
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 무응답 - 기동/읽기가 막히지 않고 primary 사용, 응답 재개 후 replica 사용")
+    void route_ReplicaBlocks_DoesNotStallStartup() throws Exception {
+        // Given - 커넥션 획득이 멈춘 replica
+        CountDownLatch replicaDown = new CountDownLatch(1);
+        DataSource blockingReplica = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    replicaDown.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("interrupted", e);
+                }
+                return super.getConnection();
+            }
+        };
+
+        // When
+        long startedAt = System.nanoTime();
+        ReplicaRoutingDataSource routing = start(blockingReplica, "SELECT 0");
+        long startupMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then - 기동은 즉시 완료, 첫 확인 성공 전까지 primary
+        assertThat(startupMillis).isLessThan(500);
+        assertThat(routing.isReplicaAvailable()).isFalse();
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+
+        // When - replica 응답 재개
+        replicaDown.countDown();
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!routing.isReplicaAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+    }
+}
@@ -0,0 +1,87 @@
+package com.ktb.community.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VirtualThreadPinningMonitor 단위 테스트
+ * - JFR 스트림 없이 합성 스택 프레임으로 호출 위치 판별/로그 제한 검증
+ */
+@DisplayName("VirtualThreadPinningMonitor 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private static final List<String> JDK_PARKING = List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:677",
+            "java.lang.VirtualThread.park:603",
+            "java.lang.System$2.parkVirtualThread:2639",
+            "jdk.internal.misc.VirtualThreads.park:54",
+            "java.util.concurrent.locks.LockSupport.park:219");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, 20, 60_000);
+    }
+
+    private static List<String> stack(String... callerFrames) {
+        return Stream.concat(JDK_PARKING.stream(), Arrays.stream(callerFrames)).toList();
+    }
+
+    @Test
+    @DisplayName("호출 위치 - JDK 파킹 프레임을 건너뛰고 첫 애플리케이션 프레임 선택")
+    void callSiteIndex_SkipsJdkFrames() {
+        // Given
+        List<String> frames = stack(
+                "com.zaxxer.hikari.pool.HikariPool.getConnection:181",
+                "com.ktb.community.config.JdbcRateLimitStore.acquire:130",
+                "com.ktb.community.config.JdbcRateLimitStore.tryConsume:101");
+
+        // When
+        int index = VirtualThreadPinningMonitor.callSiteIndex(frames);
+
+        // Then
+        assertThat(frames.get(index)).isEqualTo("com.ktb.community.config.JdbcRateLimitStore.acquire:130");
+    }
+
+    @Test
+    @DisplayName("호출 위치 - 애플리케이션 프레임이 없으면 JDK 밖 첫 프레임, 모두 JDK면 최상단")
+    void callSiteIndex_FallsBackToFirstNonJdkFrame() {
+        // Given
+        List<String> libraryOnly = stack(
+                "com.mysql.cj.protocol.a.NativeProtocol.readMessage:581",
+                "com.zaxxer.hikari.pool.HikariPool.getConnection:181");
+
+        // When & Then
+        assertThat(libraryOnly.get(VirtualThreadPinningMonitor.callSiteIndex(libraryOnly)))
+                .isEqualTo("com.mysql.cj.protocol.a.NativeProtocol.readMessage:581");
+        assertThat(VirtualThreadPinningMonitor.callSiteIndex(JDK_PARKING)).isZero();
+        assertThat(VirtualThreadPinningMonitor.callSiteIndex(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("로그 제한 - 호출 위치별로 적용 (JDK 파킹 프레임이 같아도 서로 다른 위치는 각각 로그)")
+    void report_ThrottlesPerApplicationCallSite() {
+        // Given
+        long now = System.currentTimeMillis();
+        List<String> rateLimit = stack("com.ktb.community.config.JdbcRateLimitStore.tryConsume:101");
+        List<String> batch = stack("com.ktb.community.service.ImageCleanupBatchService.cleanup:88");
+
+        // When & Then
+        assertThat(monitor.report(rateLimit, 50, "virtual-1", now)).isTrue();
+        assertThat(monitor.report(batch, 50, "virtual-2", now)).isTrue();
+        assertThat(monitor.report(rateLimit, 50, "virtual-3", now + 1_000)).isFalse();
+        assertThat(monitor.report(rateLimit, 50, "virtual-4", now + 60_000)).isTrue();
+        assertThat(meterRegistry.get("jvm.threads.virtual.pinned").counter().count()).isEqualTo(4);
+    }
+}
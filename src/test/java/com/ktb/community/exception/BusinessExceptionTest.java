@@ -0,0 +1,39 @@
+package com.ktb.community.exception;
+
+import com.ktb.community.enums.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BusinessException 단위 테스트 (스택 트레이스 생성 여부)
+ */
+@DisplayName("BusinessException 테스트")
+class BusinessExceptionTest {
+
+    @Test
+    @DisplayName("예상된 ErrorCode - 스택 트레이스 생략")
+    void expectedErrorCode_NoStackTrace() {
+        // When
+        BusinessException ex = new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        BusinessException custom = new BusinessException(ErrorCode.POST_NOT_FOUND, "Post not found with id: 1");
+
+        // Then
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(custom.getStackTrace()).isEmpty();
+        assertThat(custom.getMessage()).isEqualTo("Post not found with id: 1");
+    }
+
+    @Test
+    @DisplayName("예상되지 않은 ErrorCode 또는 원인 예외 - 스택 트레이스 유지")
+    void unexpectedErrorCodeOrCause_KeepsStackTrace() {
+        // When
+        BusinessException internal = new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        BusinessException withCause = new BusinessException(ErrorCode.IMAGE_NOT_FOUND, new IllegalStateException());
+
+        // Then
+        assertThat(internal.getStackTrace()).isNotEmpty();
+        assertThat(withCause.getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ktb.community.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.community.enums.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ErrorResponseRenderer 단위 테스트
+ */
+@DisplayName("ErrorResponseRenderer 테스트")
+class ErrorResponseRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("429 응답 - ApiResponse 형식과 동일한 JSON 출력")
+    void write_TooManyRequests() throws Exception {
+        // Given
+        ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        renderer.write(response, ErrorCode.TOO_MANY_REQUESTS);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo("COMMON-004");
+        assertThat(body.get("data").get("field").isNull()).isTrue();
+        assertThat(body.get("data").get("details").asText()).isEqualTo("Too many requests");
+        LocalDateTime timestamp = LocalDateTime.parse(body.get("timestamp").asText());
+        assertThat(timestamp).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("body 렌더링 - write와 동일한 JSON 바이트")
+    void render_MatchesApiResponseFormat() throws Exception {
+        // Given
+        ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+
+        // When
+        byte[] body = renderer.render(ErrorCode.POST_NOT_FOUND);
+
+        // Then
+        JsonNode json = objectMapper.readTree(body);
+        assertThat(json.get("message").asText()).isEqualTo("POST-001");
+        assertThat(json.get("data").get("details").asText()).isEqualTo("Post not found");
+        assertThat(LocalDateTime.parse(json.get("timestamp").asText())).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("사전 직렬화 응답 - 임의 메시지/상태로 출력")
+    void prepare_CustomDetails() throws Exception {
+        // Given
+        ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+        ErrorResponseRenderer.PreparedError error =
+                renderer.prepare("AUTH-002", "No access token", HttpStatus.UNAUTHORIZED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        renderer.write(response, error);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo("AUTH-002");
+        assertThat(body.get("data").get("details").asText()).isEqualTo("No access token");
+    }
+
+    @Test
+    @DisplayName("timestamp 기록 - LocalDateTime 포맷과 동일 (밀리초 3자리 고정)")
+    void writeTimestamp_MatchesLocalDateTime() throws Exception {
+        // Given
+        ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+        long epochMillis = 1_700_000_000_007L;
+        byte[] buffer = new byte[23];
+
+        // When
+        renderer.writeTimestamp(buffer, 0, epochMillis);
+
+        // Then
+        LocalDateTime expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        String actual = new String(buffer, StandardCharsets.US_ASCII);
+        assertThat(actual).endsWith(".007");
+        assertThat(LocalDateTime.parse(actual)).isEqualTo(expected);
+    }
+}
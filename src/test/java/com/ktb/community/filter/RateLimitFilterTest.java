@@ -0,0 +1,190 @@
+package com.ktb.community.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.community.config.InMemoryRateLimitStore;
+import com.ktb.community.config.RateLimit;
+import com.ktb.community.config.RateLimiter;
+import com.ktb.community.exception.ErrorResponseRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateLimitFilter 단위 테스트
+ * - 라우팅 테이블 매칭 (고정/패턴 경로, 패턴 우선순위, HTTP 메서드별) 및 429 조기 응답 검증
+ */
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitFilter rateLimitFilter;
+
+    /**
+     * 테스트용 핸들러 (엔드포인트별 제한값으로 매칭 결과 구분)
+     */
+    static class TestEndpoints {
+        @RateLimit(requestsPerMinute = 100)
+        public void getPost() {}
+
+        @RateLimit(requestsPerMinute = 100)
+        public void getPostsFallback() {}
+
+        @RateLimit(requestsPerMinute = 100)
+        public void myLikes() {}
+
+        @RateLimit(requestsPerMinute = 1)
+        public void likePost() {}
+
+        @RateLimit(requestsPerMinute = 100)
+        public void unlikePost() {}
+
+        public void notLimited() {}
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter(new InMemoryRateLimitStore(meterRegistry), meterRegistry);
+        rateLimitFilter = new RateLimitFilter(rateLimiter, new ErrorResponseRenderer(objectMapper));
+
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+        register(handlerMethods, "/posts/**", RequestMethod.GET, "getPostsFallback");
+        register(handlerMethods, "/posts/{postId}", RequestMethod.GET, "getPost");
+        register(handlerMethods, "/posts/users/me/likes", RequestMethod.GET, "myLikes");
+        register(handlerMethods, "/posts/{postId}/like", RequestMethod.POST, "likePost");
+        register(handlerMethods, "/posts/{postId}/like", RequestMethod.DELETE, "unlikePost");
+        register(handlerMethods, "/health", RequestMethod.GET, "notLimited");
+
+        RequestMappingHandlerMapping mapping = mock(RequestMappingHandlerMapping.class);
+        when(mapping.getHandlerMethods()).thenReturn(handlerMethods);
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBeansOfType(RequestMappingHandlerMapping.class))
+                .thenReturn(Map.of("requestMappingHandlerMapping", mapping));
+
+        rateLimitFilter.registerRoutes(new ContextRefreshedEvent(applicationContext));
+    }
+
+    private static void register(Map<RequestMappingInfo, HandlerMethod> handlerMethods,
+                                 String path, RequestMethod httpMethod, String methodName) throws Exception {
+        handlerMethods.put(RequestMappingInfo.paths(path).methods(httpMethod).build(),
+                new HandlerMethod(new TestEndpoints(), TestEndpoints.class.getMethod(methodName)));
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("192.168.1.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    /**
+     * 엔드포인트별 허용 카운트 (매칭된 핸들러 확인용)
+     */
+    private double allowedCount(String methodName) {
+        Counter counter = meterRegistry.find("rate.limit.requests")
+                .tag("endpoint", TestEndpoints.class.getName() + "." + methodName)
+                .tag("outcome", "allowed")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("경로 변수 엔드포인트 - 구체적인 패턴 우선, 고정 경로는 패턴보다 우선")
+    void match_PathVariable() throws Exception {
+        // Given
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        perform("GET", "/posts/42", chain);
+        perform("GET", "/api/v1/posts/43", chain);          // ALB 접두사 제거
+        perform("GET", "/posts/users/me/likes", chain);
+        perform("GET", "/posts/42/comments", chain);
+
+        // Then
+        assertThat(allowedCount("getPost")).isEqualTo(2);          // /posts/{postId} > /posts/**
+        assertThat(allowedCount("myLikes")).isEqualTo(1);          // 고정 경로
+        assertThat(allowedCount("getPostsFallback")).isEqualTo(1); // 나머지는 /posts/**
+        verify(chain, times(4)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 경로, 다른 HTTP 메서드 - 메서드별 엔드포인트로 분리")
+    void match_SamePathDifferentMethod() throws Exception {
+        // Given
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        perform("POST", "/posts/7/like", chain);
+        perform("DELETE", "/posts/7/like", chain);
+        perform("DELETE", "/posts/7/like", chain);  // 좋아요 취소는 제한 1회/분과 무관
+        perform("PUT", "/posts/7/like", chain);     // 등록되지 않은 메서드 → 제한 없음
+
+        // Then
+        assertThat(allowedCount("likePost")).isEqualTo(1);
+        assertThat(allowedCount("unlikePost")).isEqualTo(2);
+        verify(chain, times(4)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("제한 초과 - 체인 호출 없이 사전 렌더링된 429 응답")
+    void doFilter_ExceedsLimit_Writes429() throws Exception {
+        // Given
+        FilterChain allowedChain = mock(FilterChain.class);
+        FilterChain rejectedChain = mock(FilterChain.class);
+        perform("POST", "/posts/7/like", allowedChain);
+
+        // When
+        MockHttpServletResponse response = perform("POST", "/posts/8/like", rejectedChain);
+
+        // Then
+        verify(allowedChain, times(1)).doFilter(any(), any());
+        verifyNoInteractions(rejectedChain);
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo("COMMON-004");
+        assertThat(body.get("data").get("details").asText()).isEqualTo("Too many requests");
+    }
+
+    @Test
+    @DisplayName("@RateLimit 없는 경로 - 제한 없이 통과")
+    void doFilter_NotLimited() throws Exception {
+        // Given
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            perform("GET", "/health", chain);
+        }
+
+        // Then
+        verify(chain, times(3)).doFilter(any(), any());
+    }
+}
@@ -0,0 +1,215 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.JpaAuditingConfig;
+import com.ktb.community.entity.Image;
+import com.ktb.community.repository.ImageRepository.CleanupRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageRepository 단위 테스트 (참조 카운트, 정리 배치 keyset 조회)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("ImageRepository 테스트")
+class ImageRepositoryTest {
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Image persist(String name) {
+        Image image = Image.builder()
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/" + name)
+                .fileSize(1)
+                .originalFilename(name)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        return entityManager.persistAndFlush(image);
+    }
+
+    /**
+     * 연결 후 지정 시각에 해제된 이미지
+     */
+    private Image persistReleased(String name, LocalDateTime releasedAt) {
+        Image image = persist(name);
+        acquire(image);
+        imageRepository.releaseReferences(List.of(image.getImageId()), releasedAt);
+        return image;
+    }
+
+    /**
+     * 참조 획득 (유예 시간 1시간 기준)
+     */
+    private int acquire(Image image) {
+        return imageRepository.acquireReference(image.getImageId(), LocalDateTime.now().minusHours(1));
+    }
+
+    private Image reload(Image image) {
+        entityManager.clear();
+        return entityManager.find(Image.class, image.getImageId());
+    }
+
+    @Test
+    @DisplayName("참조 획득/해제 - 마지막 참조 해제 시에만 released_at 기록")
+    void acquireAndReleaseReference() {
+        // Given
+        Image image = persist("shared.jpg");
+        LocalDateTime releasedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // When & Then: 프로필 + 게시글 두 곳에 연결
+        acquire(image);
+        acquire(image);
+        Image acquired = reload(image);
+        assertThat(acquired.getRefCount()).isEqualTo(2);
+        assertThat(acquired.getReleasedAt()).isNull();
+        assertThat(acquired.getExpiresAt()).isNull();
+
+        // 한 곳 해제 → 여전히 참조 중
+        imageRepository.releaseReferences(List.of(image.getImageId()), releasedAt);
+        Image stillReferenced = reload(image);
+        assertThat(stillReferenced.getRefCount()).isEqualTo(1);
+        assertThat(stillReferenced.getReleasedAt()).isNull();
+
+        // 마지막 해제 → released_at 기록
+        imageRepository.releaseReferences(List.of(image.getImageId()), releasedAt);
+        Image released = reload(image);
+        assertThat(released.getRefCount()).isZero();
+        assertThat(released.getReleasedAt()).isEqualTo(releasedAt);
+
+        // 참조 없는 이미지 해제는 무시 (음수 방지)
+        int updated = imageRepository.releaseReferences(List.of(image.getImageId()), releasedAt.plusHours(1));
+        assertThat(updated).isZero();
+        assertThat(reload(image).getReleasedAt()).isEqualTo(releasedAt);
+    }
+
+    @Test
+    @DisplayName("참조 획득 거부 - 유예 시간이 지난 미참조 이미지 (정리 배치 선택 가능)")
+    void acquireReference_RejectsStaleReleased() {
+        // Given
+        LocalDateTime releasedAfter = LocalDateTime.now().minusHours(1);
+        Image recent = persistReleased("recent.jpg", LocalDateTime.now().minusMinutes(10));
+        Image stale = persistReleased("stale.jpg", LocalDateTime.now().minusHours(2));
+        entityManager.clear();
+
+        // When
+        int recentAcquired = imageRepository.acquireReference(recent.getImageId(), releasedAfter);
+        int staleAcquired = imageRepository.acquireReference(stale.getImageId(), releasedAfter);
+        int batchAcquired = imageRepository.acquireReferences(
+                List.of(recent.getImageId(), stale.getImageId()), releasedAfter);
+
+        // Then
+        assertThat(recentAcquired).isEqualTo(1);
+        assertThat(staleAcquired).isZero();
+        assertThat(batchAcquired).isEqualTo(1);  // recent만 (호출자가 개수 비교 후 IMAGE_NOT_FOUND)
+        assertThat(reload(stale).getRefCount()).isZero();
+        assertThat(reload(stale).getReleasedAt()).isNotNull();
+        assertThat(reload(recent).getRefCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("해제 이미지 keyset 청크 조회 - (released_at, image_id) 순, 참조 중/유예 시간 내 이미지 제외")
+    void findReleasedChunk_Keyset() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Image sameTimeA = persistReleased("a.jpg", now.minusHours(2));
+        Image sameTimeB = persistReleased("b.jpg", now.minusHours(2));
+        Image older = persistReleased("c.jpg", now.minusHours(3));
+        Image linked = persist("linked.jpg");
+        acquire(linked);
+        persist("just-uploaded.jpg");  // released_at = 생성 시각 → threshold 이후
+        entityManager.clear();
+
+        // When
+        List<CleanupRow> first = imageRepository.findReleasedChunk(now, Limit.of(2));
+        CleanupRow last = first.get(first.size() - 1);
+        List<CleanupRow> second = imageRepository.findReleasedChunkAfter(now, last.getReleasedAt(), last.getImageId(),
+                Limit.of(2));
+
+        // Then
+        assertThat(first).extracting(CleanupRow::getImageId)
+                .containsExactly(older.getImageId(), sameTimeA.getImageId());
+        assertThat(second).extracting(CleanupRow::getImageId)
+                .containsExactly(sameTimeB.getImageId());
+        assertThat(second.get(0).getImageUrl()).endsWith("/images/b.jpg");
+    }
+
+    @Test
+    @DisplayName("참조 없는 이미지 삭제 - 조회 이후 다시 연결된 이미지는 유지")
+    void deleteUnreferenced_SkipsReacquired() {
+        // Given
+        Image released = persistReleased("released.jpg", LocalDateTime.now().minusHours(2));
+        Image reacquired = persistReleased("reacquired.jpg", LocalDateTime.now().minusMinutes(10));
+        acquire(reacquired);  // 조회 이후 다시 연결 (유예 시간 내)
+
+        // When
+        int deleted = imageRepository.deleteUnreferenced(List.of(released.getImageId(), reacquired.getImageId()));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        entityManager.clear();
+        assertThat(imageRepository.findById(released.getImageId())).isEmpty();
+        assertThat(imageRepository.findById(reacquired.getImageId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("재사용 선점 - 참조 중/최근 해제 이미지만 성공, 미참조 이미지는 released_at 갱신")
+    void claimForReuse() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime reuseAfter = now.minusMinutes(30);
+        Image referenced = persist("referenced.jpg");
+        acquire(referenced);
+        Image recent = persistReleased("recent.jpg", now.minusMinutes(10));
+        Image stale = persistReleased("stale.jpg", now.minusMinutes(50));
+
+        // When
+        int referencedClaimed = imageRepository.claimForReuse(referenced.getImageId(), now, reuseAfter);
+        int recentClaimed = imageRepository.claimForReuse(recent.getImageId(), now, reuseAfter);
+        int staleClaimed = imageRepository.claimForReuse(stale.getImageId(), now, reuseAfter);
+
+        // Then
+        assertThat(referencedClaimed).isEqualTo(1);
+        assertThat(reload(referenced).getReleasedAt()).isNull();
+
+        assertThat(recentClaimed).isEqualTo(1);
+        assertThat(reload(recent).getReleasedAt()).isEqualTo(now);  // 정리 유예 시간 재시작
+
+        assertThat(staleClaimed).isZero();  // 정리 배치가 곧 삭제할 이미지
+        assertThat(reload(stale).getReleasedAt()).isEqualTo(now.minusMinutes(50));
+    }
+
+    @Test
+    @DisplayName("내용 해시 조회")
+    void findByContentHash() {
+        // Given
+        String hash = "a".repeat(64);
+        Image image = entityManager.persistAndFlush(Image.builder()
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/hashed.jpg")
+                .fileSize(1)
+                .originalFilename("hashed.jpg")
+                .contentHash(hash)
+                .build());
+        persist("unhashed.jpg");
+
+        // When & Then
+        assertThat(imageRepository.findByContentHash(hash))
+                .get()
+                .extracting(Image::getImageId)
+                .isEqualTo(image.getImageId());
+        assertThat(imageRepository.findByContentHash("b".repeat(64))).isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+package com.ktb.community.security;
+
+import com.ktb.community.enums.ErrorCode;
+import com.ktb.community.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BoundedPasswordEncoder 단위 테스트
+ */
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("encode/matches - 워커 풀에서 BCrypt 실행 및 메트릭 기록")
+    void encodeAndMatches_Success() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 3000, meterRegistry);
+
+        // When
+        String hash = encoder.encode("Test1234!");
+
+        // Then
+        assertThat(encoder.matches("Test1234!", hash)).isTrue();
+        assertThat(encoder.matches("Wrong1234!", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("op", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.wait").tag("op", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("큐 포화 - TOO_MANY_REQUESTS 즉시 반환")
+    void encode_QueueFull_ThrowsTooManyRequests() throws Exception {
+        // Given - 워커 1개, 큐 1개, 해시가 latch에서 대기
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new BlockingEncoder(started, release);
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, 5000, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> encoder.encode("first"));   // 워커 점유
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> encoder.encode("second"));  // 큐 적재
+            waitForQueueSize(1);
+
+            // When & Then - 세 번째 요청은 즉시 거절
+            assertThatThrownBy(() -> encoder.encode("third"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+            assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - TOO_MANY_REQUESTS 반환")
+    void matches_WaitTimeout_ThrowsTooManyRequests() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(new CountDownLatch(1), release), 1, 1, 50, meterRegistry);
+
+        try {
+            // When & Then
+            assertThatThrownBy(() -> encoder.matches("raw", "encoded"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void waitForQueueSize(int expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (meterRegistry.get("password.hash.queue.size").gauge().value() >= expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * latch 해제 전까지 해시를 블로킹하는 테스트용 PasswordEncoder
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return true;
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -175,4 +175,27 @@ class JwtTokenProviderTest {
         // Then
         assertThat(isExpired).isTrue();
     }
+
+    @Test
+    @DisplayName("Claims 추출 - Access Token마다 고유 jti 포함")
+    void parseClaims_AccessToken_HasUniqueId() {
+        // Given
+        String first = jwtTokenProvider.createAccessToken(1L, "test@example.com", "USER");
+        String second = jwtTokenProvider.createAccessToken(1L, "test@example.com", "USER");
+
+        // When
+        io.jsonwebtoken.Claims firstClaims = jwtTokenProvider.parseClaims(first);
+        io.jsonwebtoken.Claims secondClaims = jwtTokenProvider.parseClaims(second);
+
+        // Then
+        assertThat(firstClaims.getSubject()).isEqualTo("1");
+        assertThat(firstClaims.getId()).isNotBlank();
+        assertThat(firstClaims.getId()).isNotEqualTo(secondClaims.getId());
+    }
+
+    @Test
+    @DisplayName("Claims 추출 - 유효하지 않은 토큰은 null")
+    void parseClaims_InvalidToken_ReturnsNull() {
+        assertThat(jwtTokenProvider.parseClaims("invalid.token.value")).isNull();
+    }
 }
@@ -0,0 +1,124 @@
+package com.ktb.community.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenRevocationList 단위 테스트
+ */
+@DisplayName("TokenRevocationList 테스트")
+class TokenRevocationListTest {
+
+    private static final long VALIDITY = 900_000L;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(1 << 16, VALIDITY);
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 폐기된 jti만 거부")
+    void revoke_OnlyRevokedTokenRejected() {
+        // Given
+        long now = System.currentTimeMillis();
+        String revoked = UUID.randomUUID().toString();
+        String other = UUID.randomUUID().toString();
+
+        // When
+        revocationList.revoke(revoked, now + VALIDITY);
+
+        // Then
+        assertThat(revocationList.isRevoked(revoked, 1L, now)).isTrue();
+        assertThat(revocationList.isRevoked(other, 1L, now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 미폐기 토큰 다수 조회 시 오거부 없음 (Bloom 오탐은 정확 집합에서 걸러짐)")
+    void isRevoked_NoFalseRejection() {
+        // Given
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 1_000; i++) {
+            revocationList.revoke(UUID.randomUUID().toString(), now + VALIDITY);
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 1L, now)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 단위 폐기 - 기준 시각 이전 발급 토큰만 거부")
+    void revokeAllForUser_RejectsTokensIssuedBeforeCutoff() {
+        // Given
+        long issuedBefore = System.currentTimeMillis() - 5_000;
+
+        // When
+        revocationList.revokeAllForUser(7L);
+        long issuedAfter = System.currentTimeMillis() + 1_000;
+
+        // Then
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 7L, issuedBefore)).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 7L, issuedAfter)).isFalse();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 8L, issuedBefore)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 단위 폐기 (커밋 후) - 롤백 시 폐기 안 함, 커밋 시 폐기")
+    void revokeAllForUserAfterCommit_OnlyOnCommit() {
+        // Given
+        long issuedBefore = System.currentTimeMillis() - 5_000;
+
+        // When & Then - 롤백: 폐기 안 됨
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revocationList.revokeAllForUserAfterCommit(7L);
+            assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 7L, issuedBefore)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 7L, issuedBefore)).isFalse();
+
+        // When & Then - 커밋: 폐기
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revocationList.revokeAllForUserAfterCommit(7L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), 7L, issuedBefore)).isTrue();
+    }
+
+    @Test
+    @DisplayName("세대 회전 - 유효 기간 내 항목 유지, 만료 항목 정리")
+    void rotate_KeepsLiveEntriesAndPurgesExpired() throws InterruptedException {
+        // Given
+        long now = System.currentTimeMillis();
+        String live = UUID.randomUUID().toString();
+        String expiring = UUID.randomUUID().toString();
+        revocationList.revoke(live, now + VALIDITY);
+        revocationList.revoke(expiring, now + 50);
+        Thread.sleep(100);
+
+        // When - 두 번 회전해도 (최초 세대 폐기) 남은 항목은 재등록되어 유지
+        revocationList.rotate();
+        revocationList.rotate();
+
+        // Then
+        assertThat(revocationList.isRevoked(live, 1L, now)).isTrue();
+        assertThat(revocationList.isRevoked(expiring, 1L, now)).isFalse();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+}
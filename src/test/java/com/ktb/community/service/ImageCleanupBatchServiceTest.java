@@ -1,22 +1,31 @@
 package com.ktb.community.service;
 
-import com.ktb.community.entity.Image;
+import com.ktb.community.repository.BatchCheckpointRepository;
+import com.ktb.community.repository.BatchCheckpointRepository.Cursor;
 import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.repository.ImageRepository.CleanupRow;
+import com.ktb.community.storage.ObjectStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -26,89 +35,274 @@ import static org.mockito.Mockito.*;
 @DisplayName("고아 이미지 배치 테스트")
 class ImageCleanupBatchServiceTest {
 
+    private static final String BASE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+
     @Mock
     private ImageRepository imageRepository;
 
     @Mock
-    private S3Client s3Client;
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private BatchCheckpointRepository checkpointRepository;
 
     private ImageCleanupBatchService batchService;
 
     @BeforeEach
     void setUp() {
-        // Self-injection 패턴: self를 null로 초기화 후 리플렉션으로 자기 자신 설정
-        batchService = new ImageCleanupBatchService(imageRepository, s3Client, null);
-        ReflectionTestUtils.setField(batchService, "self", batchService);
-        ReflectionTestUtils.setField(batchService, "bucketName", "test-bucket");
+        batchService = new ImageCleanupBatchService(imageRepository, objectStorage, checkpointRepository);
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(batchService, "workers", 2);
+        ReflectionTestUtils.setField(batchService, "timeBudgetMs", 60_000L);
+        ReflectionTestUtils.setField(batchService, "storageKeysPerSecond", 0);
+        ReflectionTestUtils.setField(batchService, "releaseGraceMs", 3_600_000L);
+        lenient().when(imageRepository.deleteUnreferenced(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+        lenient().when(checkpointRepository.find(ImageCleanupBatchService.RELEASED_CLEANUP_JOB))
+                .thenReturn(Optional.empty());
+        lenient().when(objectStorage.keyOf(anyString())).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            return url.startsWith(BASE_URL) ? url.substring(BASE_URL.length()) : null;
+        });
+    }
+
+    private static CleanupRow row(long imageId, String url, LocalDateTime releasedAt) {
+        return row(imageId, url, releasedAt, false);
+    }
+
+    private static CleanupRow row(long imageId, String url, LocalDateTime releasedAt, boolean variantsReady) {
+        return new CleanupRow() {
+            @Override
+            public Long getImageId() {
+                return imageId;
+            }
+
+            @Override
+            public String getImageUrl() {
+                return url;
+            }
+
+            @Override
+            public LocalDateTime getReleasedAt() {
+                return releasedAt;
+            }
+
+            @Override
+            public Boolean getVariantsReady() {
+                return variantsReady;
+            }
+        };
     }
 
     @Test
-    @DisplayName("고아 이미지 배치 - 만료된 이미지 삭제 성공")
+    @DisplayName("고아 이미지 배치 - 참조 해제된 이미지 삭제 성공")
     void cleanupOrphanImages_Success() {
         // Given
-        Image expiredImage = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/10/11/test.jpg")
-                .fileSize(1024)
-                .originalFilename("test.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(2))
-                .build();
+        CleanupRow expired = row(1L, BASE_URL + "images/2025/10/11/test.jpg", LocalDateTime.now().minusHours(2));
+
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(expired));
+        when(objectStorage.deleteAll(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then
+        verify(objectStorage).deleteAll(Set.of("images/2025/10/11/test.jpg"));
+        verify(imageRepository).findReleasedChunk(
+                argThat(threshold -> threshold.isBefore(LocalDateTime.now().minusMinutes(59))), eq(Limit.of(2)));
+        verify(imageRepository).deleteUnreferenced(List.of(1L));
+        verify(imageRepository, never()).findReleasedChunkAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("고아 이미지 배치 - 리사이즈 변형도 함께 삭제, 변형 삭제 실패는 DB 삭제에 영향 없음")
+    void cleanupOrphanImages_DeletesVariants() {
+        // Given
+        CleanupRow withVariants = row(1L, BASE_URL + "images/a.png", LocalDateTime.now().minusHours(2), true);
 
-        when(imageRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(expiredImage));
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(withVariants));
+        when(objectStorage.deleteAll(anyCollection())).thenReturn(Set.of("images/a.png", "images/a_avatar.png"));
 
         // When
         batchService.cleanupOrphanImages();
 
         // Then
-        verify(imageRepository).findByExpiresAtBefore(any(LocalDateTime.class));
-        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
-        verify(imageRepository).delete(expiredImage);
+        verify(objectStorage).deleteAll(Set.of(
+                "images/a.png", "images/a_avatar.png", "images/a_feed.png", "images/a_detail.png"));
+        verify(imageRepository).deleteUnreferenced(List.of(1L));
     }
 
     @Test
-    @DisplayName("고아 이미지 배치 - 만료된 이미지 없음")
-    void cleanupOrphanImages_NoExpiredImages() {
+    @DisplayName("고아 이미지 배치 - 삭제 대상 이미지 없음")
+    void cleanupOrphanImages_NoReleasedImages() {
         // Given
-        when(imageRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), any(Limit.class)))
                 .thenReturn(Collections.emptyList());
 
         // When
         batchService.cleanupOrphanImages();
 
         // Then
-        verify(imageRepository).findByExpiresAtBefore(any(LocalDateTime.class));
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
-        verify(imageRepository, never()).delete(any(Image.class));
+        verify(objectStorage, never()).deleteAll(anyCollection());
+        verify(imageRepository, never()).deleteUnreferenced(anyCollection());
     }
 
     @Test
-    @DisplayName("고아 이미지 배치 - 여러 이미지 동시 삭제")
-    void cleanupOrphanImages_MultipleImages() {
+    @DisplayName("고아 이미지 배치 - keyset 청크 순회 (청크당 일괄 삭제 1회)")
+    void cleanupOrphanImages_MultipleChunks() {
         // Given
-        Image image1 = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/test1.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(2))
-                .build();
+        LocalDateTime base = LocalDateTime.now().minusHours(3);
+        CleanupRow image1 = row(1L, BASE_URL + "images/test1.jpg", base);
+        CleanupRow image2 = row(2L, BASE_URL + "images/test2.jpg", base.plusMinutes(1));
+        CleanupRow image3 = row(3L, BASE_URL + "images/test3.jpg", base.plusMinutes(2));
+
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(image1, image2));
+        when(imageRepository.findReleasedChunkAfter(any(LocalDateTime.class), eq(image2.getReleasedAt()), eq(2L), eq(Limit.of(2))))
+                .thenReturn(List.of(image3));
+        when(objectStorage.deleteAll(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+        // When
+        batchService.cleanupOrphanImages();
 
-        Image image2 = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/test2.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(3))
-                .build();
+        // Then
+        verify(objectStorage, times(2)).deleteAll(anyCollection());
+        verify(imageRepository).deleteUnreferenced(argThat(ids -> new HashSet<>((Collection<?>) ids).equals(Set.of(1L, 2L))));
+        verify(imageRepository).deleteUnreferenced(List.of(3L));
+    }
 
-        Image image3 = Image.builder()
-                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/test3.jpg")
-                .expiresAt(LocalDateTime.now().minusHours(1))
-                .build();
+    @Test
+    @DisplayName("고아 이미지 배치 - 저장소 삭제 실패 키는 DB 행 유지")
+    void cleanupOrphanImages_PartialStorageFailure() {
+        // Given
+        LocalDateTime releasedAt = LocalDateTime.now().minusHours(2);
+        CleanupRow ok = row(1L, BASE_URL + "images/ok.jpg", releasedAt);
+        CleanupRow failed = row(2L, BASE_URL + "images/failed.jpg", releasedAt);
 
-        when(imageRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(image1, image2, image3));
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(ok, failed));
+        when(imageRepository.findReleasedChunkAfter(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(objectStorage.deleteAll(anyCollection())).thenReturn(Set.of("images/ok.jpg"));
 
         // When
         batchService.cleanupOrphanImages();
 
         // Then
-        verify(imageRepository).findByExpiresAtBefore(any(LocalDateTime.class));
-        verify(s3Client, times(3)).deleteObject(any(DeleteObjectRequest.class));
-        verify(imageRepository, times(3)).delete(any(Image.class));
+        verify(imageRepository).deleteUnreferenced(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("고아 이미지 배치 - 저장소 외부 URL은 DB 레코드만 삭제")
+    void cleanupOrphanImages_ForeignUrl() {
+        // Given
+        CleanupRow foreign = row(7L, "https://other-bucket.s3.us-east-1.amazonaws.com/images/legacy.jpg",
+                LocalDateTime.now().minusHours(2));
+
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(foreign));
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then
+        verify(objectStorage, never()).deleteAll(anyCollection());
+        verify(imageRepository).deleteUnreferenced(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("고아 이미지 배치 - 체크포인트 이후부터 재개, 완료 시 체크포인트 제거")
+    void cleanupOrphanImages_ResumeFromCheckpoint() {
+        // Given
+        LocalDateTime base = LocalDateTime.now().minusHours(3);
+        Cursor checkpoint = new Cursor(base, 10L);
+        CleanupRow image11 = row(11L, BASE_URL + "images/test11.jpg", base.plusMinutes(1));
+
+        when(checkpointRepository.find(ImageCleanupBatchService.RELEASED_CLEANUP_JOB))
+                .thenReturn(Optional.of(checkpoint));
+        when(imageRepository.findReleasedChunkAfter(any(LocalDateTime.class), eq(base), eq(10L), eq(Limit.of(2))))
+                .thenReturn(List.of(image11));
+        when(objectStorage.deleteAll(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then
+        verify(imageRepository, never()).findReleasedChunk(any(), any());
+        verify(imageRepository).deleteUnreferenced(List.of(11L));
+        verify(checkpointRepository).save(ImageCleanupBatchService.RELEASED_CLEANUP_JOB,
+                new Cursor(image11.getReleasedAt(), 11L));
+        verify(checkpointRepository).delete(ImageCleanupBatchService.RELEASED_CLEANUP_JOB);
+    }
+
+    @Test
+    @DisplayName("고아 이미지 배치 - 청크 처리마다 체크포인트 전진")
+    void cleanupOrphanImages_AdvancesCheckpoint() {
+        // Given
+        LocalDateTime base = LocalDateTime.now().minusHours(3);
+        CleanupRow image1 = row(1L, BASE_URL + "images/test1.jpg", base);
+        CleanupRow image2 = row(2L, BASE_URL + "images/test2.jpg", base.plusMinutes(1));
+        CleanupRow image3 = row(3L, BASE_URL + "images/test3.jpg", base.plusMinutes(2));
+
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(image1, image2));
+        when(imageRepository.findReleasedChunkAfter(any(LocalDateTime.class), eq(image2.getReleasedAt()), eq(2L), eq(Limit.of(2))))
+                .thenReturn(List.of(image3));
+        when(objectStorage.deleteAll(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then: 워커 완료 순서와 무관하게 마지막 체크포인트는 마지막 청크 끝
+        verify(checkpointRepository, atMost(2)).save(eq(ImageCleanupBatchService.RELEASED_CLEANUP_JOB), any(Cursor.class));
+        verify(checkpointRepository).save(ImageCleanupBatchService.RELEASED_CLEANUP_JOB,
+                new Cursor(image3.getReleasedAt(), 3L));
+        verify(checkpointRepository).delete(ImageCleanupBatchService.RELEASED_CLEANUP_JOB);
+    }
+
+    @Test
+    @DisplayName("고아 이미지 배치 - 시간 예산 소진 시 스캔하지 않고 체크포인트 유지")
+    void cleanupOrphanImages_TimeBudgetExceeded() {
+        // Given
+        ReflectionTestUtils.setField(batchService, "timeBudgetMs", 0L);
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then
+        verify(imageRepository, never()).findReleasedChunk(any(), any());
+        verify(imageRepository, never()).deleteUnreferenced(anyCollection());
+        verify(checkpointRepository, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("고아 이미지 배치 - 저장소 속도 제한 대기가 시간 예산을 넘으면 청크 건너뜀")
+    void cleanupOrphanImages_StorageRateLimited() {
+        // Given: 초당 1키 → 2키 청크는 용량(청크 크기) 안이라 즉시, 이후 청크는 예산(500ms) 안에 토큰 부족
+        ReflectionTestUtils.setField(batchService, "timeBudgetMs", 500L);
+        ReflectionTestUtils.setField(batchService, "storageKeysPerSecond", 1);
+        ReflectionTestUtils.setField(batchService, "workers", 1);
+        LocalDateTime base = LocalDateTime.now().minusHours(3);
+        CleanupRow image1 = row(1L, BASE_URL + "images/test1.jpg", base);
+        CleanupRow image2 = row(2L, BASE_URL + "images/test2.jpg", base.plusMinutes(1));
+        CleanupRow image3 = row(3L, BASE_URL + "images/test3.jpg", base.plusMinutes(2));
+
+        when(imageRepository.findReleasedChunk(any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(image1, image2));
+        lenient().when(imageRepository.findReleasedChunkAfter(any(LocalDateTime.class), eq(image2.getReleasedAt()), eq(2L), eq(Limit.of(2))))
+                .thenReturn(List.of(image3));
+        when(objectStorage.deleteAll(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+        // When
+        batchService.cleanupOrphanImages();
+
+        // Then: 첫 청크만 삭제, 체크포인트는 첫 청크 끝에 유지
+        verify(objectStorage, times(1)).deleteAll(anyCollection());
+        verify(imageRepository, never()).deleteUnreferenced(List.of(3L));
+        verify(checkpointRepository).save(ImageCleanupBatchService.RELEASED_CLEANUP_JOB,
+                new Cursor(image2.getReleasedAt(), 2L));
+        verify(checkpointRepository, never()).delete(anyString());
     }
 }
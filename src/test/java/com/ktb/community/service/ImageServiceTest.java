@@ -1,31 +1,51 @@
 package com.ktb.community.service;
 
+import com.ktb.community.dto.request.ImageMetadataRequest;
+import com.ktb.community.dto.request.PresignedUrlBatchRequest;
+import com.ktb.community.dto.response.ImageResponse;
 import com.ktb.community.dto.response.PresignedUrlResponse;
 import com.ktb.community.entity.Image;
 import com.ktb.community.enums.ErrorCode;
 import com.ktb.community.exception.BusinessException;
 import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.storage.ObjectStorage;
+import com.ktb.community.util.ContentHasher;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.net.URI;
-import java.net.URL;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -37,27 +57,348 @@ import static org.mockito.Mockito.*;
 class ImageServiceTest {
 
     @Mock
-    private S3Client s3Client;
+    private ObjectStorage objectStorage;
 
     @Mock
-    private S3Presigner s3Presigner;
+    private ImageRepository imageRepository;
 
     @Mock
-    private ImageRepository imageRepository;
+    private ImageVariantService imageVariantService;
 
     @InjectMocks
     private ImageService imageService;
 
+    private final ExecutorService storageExecutor = Executors.newSingleThreadExecutor();
+
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(imageService, "bucketName", "test-bucket");
-        ReflectionTestUtils.setField(imageService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(imageService, "storageExecutor", storageExecutor);
+        lenient().when(objectStorage.urlOf(anyString()))
+                .thenAnswer(invocation -> "https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageExecutor.shutdownNow();
+    }
+
+    private static MockMultipartFile pngFile() {
+        byte[] content = new byte[1024];
+        byte[] header = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(header, 0, content, 0, header.length);
+        return new MockMultipartFile("file", "photo.png", "image/png", content);
+    }
+
+    private static Image existingImage(Long imageId, String contentHash) {
+        Image image = Image.builder()
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/existing.png")
+                .fileSize(1024)
+                .originalFilename("existing.png")
+                .contentHash(contentHash)
+                .build();
+        ReflectionTestUtils.setField(image, "imageId", imageId);
+        return image;
+    }
+
+    @Nested
+    @DisplayName("이미지 업로드 테스트")
+    class UploadImageTest {
+
+        private static final byte[] PNG_HEADER = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+        @Test
+        @DisplayName("성공 - 파일 전체를 byte[]로 읽지 않고 저장소에 스트림 전달")
+        void uploadImage_Success_Streaming() throws Exception {
+            // Given
+            byte[] content = new byte[64 * 1024];
+            System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+            MockMultipartFile file = spy(new MockMultipartFile("file", "photo.png", "image/png", content));
+
+            when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> {
+                Image image = invocation.getArgument(0);
+                ReflectionTestUtils.setField(image, "imageId", 10L);
+                return image;
+            });
+
+            // When
+            ImageResponse response = imageService.uploadImage(file);
+
+            // Then
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            verify(objectStorage).put(keyCaptor.capture(), eq("image/png"), eq((long) content.length), eq(file));
+            assertThat(response.getImageUrl()).endsWith(keyCaptor.getValue());
+
+            verify(file, never()).getBytes();
+            assertThat(response.getImageId()).isEqualTo(10L);
+            verify(imageVariantService).generateAsync(10L, response.getImageUrl());  // 리사이즈 변형 비동기 생성
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 내용 이미지 재사용 시 업로드/저장 생략")
+        void uploadImage_Success_ReusesDuplicate() {
+            // Given
+            MockMultipartFile file = pngFile();
+            String hash = ContentHasher.sha256Hex(file);
+            when(imageRepository.findByContentHash(hash)).thenReturn(Optional.of(existingImage(5L, hash)));
+            when(imageRepository.claimForReuse(eq(5L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .thenReturn(1);
+
+            // When
+            ImageResponse response = imageService.uploadImage(file);
+
+            // Then - 기존 업로더의 파일명/업로드 시각 대신 요청자 값
+            assertThat(response.getImageId()).isEqualTo(5L);
+            assertThat(response.getOriginalFilename()).isEqualTo("photo.png");
+            assertThat(response.getFileSize()).isEqualTo(1024);
+            assertThat(response.getCreatedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+            verify(objectStorage, never()).put(anyString(), anyString(), anyLong(), any());
+            verify(imageRepository, never()).save(any(Image.class));
+            verifyNoInteractions(imageVariantService);  // 기존 이미지의 변형 재사용
+        }
+
+        @Test
+        @DisplayName("성공 - 정리 임박 이미지는 재사용하지 않고 해시 없이 새로 저장")
+        void uploadImage_Success_StaleDuplicateUploadsNew() {
+            // Given
+            MockMultipartFile file = pngFile();
+            String hash = ContentHasher.sha256Hex(file);
+            when(imageRepository.findByContentHash(hash)).thenReturn(Optional.of(existingImage(5L, hash)));
+            when(imageRepository.claimForReuse(eq(5L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            imageService.uploadImage(file);
+
+            // Then
+            ArgumentCaptor<Image> imageCaptor = ArgumentCaptor.forClass(Image.class);
+            verify(imageRepository).save(imageCaptor.capture());
+            assertThat(imageCaptor.getValue().getContentHash()).isNull();  // uq_images_content_hash 충돌 방지
+            verify(objectStorage).put(anyString(), eq("image/png"), eq(file.getSize()), eq(file));
+        }
+
+        @Test
+        @DisplayName("성공 - 동일 내용 동시 업로드 충돌 시 먼저 저장된 이미지 재사용, 내 객체 삭제")
+        void uploadImage_Success_ConcurrentDuplicate() {
+            // Given
+            MockMultipartFile file = pngFile();
+            String hash = ContentHasher.sha256Hex(file);
+            when(imageRepository.findByContentHash(hash))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(existingImage(7L, hash)));
+            when(imageRepository.claimForReuse(eq(7L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .thenReturn(1);
+            when(imageRepository.save(any(Image.class)))
+                    .thenThrow(new DataIntegrityViolationException("uq_images_content_hash"));
+
+            // When
+            ImageResponse response = imageService.uploadImage(file);
+
+            // Then
+            assertThat(response.getImageId()).isEqualTo(7L);
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            verify(objectStorage).put(keyCaptor.capture(), anyString(), anyLong(), any());
+            verify(objectStorage).delete(keyCaptor.getValue());
+        }
+
+        @Test
+        @DisplayName("실패 - Magic Number 불일치 (확장자/Content-Type만 이미지)")
+        void uploadImage_Fail_InvalidMagicNumber() {
+            // Given
+            MockMultipartFile file = new MockMultipartFile("file", "fake.png", "image/png", "not-an-image".getBytes());
+
+            // When & Then
+            assertThatThrownBy(() -> imageService.uploadImage(file))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+
+            verify(objectStorage, never()).put(anyString(), anyString(), anyLong(), any());
+            verify(imageRepository, never()).save(any(Image.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 이미지 업로드 테스트")
+    class UploadImageAsyncTest {
+
+        @Test
+        @DisplayName("성공 - 업로드 완료 후 DB 저장")
+        void uploadImageAsync_Success() {
+            // Given
+            MockMultipartFile file = pngFile();
+            when(objectStorage.putAsync(anyString(), eq("image/png"), eq(file.getSize()), eq(file)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+            when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> {
+                Image image = invocation.getArgument(0);
+                ReflectionTestUtils.setField(image, "imageId", 20L);
+                return image;
+            });
+
+            // When
+            ImageResponse response = imageService.uploadImageAsync(file).join();
+
+            // Then
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            verify(objectStorage).putAsync(keyCaptor.capture(), anyString(), anyLong(), any());
+            assertThat(response.getImageId()).isEqualTo(20L);
+            assertThat(response.getImageUrl()).endsWith(keyCaptor.getValue());
+        }
+
+        @Test
+        @DisplayName("실패 - 업로드 시간 초과 시 503, DB 저장 없음")
+        void uploadImageAsync_Fail_Timeout() {
+            // Given
+            when(objectStorage.putAsync(anyString(), anyString(), anyLong(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new TimeoutException("upload timed out")));
+
+            // When
+            CompletableFuture<ImageResponse> future = imageService.uploadImageAsync(pngFile());
+
+            // Then
+            assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE);
+            verify(imageRepository, never()).save(any(Image.class));
+        }
+
+        @Test
+        @DisplayName("실패 - DB 저장 실패 시 업로드된 객체 삭제")
+        void uploadImageAsync_Fail_SaveDeletesObject() {
+            // Given
+            when(objectStorage.putAsync(anyString(), anyString(), anyLong(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+            when(imageRepository.save(any(Image.class))).thenThrow(new IllegalStateException("db down"));
+
+            // When
+            CompletableFuture<ImageResponse> future = imageService.uploadImageAsync(pngFile());
+
+            // Then
+            assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            verify(objectStorage).putAsync(keyCaptor.capture(), anyString(), anyLong(), any());
+            verify(objectStorage).delete(keyCaptor.getValue());
+        }
+
+        @Test
+        @DisplayName("실패 - 검증 실패는 즉시 예외 (저장소 호출 없음)")
+        void uploadImageAsync_Fail_InvalidFile() {
+            // Given
+            MockMultipartFile file = new MockMultipartFile("file", "fake.png", "image/png", "not-an-image".getBytes());
+
+            // When & Then
+            assertThatThrownBy(() -> imageService.uploadImageAsync(file))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+            verifyNoInteractions(objectStorage);
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 메타데이터 등록 테스트")
+    class RegisterImageMetadataTest {
+
+        private static final String IMAGE_URL =
+                "https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/01/01/lambda.png";
+        private static final String IMAGE_KEY = "images/2025/01/01/lambda.png";
+
+        private ImageMetadataRequest request() {
+            return ImageMetadataRequest.builder()
+                    .imageUrl(IMAGE_URL)
+                    .fileSize(1024)
+                    .originalFilename("lambda.png")
+                    .build();
+        }
+
+        @Test
+        @DisplayName("성공 - 업로드된 객체 내용 해시 저장")
+        void registerImageMetadata_Success_StoresHash() throws Exception {
+            // Given
+            byte[] content = pngFile().getBytes();
+            when(objectStorage.keyOf(IMAGE_URL)).thenReturn(IMAGE_KEY);
+            when(objectStorage.open(IMAGE_KEY)).thenReturn(new ByteArrayInputStream(content));
+            when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            imageService.registerImageMetadata(request());
+
+            // Then
+            ArgumentCaptor<Image> imageCaptor = ArgumentCaptor.forClass(Image.class);
+            verify(imageRepository).save(imageCaptor.capture());
+            assertThat(imageCaptor.getValue().getContentHash())
+                    .isEqualTo(ContentHasher.sha256Hex(new ByteArrayResource(content)));
+            verify(objectStorage, never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 내용 이미지 재사용 시 Lambda 업로드 객체 삭제")
+        void registerImageMetadata_Success_ReusesDuplicate() throws Exception {
+            // Given
+            byte[] content = pngFile().getBytes();
+            String hash = ContentHasher.sha256Hex(new ByteArrayResource(content));
+            when(objectStorage.keyOf(IMAGE_URL)).thenReturn(IMAGE_KEY);
+            when(objectStorage.open(IMAGE_KEY)).thenReturn(new ByteArrayInputStream(content));
+            when(imageRepository.findByContentHash(hash)).thenReturn(Optional.of(existingImage(5L, hash)));
+            when(imageRepository.claimForReuse(eq(5L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .thenReturn(1);
+
+            // When
+            ImageResponse response = imageService.registerImageMetadata(request());
+
+            // Then
+            assertThat(response.getImageId()).isEqualTo(5L);
+            assertThat(response.getOriginalFilename()).isEqualTo("lambda.png");  // 기존 "existing.png" 노출 X
+            verify(objectStorage).delete(IMAGE_KEY);
+            verify(imageRepository, never()).save(any(Image.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 객체 읽기 실패 시 해시 없이 등록")
+        void registerImageMetadata_Success_UnreadableObject() {
+            // Given
+            when(objectStorage.keyOf(IMAGE_URL)).thenReturn(IMAGE_KEY);
+            when(objectStorage.open(IMAGE_KEY)).thenThrow(new IllegalStateException("no such key"));
+            when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            imageService.registerImageMetadata(request());
+
+            // Then
+            ArgumentCaptor<Image> imageCaptor = ArgumentCaptor.forClass(Image.class);
+            verify(imageRepository).save(imageCaptor.capture());
+            assertThat(imageCaptor.getValue().getContentHash()).isNull();
+            verify(imageRepository, never()).findByContentHash(anyString());
+        }
     }
 
     @Nested
     @DisplayName("Presigned URL 발급 테스트")
     class GeneratePresignedUrlTest {
 
+        @Test
+        @DisplayName("expires_at - 생성 시각 + 유예 시간 (응답 표시용, 정리 배치 기준과 동일)")
+        void generatePresignedUrl_ExpiresAtFollowsReleaseGrace() {
+            // Given
+            ReflectionTestUtils.setField(imageService, "releaseGraceMs", 1_800_000L);
+            when(objectStorage.presignPut(anyString(), anyString(), any(Duration.class))).thenReturn("https://upload");
+            when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            LocalDateTime before = LocalDateTime.now();
+
+            // When
+            imageService.generatePresignedUrl("test-image.jpg", "image/jpeg");
+
+            // Then
+            ArgumentCaptor<Image> imageCaptor = ArgumentCaptor.forClass(Image.class);
+            verify(imageRepository).save(imageCaptor.capture());
+            assertThat(imageCaptor.getValue().getExpiresAt())
+                    .isBetween(before.plusMinutes(30), LocalDateTime.now().plusMinutes(30));
+            assertThat(imageCaptor.getValue().getRefCount()).isZero();
+        }
+
         @Test
         @DisplayName("성공 - 유효한 JPG 파일명으로 Presigned URL 발급")
         void generatePresignedUrl_Success_Jpg() throws Exception {
@@ -65,10 +406,8 @@ class ImageServiceTest {
             String filename = "test-image.jpg";
             String contentType = "image/jpeg";
             
-            URL mockUrl = new URI("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/12/01/uuid.jpg?X-Amz-Signature=test").toURL();
-            PresignedPutObjectRequest mockPresignedRequest = mock(PresignedPutObjectRequest.class);
-            when(mockPresignedRequest.url()).thenReturn(mockUrl);
-            when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+            when(objectStorage.presignPut(anyString(), anyString(), eq(Duration.ofMinutes(15))))
+                    .thenReturn("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/12/01/uuid.jpg?X-Amz-Signature=test");
 
             Image savedImage = Image.builder()
                     .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/2025/12/01/uuid.jpg")
@@ -89,7 +428,7 @@ class ImageServiceTest {
             assertThat(response.getS3Key()).startsWith("images/");
             assertThat(response.getExpiresAt()).isNotNull();
 
-            verify(s3Presigner).presignPutObject(any(PutObjectPresignRequest.class));
+            verify(objectStorage).presignPut(anyString(), anyString(), any(Duration.class));
             verify(imageRepository).save(any(Image.class));
         }
 
@@ -99,10 +438,8 @@ class ImageServiceTest {
             // Given
             String filename = "test-image.png";
             
-            URL mockUrl = new URI("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/uuid.png?X-Amz-Signature=test").toURL();
-            PresignedPutObjectRequest mockPresignedRequest = mock(PresignedPutObjectRequest.class);
-            when(mockPresignedRequest.url()).thenReturn(mockUrl);
-            when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+            when(objectStorage.presignPut(anyString(), anyString(), eq(Duration.ofMinutes(15))))
+                    .thenReturn("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/uuid.png?X-Amz-Signature=test");
 
             Image savedImage = Image.builder()
                     .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/uuid.png")
@@ -119,7 +456,7 @@ class ImageServiceTest {
             // Then
             assertThat(response).isNotNull();
             assertThat(response.getImageId()).isEqualTo(2L);
-            verify(s3Presigner).presignPutObject(any(PutObjectPresignRequest.class));
+            verify(objectStorage).presignPut(anyString(), anyString(), any(Duration.class));
         }
 
         @Test
@@ -128,10 +465,8 @@ class ImageServiceTest {
             // Given
             String filename = "animation.gif";
             
-            URL mockUrl = new URI("https://test-bucket.s3.amazonaws.com/images/uuid.gif?sig=test").toURL();
-            PresignedPutObjectRequest mockPresignedRequest = mock(PresignedPutObjectRequest.class);
-            when(mockPresignedRequest.url()).thenReturn(mockUrl);
-            when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+            when(objectStorage.presignPut(anyString(), anyString(), eq(Duration.ofMinutes(15))))
+                    .thenReturn("https://test-bucket.s3.amazonaws.com/images/uuid.gif?sig=test");
 
             Image savedImage = Image.builder()
                     .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/uuid.gif")
@@ -161,7 +496,7 @@ class ImageServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
 
-            verify(s3Presigner, never()).presignPutObject(any(PutObjectPresignRequest.class));
+            verify(objectStorage, never()).presignPut(anyString(), anyString(), any(Duration.class));
             verify(imageRepository, never()).save(any(Image.class));
         }
 
@@ -210,4 +545,115 @@ class ImageServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
         }
     }
+
+    @Nested
+    @DisplayName("Presigned URL 일괄 발급 테스트")
+    class GeneratePresignedUrlsTest {
+
+        private PresignedUrlBatchRequest.FileItem file(String filename, String contentType) {
+            return PresignedUrlBatchRequest.FileItem.builder()
+                    .filename(filename)
+                    .contentType(contentType)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("성공 - 서명 1회 일괄 호출, Image 일괄 저장, 요청 순서 유지")
+        @SuppressWarnings("unchecked")
+        void generatePresignedUrls_Success() {
+            // Given
+            when(objectStorage.presignPutAll(anyMap(), eq(Duration.ofMinutes(15)))).thenAnswer(invocation -> {
+                Map<String, String> contentTypesByKey = invocation.getArgument(0);
+                Map<String, String> uploadUrls = new LinkedHashMap<>();
+                contentTypesByKey.keySet().forEach(key -> uploadUrls.put(key, "https://signed/" + key));
+                return uploadUrls;
+            });
+            when(imageRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<Image> images = invocation.getArgument(0);
+                for (int i = 0; i < images.size(); i++) {
+                    ReflectionTestUtils.setField(images.get(i), "imageId", 10L + i);
+                }
+                return images;
+            });
+
+            // When
+            List<PresignedUrlResponse> responses = imageService.generatePresignedUrls(List.of(
+                    file("a.jpg", "image/jpeg"), file("b.png", null), file("c.gif", null)));
+
+            // Then
+            assertThat(responses).extracting(PresignedUrlResponse::getImageId).containsExactly(10L, 11L, 12L);
+            assertThat(responses).allSatisfy(response ->
+                    assertThat(response.getUploadUrl()).isEqualTo("https://signed/" + response.getS3Key()));
+            assertThat(responses.get(0).getS3Key()).endsWith(".jpg");
+            assertThat(responses.get(1).getS3Key()).endsWith(".png");
+            assertThat(responses.get(2).getS3Key()).endsWith(".gif");
+
+            ArgumentCaptor<Map<String, String>> contentTypesCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(objectStorage, times(1)).presignPutAll(contentTypesCaptor.capture(), any(Duration.class));
+            assertThat(contentTypesCaptor.getValue().values())
+                    .containsExactly("image/jpeg", "image/png", "image/gif");  // 미전달 시 확장자 기반 추론
+            verify(objectStorage, never()).presignPut(anyString(), anyString(), any(Duration.class));
+            verify(imageRepository, times(1)).saveAll(anyList());
+            verify(imageRepository, never()).save(any(Image.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 하나라도 잘못된 확장자면 발급/등록 없음")
+        void generatePresignedUrls_Fail_InvalidExtension() {
+            // When & Then
+            assertThatThrownBy(() -> imageService.generatePresignedUrls(List.of(
+                    file("a.jpg", null), file("malware.exe", null))))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+
+            verify(objectStorage, never()).presignPutAll(anyMap(), any(Duration.class));
+            verify(imageRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 참조 획득 테스트")
+    class AcquireReferenceTest {
+
+        @Test
+        @DisplayName("성공 - 유예 시간 기준 시각으로 획득")
+        void acquireReference_Success() {
+            // Given
+            ReflectionTestUtils.setField(imageService, "releaseGraceMs", 3_600_000L);
+            when(imageRepository.acquireReference(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+            // When
+            imageService.acquireReference(1L);
+
+            // Then
+            ArgumentCaptor<LocalDateTime> releasedAfterCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(imageRepository).acquireReference(eq(1L), releasedAfterCaptor.capture());
+            assertThat(releasedAfterCaptor.getValue())
+                    .isBetween(LocalDateTime.now().minusHours(1).minusMinutes(1), LocalDateTime.now().minusHours(1));
+        }
+
+        @Test
+        @DisplayName("실패 - 정리 대상 이미지 연결 거부 (IMAGE_NOT_FOUND)")
+        void acquireReference_Stale() {
+            // Given
+            when(imageRepository.acquireReference(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+            // When & Then
+            assertThatThrownBy(() -> imageService.acquireReference(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("실패 - 일괄 획득 중 일부 거부 시 IMAGE_NOT_FOUND (트랜잭션 롤백)")
+        void acquireReferences_Partial() {
+            // Given
+            when(imageRepository.acquireReferences(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(1);
+
+            // When & Then
+            assertThatThrownBy(() -> imageService.acquireReferences(List.of(1L, 2L)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_NOT_FOUND);
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package com.ktb.community.service;
+
+import com.ktb.community.enums.ImageVariant;
+import com.ktb.community.repository.ImageRepository;
+import com.ktb.community.storage.ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageVariantService 테스트
+ * - 1회 디코딩 후 avatar/feed/detail 변형 저장, 실패 시 원본 URL 유지
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 리사이즈 변형 테스트")
+class ImageVariantServiceTest {
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ExecutorService imageVariantExecutor;
+
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantService = new ImageVariantService(objectStorage, imageRepository, imageVariantExecutor);
+        ReflectionTestUtils.setField(imageVariantService, "enabled", true);
+        ReflectionTestUtils.setField(imageVariantService, "jpegQuality", 0.85f);
+    }
+
+    private static byte[] encode(int width, int height, int type, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, output);
+        return output.toByteArray();
+    }
+
+    /**
+     * 저장된 변형 (키 → 디코딩 이미지)
+     */
+    private Map<String, BufferedImage> capturePuts(String contentType, int times) throws IOException {
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<InputStreamSource> sourceCaptor = ArgumentCaptor.forClass(InputStreamSource.class);
+        verify(objectStorage, times(times)).put(keyCaptor.capture(), eq(contentType), anyLong(), sourceCaptor.capture());
+
+        Map<String, BufferedImage> stored = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            try (InputStream inputStream = sourceCaptor.getAllValues().get(i).getInputStream()) {
+                stored.put(keyCaptor.getAllValues().get(i), ImageIO.read(inputStream));
+            }
+        }
+        return stored;
+    }
+
+    @Test
+    @DisplayName("PNG 원본 - 변형 3종 PNG 저장 후 variants_ready 표시")
+    void generate_Png() throws IOException {
+        // Given
+        String key = "images/2025/10/11/photo.png";
+        byte[] content = encode(2000, 1000, BufferedImage.TYPE_INT_ARGB, "png");
+        when(objectStorage.open(key)).thenReturn(new ByteArrayInputStream(content));
+        when(imageRepository.markVariantsReady(1L)).thenReturn(1);
+
+        // When
+        imageVariantService.generate(1L, key);
+
+        // Then
+        Map<String, BufferedImage> stored = capturePuts("image/png", 3);
+        BufferedImage avatar = stored.get("images/2025/10/11/photo_avatar.png");
+        BufferedImage feed = stored.get("images/2025/10/11/photo_feed.png");
+        BufferedImage detail = stored.get("images/2025/10/11/photo_detail.png");
+
+        assertThat(avatar.getWidth()).isEqualTo(160);
+        assertThat(avatar.getHeight()).isEqualTo(160);  // 중앙 크롭
+        assertThat(feed.getWidth()).isEqualTo(640);
+        assertThat(feed.getHeight()).isEqualTo(320);
+        assertThat(detail.getWidth()).isEqualTo(1280);
+        assertThat(detail.getHeight()).isEqualTo(640);
+        assertThat(detail.getColorModel().hasAlpha()).isTrue();
+        verify(objectStorage, times(1)).open(key);  // 원본 1회만 읽음
+        verify(imageRepository).markVariantsReady(1L);
+    }
+
+    @Test
+    @DisplayName("작은 JPEG 원본 - 확대하지 않고 JPEG로 저장")
+    void generate_SmallJpeg_NoUpscale() throws IOException {
+        // Given
+        String key = "images/small.JPG";
+        when(objectStorage.open(key)).thenReturn(new ByteArrayInputStream(
+                encode(100, 50, BufferedImage.TYPE_INT_RGB, "jpg")));
+        when(imageRepository.markVariantsReady(2L)).thenReturn(1);
+
+        // When
+        imageVariantService.generate(2L, key);
+
+        // Then
+        Map<String, BufferedImage> stored = capturePuts("image/jpeg", 3);
+        assertThat(stored).containsOnlyKeys("images/small_avatar.jpg", "images/small_feed.jpg", "images/small_detail.jpg");
+        assertThat(stored.values()).allSatisfy(image -> {
+            assertThat(image.getWidth()).isEqualTo(100);
+            assertThat(image.getHeight()).isEqualTo(50);
+        });
+    }
+
+    @Test
+    @DisplayName("디코딩 불가 - 저장/표시 없음 (원본 URL 사용)")
+    void generate_Undecodable() {
+        // Given
+        when(objectStorage.open(anyString())).thenReturn(new ByteArrayInputStream("not-an-image".getBytes()));
+
+        // When
+        imageVariantService.generate(3L, "images/broken.png");
+
+        // Then
+        verify(objectStorage, never()).put(anyString(), anyString(), anyLong(), any());
+        verify(imageRepository, never()).markVariantsReady(anyLong());
+    }
+
+    @Test
+    @DisplayName("일부 변형 저장 실패 - 저장된 변형 삭제, 표시 없음")
+    void generate_PartialStorageFailure() throws IOException {
+        // Given
+        String key = "images/partial.png";
+        when(objectStorage.open(key)).thenReturn(new ByteArrayInputStream(
+                encode(400, 400, BufferedImage.TYPE_INT_ARGB, "png")));
+        doNothing()
+                .doThrow(new IllegalStateException("storage down"))
+                .when(objectStorage).put(anyString(), anyString(), anyLong(), any());
+
+        // When
+        imageVariantService.generate(4L, key);
+
+        // Then
+        verify(objectStorage).deleteAll(List.of(ImageVariant.values()[0].derive(key)));
+        verify(imageRepository, never()).markVariantsReady(anyLong());
+    }
+
+    @Test
+    @DisplayName("작업 큐 포화 - 예외 없이 생략")
+    void generateAsync_Rejected() {
+        // Given
+        when(objectStorage.keyOf(anyString())).thenReturn("images/a.png");
+        doThrow(new RejectedExecutionException("queue full")).when(imageVariantExecutor).execute(any(Runnable.class));
+
+        // When & Then
+        assertThatCode(() -> imageVariantService.generateAsync(5L, "https://test-bucket/images/a.png"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("서브샘플링 - 가장 큰 변형에 필요한 해상도까지만 디코딩")
+    void subsamplingOf() {
+        assertThat(ImageVariantService.subsamplingOf(6000, 4000)).isEqualTo(4);  // detail 1280 기준
+        assertThat(ImageVariantService.subsamplingOf(1000, 800)).isEqualTo(1);
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,6 +36,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -66,6 +68,9 @@ class PostServiceTest {
     @Mock
     private com.ktb.community.repository.PostImageRepository postImageRepository;
 
+    @Mock
+    private ImageService imageService;
+
     @Mock
     private com.ktb.community.repository.PostLikeRepository postLikeRepository;
 
@@ -131,6 +136,148 @@ class PostServiceTest {
         verify(postRepository, never()).save(any(Post.class));
     }
 
+    @Test
+    @DisplayName("게시글 작성 성공 - 다중 이미지 (목록 순서 = display_order, 참조 획득 1회)")
+    void createPost_WithMultipleImages_Success() {
+        // Given
+        Long userId = 1L;
+        PostCreateRequest request = PostCreateRequest.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .imageIds(List.of(30L, 10L, 20L))
+                .build();
+
+        User user = User.builder()
+                .email("test@example.com")
+                .passwordHash("encoded")
+                .nickname("testnick")
+                .role(UserRole.USER)
+                .build();
+
+        Post savedPost = Post.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .status(PostStatus.ACTIVE)
+                .user(user)
+                .build();
+
+        List<Image> images = new ArrayList<>();
+        for (long imageId : new long[]{10L, 20L, 30L}) {
+            Image image = Image.builder()
+                    .imageUrl("https://example.com/" + imageId + ".jpg")
+                    .fileSize(1024)
+                    .originalFilename(imageId + ".jpg")
+                    .build();
+            ReflectionTestUtils.setField(image, "imageId", imageId);
+            images.add(image);
+        }
+
+        when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)).thenReturn(Optional.of(user));
+        when(postRepository.save(any(Post.class))).thenReturn(savedPost);
+        when(postStatsRepository.save(any(PostStats.class))).thenReturn(PostStats.builder().post(savedPost).build());
+        when(imageRepository.findAllById(List.of(30L, 10L, 20L))).thenReturn(images);  // 조회 순서 무관
+
+        // When
+        postService.createPost(request, userId);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostImage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postImageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(postImage -> postImage.getImage().getImageId(), PostImage::getDisplayOrder)
+                .containsExactly(
+                        tuple(30L, 1),
+                        tuple(10L, 2),
+                        tuple(20L, 3));
+        verify(imageService, times(1)).acquireReferences(List.of(30L, 10L, 20L));
+        verify(imageService, never()).acquireReference(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 작성 실패 - 같은 imageId 반복 (같은 내용 재업로드) 시 조회/참조 획득 없이 거부")
+    void createPost_WithDuplicateImageIds_ThrowsException() {
+        // Given - 같은 사진을 두 번 업로드 → 중복 제거로 둘 다 imageId 7
+        Long userId = 1L;
+        PostCreateRequest request = PostCreateRequest.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .imageIds(List.of(7L, 8L, 7L))
+                .build();
+
+        User user = User.builder()
+                .email("test@example.com")
+                .passwordHash("encoded")
+                .nickname("testnick")
+                .role(UserRole.USER)
+                .build();
+        Post savedPost = Post.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .status(PostStatus.ACTIVE)
+                .user(user)
+                .build();
+
+        when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)).thenReturn(Optional.of(user));
+        when(postRepository.save(any(Post.class))).thenReturn(savedPost);
+        when(postStatsRepository.save(any(PostStats.class))).thenReturn(PostStats.builder().post(savedPost).build());
+
+        // When & Then
+        assertThatThrownBy(() -> postService.createPost(request, userId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT)
+                .hasMessageContaining("[7]");
+
+        verify(imageRepository, never()).findAllById(anyList());
+        verify(imageService, never()).acquireReferences(anyCollection());
+        verify(postImageRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("게시글 작성 실패 - 존재하지 않는 이미지 포함 시 연결 없음")
+    void createPost_WithMissingImage_ThrowsException() {
+        // Given
+        Long userId = 1L;
+        PostCreateRequest request = PostCreateRequest.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .imageIds(List.of(10L, 99L))
+                .build();
+
+        User user = User.builder()
+                .email("test@example.com")
+                .passwordHash("encoded")
+                .nickname("testnick")
+                .role(UserRole.USER)
+                .build();
+        Post savedPost = Post.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .status(PostStatus.ACTIVE)
+                .user(user)
+                .build();
+        Image image = Image.builder()
+                .imageUrl("https://example.com/10.jpg")
+                .fileSize(1024)
+                .originalFilename("10.jpg")
+                .build();
+        ReflectionTestUtils.setField(image, "imageId", 10L);
+
+        when(userRepository.findByUserIdAndUserStatus(userId, UserStatus.ACTIVE)).thenReturn(Optional.of(user));
+        when(postRepository.save(any(Post.class))).thenReturn(savedPost);
+        when(postStatsRepository.save(any(PostStats.class))).thenReturn(PostStats.builder().post(savedPost).build());
+        when(imageRepository.findAllById(List.of(10L, 99L))).thenReturn(List.of(image));
+
+        // When & Then
+        assertThatThrownBy(() -> postService.createPost(request, userId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_NOT_FOUND)
+                .hasMessageContaining("99");
+
+        verify(imageService, never()).acquireReferences(anyCollection());
+        verify(postImageRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("게시글 목록 조회 성공 - Cursor (latest)")
     void getPosts_Cursor_Success() {
@@ -446,7 +593,7 @@ class PostServiceTest {
     void createPost_WithInactiveUser_ThrowsException() {
         // Given
         Long inactiveUserId = 999L;
-        PostCreateRequest request = new PostCreateRequest("Title", "Content", null);
+        PostCreateRequest request = new PostCreateRequest("Title", "Content", null, null);
 
         when(userRepository.findByUserIdAndUserStatus(inactiveUserId, UserStatus.ACTIVE))
                 .thenReturn(Optional.empty());
@@ -459,8 +606,8 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 수정 - 이미지 제거 시 TTL 복원")
-    void updatePost_RemoveImage_ShouldRestoreTTL() {
+    @DisplayName("게시글 수정 - 이미지 제거 시 참조 해제")
+    void updatePost_RemoveImage_ShouldReleaseReference() {
         // Given
         Long postId = 1L;
         Long userId = 1L;
@@ -490,12 +637,12 @@ class PostServiceTest {
         ReflectionTestUtils.setField(stats, "postId", postId);
         post.updateStats(stats);
 
-        // Image 생성 (expires_at = NULL, 영구 보존 상태)
+        // Image 생성 (게시글에 연결된 상태)
         Image image = Image.builder()
                 .imageUrl("https://s3.amazonaws.com/test.jpg")
                 .fileSize(1024)
                 .originalFilename("test.jpg")
-                .expiresAt(null)  // 영구 보존
+                .expiresAt(null)
                 .build();
         ReflectionTestUtils.setField(image, "imageId", 10L);
 
@@ -523,16 +670,16 @@ class PostServiceTest {
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(image.getExpiresAt()).isNotNull();  // TTL 복원 확인
-        assertThat(image.getExpiresAt()).isAfter(LocalDateTime.now());  // 미래 시간
 
+        verify(imageRepository).releaseReferences(eq(List.of(10L)), any(LocalDateTime.class));
+        verify(imageService, never()).acquireReference(anyLong());
         verify(postImageRepository).findByPostIdWithImage(postId);
         verify(postImageRepository).deleteByPostId(postId);
     }
 
     @Test
-    @DisplayName("게시글 수정 - 이미지 교체 시 기존 이미지 TTL 복원")
-    void updatePost_ReplaceImage_ShouldRestoreOldImageTTL() {
+    @DisplayName("게시글 수정 - 이미지 교체 시 기존 이미지 참조 해제, 새 이미지 참조 획득")
+    void updatePost_ReplaceImage_ShouldMoveReference() {
         // Given
         Long postId = 1L;
         Long userId = 1L;
@@ -600,8 +747,7 @@ class PostServiceTest {
         when(postImageRepository.findByPostIdWithImage(postId))
                 .thenReturn(List.of(oldPostImage));
         when(postImageRepository.deleteByPostId(postId)).thenReturn(1);
-        when(imageRepository.findById(newImageId)).thenReturn(Optional.of(newImage));
-        when(postImageRepository.save(any(PostImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(imageRepository.findAllById(List.of(newImageId))).thenReturn(List.of(newImage));
 
         // When
         PostResponse response = postService.updatePost(postId, request, userId);
@@ -609,17 +755,109 @@ class PostServiceTest {
         // Then
         assertThat(response).isNotNull();
 
-        // 기존 이미지: TTL 복원 확인
-        assertThat(oldImage.getExpiresAt()).isNotNull();
-        assertThat(oldImage.getExpiresAt()).isAfter(LocalDateTime.now());
-
-        // 새 이미지: 영구 보존 (expires_at = NULL)
-        assertThat(newImage.getExpiresAt()).isNull();
+        // 기존 이미지 참조 해제, 새 이미지 참조 획득
+        verify(imageRepository).releaseReferences(eq(List.of(oldImageId)), any(LocalDateTime.class));
+        verify(imageService).acquireReferences(List.of(newImageId));
 
         verify(postImageRepository).findByPostIdWithImage(postId);
         verify(postImageRepository).deleteByPostId(postId);
-        verify(imageRepository).findById(newImageId);
-        verify(postImageRepository).save(any(PostImage.class));
+        verify(imageRepository).findAllById(List.of(newImageId));
+        verify(postImageRepository).saveAll(anyList());
+    }
+
+    private Post postOwnedBy(Long postId, Long userId) {
+        User user = User.builder()
+                .email("test@example.com")
+                .passwordHash("encoded")
+                .nickname("testuser")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "userId", userId);
+        Post post = Post.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .status(PostStatus.ACTIVE)
+                .user(user)
+                .build();
+        ReflectionTestUtils.setField(post, "postId", postId);
+        PostStats stats = PostStats.builder().post(post).build();
+        ReflectionTestUtils.setField(stats, "postId", postId);
+        post.updateStats(stats);
+        return post;
+    }
+
+    private Image image(Long imageId) {
+        Image image = Image.builder()
+                .imageUrl("https://s3.amazonaws.com/" + imageId + ".jpg")
+                .fileSize(1024)
+                .originalFilename(imageId + ".jpg")
+                .build();
+        ReflectionTestUtils.setField(image, "imageId", imageId);
+        return image;
+    }
+
+    private PostImage postImage(Post post, Long imageId, int displayOrder) {
+        return PostImage.builder().post(post).image(image(imageId)).displayOrder(displayOrder).build();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 다중 이미지 전체 교체 (목록 순서 = display_order)")
+    void updatePost_ReplaceMultipleImages() {
+        // Given
+        Long postId = 1L;
+        Long userId = 1L;
+        Post post = postOwnedBy(postId, userId);
+        List<PostImage> existing = List.of(postImage(post, 10L, 1), postImage(post, 11L, 2));
+        List<Image> newImages = List.of(image(11L), image(12L));
+
+        PostUpdateRequest request = PostUpdateRequest.builder()
+                .imageIds(List.of(12L, 11L))  // 커버 변경 + 기존 이미지 유지
+                .build();
+
+        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE)).thenReturn(Optional.of(post));
+        when(postImageRepository.findByPostIdWithImage(postId)).thenReturn(existing);
+        when(postImageRepository.deleteByPostId(postId)).thenReturn(2);
+        when(imageRepository.findAllById(List.of(12L, 11L))).thenReturn(newImages);
+
+        // When
+        postService.updatePost(postId, request, userId);
+
+        // Then
+        verify(imageRepository).releaseReferences(eq(List.of(10L, 11L)), any(LocalDateTime.class));
+        verify(imageService).acquireReferences(List.of(12L, 11L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostImage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postImageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(postImage -> postImage.getImage().getImageId(), PostImage::getDisplayOrder)
+                .containsExactly(tuple(12L, 1), tuple(11L, 2));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 - 다중 이미지 게시글을 imageId 단독으로 교체 시 거부 (나머지 이미지 유실 방지)")
+    void updatePost_SingleImageIdOnMultiImagePost_ThrowsException() {
+        // Given
+        Long postId = 1L;
+        Long userId = 1L;
+        Post post = postOwnedBy(postId, userId);
+        List<PostImage> existing = List.of(postImage(post, 10L, 1), postImage(post, 11L, 2));
+
+        PostUpdateRequest request = PostUpdateRequest.builder()
+                .imageId(12L)
+                .build();
+
+        when(postRepository.findByIdWithUserAndStats(postId, PostStatus.ACTIVE)).thenReturn(Optional.of(post));
+        when(postImageRepository.findByPostIdWithImage(postId)).thenReturn(existing);
+
+        // When & Then
+        assertThatThrownBy(() -> postService.updatePost(postId, request, userId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+
+        verify(imageRepository, never()).releaseReferences(anyCollection(), any(LocalDateTime.class));
+        verify(postImageRepository, never()).deleteByPostId(anyLong());
+        verify(imageService, never()).acquireReferences(anyCollection());
     }
 
     @Test
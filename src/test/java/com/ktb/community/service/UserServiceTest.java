@@ -13,6 +13,7 @@ import com.ktb.community.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,12 +23,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.ktb.community.enums.UserStatus;
@@ -51,6 +55,15 @@ class UserServiceTest {
     @Mock
     private ImageService imageService;
 
+    @Mock
+    private com.ktb.community.repository.UserTokenRepository userTokenRepository;
+
+    @Mock
+    private com.ktb.community.security.TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private UserCacheEvictor userCacheEvictor;
+
     @InjectMocks
     private UserService userService;
 
@@ -183,6 +196,9 @@ class UserServiceTest {
         // Then
         verify(userRepository).findByUserIdAndUserStatus(userId, UserStatus.ACTIVE);
         verify(passwordEncoder).encode("NewPass123!");
+        verify(userTokenRepository).deleteByUserUserId(userId);
+        verify(tokenRevocationList).revokeAllForUserAfterCommit(userId);
+        verify(userCacheEvictor).evictAfterCommit(userId);
     }
 
     @Test
@@ -206,6 +222,8 @@ class UserServiceTest {
 
         // Then
         verify(userRepository).findByUserIdAndUserStatus(userId, UserStatus.ACTIVE);
+        verify(tokenRevocationList).revokeAllForUserAfterCommit(userId);
+        verify(userCacheEvictor).evictAfterCommit(userId);
         // Note: Entity 상태 변경은 실제 트랜잭션에서 확인 (단위 테스트에서는 메서드 호출만 검증)
     }
 
@@ -227,8 +245,8 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("프로필 수정 - 프로필 이미지 교체 시 기존 이미지 TTL 복원")
-    void updateProfile_ReplaceProfileImage_ShouldRestoreOldImageTTL() {
+    @DisplayName("프로필 수정 - 프로필 이미지 교체 시 기존 이미지 참조 해제")
+    void updateProfile_ReplaceProfileImage_ShouldReleaseOldImage() {
         // Given
         Long userId = 1L;
         Long authenticatedUserId = 1L;
@@ -282,19 +300,17 @@ class UserServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getNickname()).isEqualTo("newNickname");
 
-        // 기존 이미지: TTL 복원 확인
-        assertThat(oldImage.getExpiresAt()).isNotNull();
-        assertThat(oldImage.getExpiresAt()).isAfter(LocalDateTime.now());
-
-        // 새 이미지: 영구 보존 (expires_at = NULL)
-        assertThat(newImage.getExpiresAt()).isNull();
+        // 기존 이미지 참조 해제, 새 이미지 참조 획득
+        verify(imageRepository).releaseReferences(eq(List.of(oldImageId)), any(LocalDateTime.class));
+        verify(imageService).acquireReference(newImageId);
 
         verify(imageRepository).findById(newImageId);
+        verify(userCacheEvictor).evictAfterCommit(userId, oldImageId, newImageId);
     }
 
     @Test
     @DisplayName("프로필 수정 - 기존 프로필 이미지 없이 새 이미지 추가")
-    void updateProfile_AddProfileImageWithoutOldImage_ShouldNotRestoreTTL() {
+    void updateProfile_AddProfileImageWithoutOldImage_ShouldNotRelease() {
         // Given
         Long userId = 1L;
         Long authenticatedUserId = 1L;
@@ -335,8 +351,9 @@ class UserServiceTest {
         // Then
         assertThat(response).isNotNull();
 
-        // 새 이미지: 영구 보존 (expires_at = NULL)
-        assertThat(newImage.getExpiresAt()).isNull();
+        // 새 이미지 참조 획득, 해제할 기존 이미지 없음
+        verify(imageService).acquireReference(newImageId);
+        verify(imageRepository, never()).releaseReferences(anyCollection(), any());
 
         verify(imageRepository).findById(newImageId);
     }
@@ -383,10 +400,8 @@ class UserServiceTest {
         // Then
         assertThat(response).isNotNull();
 
-        // 기존 이미지: TTL 복원 확인 (now + 1h)
-        assertThat(oldImage.getExpiresAt()).isNotNull();
-        assertThat(oldImage.getExpiresAt()).isAfter(LocalDateTime.now());
-        assertThat(oldImage.getExpiresAt()).isBefore(LocalDateTime.now().plusHours(2));
+        // 기존 이미지 참조 해제
+        verify(imageRepository).releaseReferences(eq(List.of(oldImageId)), any(LocalDateTime.class));
 
         // User의 profileImage는 null로 변경되어야 함
         assertThat(user.getProfileImage()).isNull();
@@ -450,8 +465,8 @@ class UserServiceTest {
         assertThat(response).isNotNull();
 
         // imageId가 우선 적용 → 이미지 교체 동작 (제거 X)
-        assertThat(oldImage.getExpiresAt()).isNotNull(); // TTL 복원
-        assertThat(newImage.getExpiresAt()).isNull(); // 영구 보존
+        verify(imageRepository).releaseReferences(eq(List.of(oldImageId)), any(LocalDateTime.class));
+        verify(imageService).acquireReference(newImageId);
         assertThat(user.getProfileImage()).isEqualTo(newImage);
 
         verify(imageRepository).findById(newImageId);
@@ -491,14 +506,15 @@ class UserServiceTest {
 
         // 기존 이미지 없으므로 아무 동작 없음 (에러 발생 X)
         assertThat(user.getProfileImage()).isNull();
+        verify(imageRepository, never()).releaseReferences(anyCollection(), any());
 
         verify(userRepository).findByUserIdAndUserStatus(userId, UserStatus.ACTIVE);
         verify(imageService, never()).uploadImage(any());
     }
 
     @Test
-    @DisplayName("프로필 수정 - 이미지 제거 시 TTL 1시간 후 만료 확인")
-    void updateProfile_TTLRestore_WhenRemovingImage() {
+    @DisplayName("프로필 수정 - 이미지 제거 시 해제 시각 기록 확인")
+    void updateProfile_ReleasedAt_WhenRemovingImage() {
         // Given
         Long userId = 1L;
         Long authenticatedUserId = 1L;
@@ -540,10 +556,10 @@ class UserServiceTest {
         LocalDateTime afterRemove = LocalDateTime.now();
 
         // Then
-        // TTL이 현재 시각 + 1시간으로 설정되었는지 확인
-        assertThat(oldImage.getExpiresAt()).isNotNull();
-        assertThat(oldImage.getExpiresAt()).isAfter(beforeRemove.plusMinutes(59)); // 최소 59분 후
-        assertThat(oldImage.getExpiresAt()).isBefore(afterRemove.plusHours(2)); // 최대 2시간 전
+        // 해제 시각 = 요청 처리 시각 (정리 배치는 이 시각 + 유예 시간 이후 삭제)
+        ArgumentCaptor<LocalDateTime> releasedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(imageRepository).releaseReferences(eq(List.of(oldImageId)), releasedAt.capture());
+        assertThat(releasedAt.getValue()).isBetween(beforeRemove, afterRemove);
 
         verify(userRepository).findByUserIdAndUserStatus(userId, UserStatus.ACTIVE);
     }
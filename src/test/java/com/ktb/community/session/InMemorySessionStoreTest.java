@@ -0,0 +1,152 @@
+package com.ktb.community.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemorySessionStore 단위 테스트
+ */
+@DisplayName("InMemorySessionStore 테스트")
+class InMemorySessionStoreTest {
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private static Session session(String sessionId, long expiresAtMillis) {
+        return Session.builder()
+                .sessionId(sessionId)
+                .userId(1L)
+                .email("test@example.com")
+                .role("USER")
+                .createdAtMillis(System.currentTimeMillis())
+                .expiresAtMillis(expiresAtMillis)
+                .build();
+    }
+
+    @Test
+    @DisplayName("스윕 - 조회되지 않은 만료 세션도 정리")
+    void sweep_RemovesExpiredSessionsWithoutLookup() {
+        // Given
+        InMemorySessionStore store = new InMemorySessionStore(100, TICK_MILLIS);
+        long now = System.currentTimeMillis();
+        store.save(session("expiring", now + 2_000));
+        store.save(session("alive", now + 3_600_000));
+
+        // When - 만료 시각 이후 스윕
+        int expired = store.sweep(now + 5_000);
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findById("alive")).isPresent();
+    }
+
+    @Test
+    @DisplayName("스윕 - 같은 슬롯의 다음 회전 세션은 유지")
+    void sweep_KeepsSessionsOfLaterRotation() {
+        // Given - 512 tick 차이 → 같은 슬롯
+        InMemorySessionStore store = new InMemorySessionStore(100, TICK_MILLIS);
+        long now = System.currentTimeMillis();
+        store.save(session("first", now + 2_000));
+        store.save(session("second", now + 2_000 + 512 * TICK_MILLIS));
+
+        // When
+        store.sweep(now + 5_000);
+
+        // Then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findById("second")).isPresent();
+    }
+
+    @Test
+    @DisplayName("용량 초과 - 가장 오래 사용하지 않은 세션 제거")
+    void save_OverCapacity_EvictsLeastRecentlyUsed() {
+        // Given
+        InMemorySessionStore store = new InMemorySessionStore(2, TICK_MILLIS);
+        long expiresAt = System.currentTimeMillis() + 3_600_000;
+        store.save(session("a", expiresAt));
+        store.save(session("b", expiresAt));
+        store.findById("a");  // a 최근 사용
+
+        // When
+        store.save(session("c", expiresAt));
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.findById("b")).isEmpty();
+        assertThat(store.findById("a")).isPresent();
+        assertThat(store.findById("c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("조회 - 만료 세션은 빈 Optional 반환 후 삭제")
+    void findById_Expired_ReturnsEmpty() {
+        // Given
+        InMemorySessionStore store = new InMemorySessionStore(100, TICK_MILLIS);
+        store.save(session("expired", System.currentTimeMillis() - 1));
+
+        // When & Then
+        assertThat(store.findById("expired")).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("연장 반영 - 연장된 세션은 기존 슬롯 스윕에서 제거되지 않음")
+    void renewAll_ReschedulesSession() {
+        // Given
+        InMemorySessionStore store = new InMemorySessionStore(100, TICK_MILLIS);
+        long now = System.currentTimeMillis();
+        store.save(session("renewed", now + 2_000));
+
+        // When
+        store.renewAll(java.util.Map.of("renewed", now + 3_600_000));
+        int expired = store.sweep(now + 5_000);
+
+        // Then
+        assertThat(expired).isZero();
+        assertThat(store.findById("renewed")).isPresent();
+    }
+
+    @Test
+    @DisplayName("동시 조회/저장 - 잠금 없는 조회 중에도 용량 유지")
+    void findById_ConcurrentWithEviction() throws Exception {
+        // Given
+        InMemorySessionStore store = new InMemorySessionStore(100, TICK_MILLIS);
+        long expiresAt = System.currentTimeMillis() + 3_600_000;
+        for (int i = 0; i < 100; i++) {
+            store.save(session("s" + i, expiresAt));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When - 조회 3개 스레드 + 저장 1개 스레드 (매 저장마다 제거 발생)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    store.findById("s" + (i % 200));
+                }
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            for (int i = 100; i < 1_000; i++) {
+                store.save(session("s" + i, expiresAt));
+            }
+        }));
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(store.size()).isEqualTo(100);
+        assertThat(store.findById("s999")).isPresent();  // 최근 저장 세션은 hand에서 가장 멂
+    }
+}
@@ -0,0 +1,218 @@
+package com.ktb.community.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MappedFileSessionStore 단위 테스트
+ */
+@DisplayName("MappedFileSessionStore 테스트")
+class MappedFileSessionStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Session session(String sessionId, long userId, long expiresAtMillis) {
+        return Session.builder()
+                .sessionId(sessionId)
+                .userId(userId)
+                .email("user" + userId + "@example.com")
+                .role("USER")
+                .createdAtMillis(System.currentTimeMillis())
+                .expiresAtMillis(expiresAtMillis)
+                .build();
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + 3_600_000;
+    }
+
+    @Test
+    @DisplayName("저장/조회/삭제 - 충돌이 많은 상황에서도 나머지 세션 조회 가능")
+    void saveFindDelete_WithCollisions() throws Exception {
+        // Given - 용량 64 (슬롯 128)에 60개 저장
+        MappedFileSessionStore store = new MappedFileSessionStore(tempDir.resolve("sessions.dat").toString(), 64);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            store.save(session(id, i, inOneHour()));
+        }
+
+        // When - 절반 삭제 (Backward-Shift)
+        for (int i = 0; i < 60; i += 2) {
+            store.deleteById(ids.get(i));
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(30);
+        for (int i = 0; i < 60; i++) {
+            if (i % 2 == 0) {
+                assertThat(store.findById(ids.get(i))).isEmpty();
+            } else {
+                Session found = store.findById(ids.get(i)).orElseThrow();
+                assertThat(found.getUserId()).isEqualTo(i);
+                assertThat(found.getEmail()).isEqualTo("user" + i + "@example.com");
+                assertThat(found.getRole()).isEqualTo("USER");
+            }
+        }
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("재시작 복구 - 유효 세션 유지, 만료 세션 제거")
+    void recover_AfterRestart() throws Exception {
+        // Given
+        String path = tempDir.resolve("sessions.dat").toString();
+        MappedFileSessionStore store = new MappedFileSessionStore(path, 16);
+        String alive = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+        store.save(session(alive, 1L, inOneHour()));
+        store.save(session(expired, 2L, System.currentTimeMillis() - 1));
+        store.destroy();
+
+        // When - 같은 파일로 재시작
+        MappedFileSessionStore restarted = new MappedFileSessionStore(path, 16);
+
+        // Then
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.findById(alive)).get()
+                .extracting(Session::getUserId).isEqualTo(1L);
+        assertThat(restarted.findById(expired)).isEmpty();
+        restarted.destroy();
+    }
+
+    @Test
+    @DisplayName("재시작 복구 - 기록 중 손상된 레코드(CRC 불일치) 제거")
+    void recover_DropsCorruptRecord() throws Exception {
+        // Given
+        Path file = tempDir.resolve("sessions.dat");
+        MappedFileSessionStore store = new MappedFileSessionStore(file.toString(), 16);
+        store.save(session(UUID.randomUUID().toString(), 1L, inOneHour()));
+        store.destroy();
+
+        // When - 모든 레코드의 userId 영역 손상 후 재시작
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            for (long pos = 64; pos < raf.length(); pos += MappedFileSessionStore.RECORD_SIZE) {
+                raf.seek(pos);
+                if (raf.readByte() == 1) {
+                    raf.seek(pos + 24);
+                    raf.writeLong(999L);
+                }
+            }
+        }
+        MappedFileSessionStore restarted = new MappedFileSessionStore(file.toString(), 16);
+
+        // Then
+        assertThat(restarted.size()).isZero();
+        restarted.destroy();
+    }
+
+    @Test
+    @DisplayName("용량 초과 - 만료 정리 후에도 가득 차면 기존 세션 교체")
+    void save_OverCapacity_KeepsSizeBounded() throws Exception {
+        // Given
+        MappedFileSessionStore store = new MappedFileSessionStore(tempDir.resolve("sessions.dat").toString(), 8);
+
+        // When
+        String last = null;
+        for (int i = 0; i < 20; i++) {
+            last = UUID.randomUUID().toString();
+            store.save(session(last, i, inOneHour()));
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(8);
+        assertThat(store.findById(last)).isPresent();
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("용량 초과 - 만료 세션이 탐색 경로 밖이어도 유효 세션 교체로 용량 유지")
+    void save_OverCapacity_NeverExceedsCapacity() throws Exception {
+        // Given - 만료 세션 4개 + 유효 세션 4개로 가득 참
+        MappedFileSessionStore store = new MappedFileSessionStore(tempDir.resolve("sessions.dat").toString(), 8);
+        for (int i = 0; i < 4; i++) {
+            store.save(session(UUID.randomUUID().toString(), i, System.currentTimeMillis() - 1));
+            store.save(session(UUID.randomUUID().toString(), 100 + i, inOneHour()));
+        }
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            store.save(session(UUID.randomUUID().toString(), 200 + i, inOneHour()));
+
+            // Then - 저장마다 정확히 1개 교체
+            assertThat(store.size()).isEqualTo(8);
+        }
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("용량 0 - 교체 대상이 없으면 저장 거부")
+    void save_NoVictim_Rejects() throws Exception {
+        // Given
+        MappedFileSessionStore store = new MappedFileSessionStore(tempDir.resolve("sessions.dat").toString(), 0);
+
+        // When & Then
+        assertThatThrownBy(() -> store.save(session(UUID.randomUUID().toString(), 1, inOneHour())))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(store.size()).isZero();
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("용량 축소 - 큰 기존 파일은 잘라낸 뒤 초기화, 이후 재시작부터 복구")
+    void recover_AfterCapacityShrink() throws Exception {
+        // Given - 용량 64로 생성된 파일
+        Path file = tempDir.resolve("sessions.dat");
+        MappedFileSessionStore large = new MappedFileSessionStore(file.toString(), 64);
+        large.save(session(UUID.randomUUID().toString(), 1L, inOneHour()));
+        large.destroy();
+        long largeSize = file.toFile().length();
+
+        // When - 용량 16으로 재시작 후 저장, 다시 재시작
+        MappedFileSessionStore small = new MappedFileSessionStore(file.toString(), 16);
+        String id = UUID.randomUUID().toString();
+        small.save(session(id, 2L, inOneHour()));
+        small.destroy();
+        MappedFileSessionStore restarted = new MappedFileSessionStore(file.toString(), 16);
+
+        // Then
+        assertThat(file.toFile().length()).isLessThan(largeSize);
+        assertThat(restarted.findById(id)).isPresent();
+        assertThat(restarted.size()).isEqualTo(1);
+        restarted.destroy();
+    }
+
+    @Test
+    @DisplayName("연장 반영 - 재시작 후에도 연장된 만료 시각 유지")
+    void renewAll_PersistsAcrossRestart() throws Exception {
+        // Given
+        String path = tempDir.resolve("sessions.dat").toString();
+        MappedFileSessionStore store = new MappedFileSessionStore(path, 16);
+        String id = UUID.randomUUID().toString();
+        long renewed = inOneHour() + 600_000;
+        store.save(session(id, 1L, inOneHour()));
+
+        // When
+        store.renewAll(Map.of(id, renewed));
+        store.destroy();
+        MappedFileSessionStore restarted = new MappedFileSessionStore(path, 16);
+
+        // Then
+        assertThat(restarted.findById(id)).get()
+                .extracting(Session::getExpiresAtMillis).isEqualTo(renewed);
+        restarted.destroy();
+    }
+}
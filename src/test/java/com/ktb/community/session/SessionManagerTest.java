@@ -0,0 +1,100 @@
+package com.ktb.community.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionManager 단위 테스트 (슬라이딩 만료)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionManager 테스트")
+class SessionManagerTest {
+
+    private static final long TTL = 3_600_000L;
+    private static final long INTERVAL = 60_000L;
+
+    @Mock
+    private SessionStore sessionStore;
+
+    private SessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager(sessionStore, TTL, INTERVAL);
+    }
+
+    private static Session session(String sessionId, long createdAt) {
+        return Session.builder()
+                .sessionId(sessionId)
+                .userId(1L)
+                .createdAtMillis(createdAt)
+                .expiresAtMillis(createdAt + TTL)
+                .build();
+    }
+
+    @Test
+    @DisplayName("touch 주기 이내 - 만료 시각 유지, 저장소 반영 없음")
+    void touch_WithinInterval_NoRenewal() {
+        // Given
+        long now = System.currentTimeMillis();
+        Session session = session("s1", now);
+
+        // When
+        sessionManager.touch(session, now + INTERVAL - 1);
+        sessionManager.flushTouches();
+
+        // Then
+        assertThat(session.getExpiresAtMillis()).isEqualTo(now + TTL);
+        verify(sessionStore, never()).renewAll(anyMap());
+    }
+
+    @Test
+    @DisplayName("touch 주기 경과 - 만료 시각 연장 후 배치로 1회 반영")
+    void touch_AfterInterval_RenewsAndFlushesOnce() {
+        // Given
+        long now = System.currentTimeMillis();
+        Session session = session("s1", now);
+
+        // When - 주기 경과 후 여러 번 touch (첫 touch만 연장)
+        sessionManager.touch(session, now + INTERVAL);
+        sessionManager.touch(session, now + INTERVAL + 10);
+        sessionManager.touch(session, now + INTERVAL + 20);
+        sessionManager.flushTouches();
+        sessionManager.flushTouches();
+
+        // Then
+        assertThat(session.getExpiresAtMillis()).isEqualTo(now + INTERVAL + TTL);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(sessionStore, times(1)).renewAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(Map.entry("s1", now + INTERVAL + TTL));
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 대기 중인 연장 내역 제거")
+    void deleteSession_DropsPendingTouch() {
+        // Given
+        long now = System.currentTimeMillis();
+        Session session = session("s1", now);
+        sessionManager.touch(session, now + INTERVAL);
+
+        // When
+        sessionManager.deleteSession("s1");
+        sessionManager.flushTouches();
+
+        // Then
+        verify(sessionStore).deleteById("s1");
+        verify(sessionStore, never()).renewAll(anyMap());
+    }
+}
@@ -0,0 +1,173 @@
+package com.ktb.community.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LocalObjectStorage 테스트
+ * - 저장/삭제/URL 변환, 서명 URL 검증, 경로 탈출 차단
+ */
+@DisplayName("로컬 객체 저장소 테스트")
+class LocalObjectStorageTest {
+
+    private static final String BASE_URL = "http://localhost:8080/storage";
+
+    @TempDir
+    Path root;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(root.toString(), BASE_URL, "test-secret", executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파일 Resource 원본 저장 (FileChannel 간 전송)")
+    void put_FromFile() throws IOException {
+        // Given
+        byte[] content = new byte[256 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path source = Files.write(root.resolve("source.bin"), content);
+
+        // When
+        storage.put("images/2025/01/01/a.png", "image/png", content.length, new FileSystemResource(source));
+
+        // Then
+        assertThat(root.resolve("images/2025/01/01/a.png")).hasBinaryContent(content);
+        try (var files = Files.list(root.resolve("images/2025/01/01"))) {
+            assertThat(files).hasSize(1);  // 임시 파일 남지 않음
+        }
+    }
+
+    @Test
+    @DisplayName("스트림 원본 비동기 저장")
+    void putAsync_FromStream() {
+        // Given
+        byte[] content = "hello".getBytes();
+
+        // When
+        storage.putAsync("images/b.gif", "image/gif", content.length, new ByteArrayResource(content)).join();
+
+        // Then
+        assertThat(root.resolve("images/b.gif")).hasBinaryContent(content);
+    }
+
+    @Test
+    @DisplayName("저장된 객체 읽기, 없는 키는 실패")
+    void open() throws IOException {
+        // Given
+        byte[] content = "stored".getBytes();
+        storage.put("images/c.png", "image/png", content.length, new ByteArrayResource(content));
+
+        // When & Then
+        try (InputStream inputStream = storage.open("images/c.png")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        assertThatThrownBy(() -> storage.open("images/missing.png"))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("본문 길이 불일치 시 실패, 대상 파일 미생성")
+    void put_LengthMismatch() {
+        // Given
+        ByteArrayResource source = new ByteArrayResource(new byte[10]);
+
+        // When & Then
+        assertThatThrownBy(() -> storage.put("images/c.png", "image/png", 20, source))
+                .isInstanceOf(java.io.UncheckedIOException.class);
+        assertThat(root.resolve("images/c.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("상위 경로 탈출 키 거부")
+    void put_RejectsTraversal() {
+        assertThatThrownBy(() -> storage.put("../escape.png", "image/png", 1, new ByteArrayResource(new byte[1])))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("images/../../escape.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 없는 키도 성공 처리")
+    void deleteAll() {
+        // Given
+        storage.put("images/d1.png", "image/png", 1, new ByteArrayResource(new byte[1]));
+        storage.put("images/d2.png", "image/png", 1, new ByteArrayResource(new byte[1]));
+
+        // When
+        Set<String> deleted = storage.deleteAll(List.of("images/d1.png", "images/d2.png", "images/missing.png"));
+
+        // Then
+        assertThat(deleted).containsExactlyInAnyOrder("images/d1.png", "images/d2.png", "images/missing.png");
+        assertThat(root.resolve("images/d1.png")).doesNotExist();
+        assertThat(root.resolve("images/d2.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("공개 URL ↔ 키 변환")
+    void urlOfAndKeyOf() {
+        String url = storage.urlOf("images/e.png");
+
+        assertThat(url).isEqualTo(BASE_URL + "/images/e.png");
+        assertThat(storage.keyOf(url)).isEqualTo("images/e.png");
+        assertThat(storage.keyOf("https://bucket.s3.ap-northeast-2.amazonaws.com/images/e.png")).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 URL - 발급 값으로 검증 성공, 변조/만료 시 실패")
+    void presignPut_VerifySignature() {
+        // Given
+        String url = storage.presignPut("images/f.png", "image/png", Duration.ofMinutes(15));
+        String query = URI.create(url).getRawQuery();
+        long expires = Long.parseLong(param(query, "expires"));
+        String signature = param(query, "signature");
+
+        // Then
+        assertThat(url).startsWith(BASE_URL + "/images/f.png?");
+        assertThat(storage.verifySignature("images/f.png", "image/png", expires, signature)).isTrue();
+        assertThat(storage.verifySignature("images/other.png", "image/png", expires, signature)).isFalse();
+        assertThat(storage.verifySignature("images/f.png", "image/gif", expires, signature)).isFalse();
+        assertThat(storage.verifySignature("images/f.png", "image/png", expires + 1, signature)).isFalse();
+        assertThat(storage.verifySignature("images/f.png", "image/png",
+                System.currentTimeMillis() / 1000 - 1, signature)).isFalse();
+    }
+
+    private static String param(String query, String name) {
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+}
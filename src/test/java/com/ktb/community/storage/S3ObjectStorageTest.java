@@ -0,0 +1,175 @@
+package com.ktb.community.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3ObjectStorage 테스트 (S3 클라이언트 Mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3 객체 저장소 테스트")
+class S3ObjectStorageTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private S3ObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new S3ObjectStorage(s3Client, s3AsyncClient, s3Presigner, executor,
+                "test-bucket", "ap-northeast-2", 20000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동기 업로드 - Content-Length 지정, 재시도 가능한 스트림 본문")
+    void put_StreamsBody() throws Exception {
+        // Given
+        byte[] content = new byte[64 * 1024];
+        content[0] = 1;
+
+        // When
+        storage.put("images/a.png", "image/png", content.length, new ByteArrayResource(content));
+
+        // Then
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(requestCaptor.capture(), bodyCaptor.capture());
+        assertThat(requestCaptor.getValue().key()).isEqualTo("images/a.png");
+        assertThat(bodyCaptor.getValue().optionalContentLength()).hasValue((long) content.length);
+
+        // 재시도 시 새 스트림으로 처음부터 다시 읽음
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try (InputStream uploaded = bodyCaptor.getValue().contentStreamProvider().newStream()) {
+                assertThat(uploaded.readAllBytes()).isEqualTo(content);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 업로드 - SDK 호출 시간 초과는 TimeoutException으로 변환")
+    void putAsync_Timeout() {
+        // Given
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(ApiCallTimeoutException.create(20000)));
+
+        // When
+        CompletableFuture<Void> future = storage.putAsync("images/b.png", "image/png", 1,
+                new ByteArrayResource(new byte[1]));
+
+        // Then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 실패 키 제외")
+    void deleteAll_ExcludesErrors() {
+        // Given
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("images/2.png").code("AccessDenied").build())
+                        .build());
+
+        // When
+        Set<String> deleted = storage.deleteAll(List.of("images/1.png", "images/2.png", "images/3.png"));
+
+        // Then
+        assertThat(deleted).containsExactlyInAnyOrder("images/1.png", "images/3.png");
+    }
+
+    @Test
+    @DisplayName("서명 URL 일괄 발급 - 공통 설정(버킷/ACL) 재사용, 키별 Content-Type, 입력 순서 유지")
+    void presignPutAll_ReusesTemplate() throws Exception {
+        // Given
+        ArgumentCaptor<PutObjectPresignRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+        when(s3Presigner.presignPutObject(requestCaptor.capture())).thenAnswer(invocation -> {
+            PutObjectPresignRequest request = invocation.getArgument(0);
+            PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+            when(presigned.url()).thenReturn(
+                    new URL("https://test-bucket.s3.amazonaws.com/" + request.putObjectRequest().key() + "?X-Amz-Signature=s"));
+            return presigned;
+        });
+        Map<String, String> contentTypesByKey = new LinkedHashMap<>();
+        contentTypesByKey.put("images/b.png", "image/png");
+        contentTypesByKey.put("images/a.jpg", "image/jpeg");
+
+        // When
+        Map<String, String> uploadUrls = storage.presignPutAll(contentTypesByKey, Duration.ofMinutes(15));
+
+        // Then
+        assertThat(uploadUrls.keySet()).containsExactly("images/b.png", "images/a.jpg");
+        assertThat(uploadUrls.get("images/a.jpg")).contains("images/a.jpg").contains("X-Amz-Signature");
+        assertThat(requestCaptor.getAllValues()).hasSize(2).allSatisfy(request -> {
+            assertThat(request.signatureDuration()).isEqualTo(Duration.ofMinutes(15));
+            assertThat(request.putObjectRequest().bucket()).isEqualTo("test-bucket");
+            assertThat(request.putObjectRequest().acl()).isEqualTo(ObjectCannedACL.PUBLIC_READ);
+        });
+        assertThat(requestCaptor.getAllValues())
+                .extracting(request -> request.putObjectRequest().contentType())
+                .containsExactly("image/png", "image/jpeg");
+    }
+
+    @Test
+    @DisplayName("공개 URL ↔ 키 변환")
+    void urlOfAndKeyOf() {
+        String url = storage.urlOf("images/c.png");
+
+        assertThat(url).isEqualTo("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/c.png");
+        assertThat(storage.keyOf(url)).isEqualTo("images/c.png");
+        assertThat(storage.keyOf("https://other.s3.ap-northeast-2.amazonaws.com/images/c.png")).isNull();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ktb.community.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SpaceSavingSketch 단위 테스트
+ */
+@DisplayName("SpaceSavingSketch 테스트")
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("빈도 상위 키 - count 내림차순 정렬")
+    void topK_OrderedByCount() {
+        // Given
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(8);
+
+        // When
+        for (int i = 0; i < 5; i++) sketch.offer("a");
+        for (int i = 0; i < 3; i++) sketch.offer("b");
+        sketch.offer("c");
+
+        // Then
+        List<SpaceSavingSketch.Entry<String>> top = sketch.topK(2);
+        assertThat(top).extracting(SpaceSavingSketch.Entry::key).containsExactly("a", "b");
+        assertThat(top.get(0).count()).isEqualTo(5);
+        assertThat(top.get(0).error()).isZero();
+    }
+
+    @Test
+    @DisplayName("슬롯 초과 - 다수의 단발성 키 속에서도 heavy hitter 유지")
+    void offer_CapacityExceeded_KeepsHeavyHitter() {
+        // Given
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(4);
+
+        // When - 공격 키 100회 + 단발성 키 200종 교차 입력
+        for (int i = 0; i < 200; i++) {
+            if (i % 2 == 0) {
+                sketch.offer("attacker");
+            }
+            sketch.offer("noise-" + i);
+        }
+
+        // Then
+        SpaceSavingSketch.Entry<String> top = sketch.topK(1).get(0);
+        assertThat(top.key()).isEqualTo("attacker");
+        assertThat(top.count() - top.error()).isLessThanOrEqualTo(100);
+        assertThat(top.count()).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("초기화 - 집계 비움")
+    void reset_ClearsEntries() {
+        // Given
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(4);
+        sketch.offer("a");
+
+        // When
+        sketch.reset();
+
+        // Then
+        assertThat(sketch.topK(10)).isEmpty();
+    }
+}
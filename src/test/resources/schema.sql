@@ -6,11 +6,16 @@ CREATE TABLE images (
     image_url VARCHAR(2048) NOT NULL,
     file_size INT,
     original_filename VARCHAR(255),
+    content_hash VARCHAR(64) NULL,
     created_at TIMESTAMP NOT NULL,
-    expires_at TIMESTAMP NULL
+    expires_at TIMESTAMP NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    released_at TIMESTAMP NULL,
+    variants_ready BOOLEAN NOT NULL DEFAULT FALSE
 );
 
-CREATE INDEX idx_images_expires ON images(expires_at);
+CREATE UNIQUE INDEX uq_images_content_hash ON images(content_hash);
+CREATE INDEX idx_images_gc ON images(ref_count, released_at);
 
 -- 유저 테이블
 CREATE TABLE users (
@@ -28,6 +33,7 @@ CREATE TABLE users (
 );
 
 CREATE INDEX idx_users_status ON users(user_status);
+CREATE INDEX idx_users_image ON users(image_id);
 
 -- 게시글 테이블
 CREATE TABLE posts (
@@ -82,6 +88,7 @@ CREATE TABLE post_images (
 );
 
 CREATE UNIQUE INDEX uq_post_images_order ON post_images(post_id, display_order);
+CREATE INDEX idx_post_images_image ON post_images(image_id);
 
 -- 게시글 좋아요 테이블
 CREATE TABLE post_likes (
@@ -110,3 +117,27 @@ CREATE TABLE user_tokens (
 
 CREATE INDEX idx_user_tokens_user ON user_tokens(user_id);
 CREATE INDEX idx_tokens_expires ON user_tokens(expires_at);
+
+-- Rate Limit 공유 Bucket 테이블 (rate-limit.store=jdbc)
+CREATE TABLE rate_limit_buckets (
+    bucket_key VARCHAR(255) PRIMARY KEY,
+    tokens BIGINT NOT NULL,
+    refilled_at BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_rate_limit_refilled ON rate_limit_buckets(refilled_at);
+
+-- 엔티티 ID 구간 할당 테이블 (@TableGenerator, 행은 최초 할당 시 자동 생성)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+-- 배치 작업 진행 위치 (keyset 커서 체크포인트)
+CREATE TABLE batch_checkpoints (
+    job_name VARCHAR(64) PRIMARY KEY,
+    cursor_sort_key TIMESTAMP NOT NULL,
+    cursor_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);